@@ -57,6 +57,8 @@ public final class ZipConstants {
 
 	public static final int MIN_SPLIT_LENGTH = 65536;
 	public static final long ZIP_64_LIMIT = 4294967295L;
+	public static final int ZIP64_ENTRY_LIMIT = 0xFFFF; // entry count limit of end of central directory record
+	public static final int ZIP64_EXTRACT_NEEDED = 45; // version needed to extract of zip64 entries
 
 	public static final int UFT8_NAMES_FLAG = 1 << 11;
 	// Encryption types
@@ -79,9 +81,17 @@ public final class ZipConstants {
 	public static final int EXTHDR = 16; // EXT header size
 	public static final int CENHDR = 46; // CEN header size
 	public static final int ENDHDR = 22; // END header size
+	public static final int ZIP64_LOCHDR = 20; // ZIP64 END locator size
+	public static final int ZIP64_ENDHDR = 56; // ZIP64 END header size
 
 	public static final int BUFFER_SIZE = 1024 * 4;
 	public static final int ZIP64_EXTRA_BUFFER_SIZE = 50;
+	public static final long PARALLEL_ENTRY_SIZE_LIMIT = 32L * 1024 * 1024; // Max entry size compress in worker thread
+	public static final long PARALLEL_BUFFER_LIMIT = 128L * 1024 * 1024; // Max total size of entries compressed in worker threads and not written
+	public static final int AES_KEY_CACHE_SIZE = 64; // Max cached AES derived keys of each zip file
+	public static final int COMPRESSOR_POOL_SIZE = 32; // Max pooled Inflater/Deflater instances
+	public static final int COMPACT_CENTRAL_DIRECTORY_LIMIT = 65536; // Entry count to keep central directory as packed bytes
+	public static final int CENTRAL_DIRECTORY_SEGMENT_SIZE = 16 * 1024 * 1024; // Read segment size of central directory, larger than max header length
 
 	public static final int FILE_MODE_NONE = 0;
 	public static final int FILE_MODE_READ_ONLY = 1;
@@ -17,6 +17,7 @@
 package org.nervousync.commons.core.zip;
 
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.commons.core.Globals;
@@ -86,6 +87,15 @@ public final class ZipOptions implements Cloneable {
 	 * Status of source external stream
 	 */
 	private boolean isSourceExternalStream = Globals.DEFAULT_VALUE_BOOLEAN;
+	/**
+	 * Count of worker threads for compress and encrypt entries, compress in current thread if less than 2
+	 */
+	private int threadCount = 1;
+	/**
+	 * Executor for compress and encrypt entries, used instead of thread count when set.
+	 * The executor was not shut down by zip file, so it can be shared by multiple operations
+	 */
+	private Executor executor = null;
 	
 	/**
 	 * Default Constructor
@@ -360,6 +370,34 @@ public final class ZipOptions implements Cloneable {
 		this.isSourceExternalStream = isSourceExternalStream;
 	}
 	
+	/**
+	 * @return the threadCount
+	 */
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	/**
+	 * @param threadCount the threadCount to set
+	 */
+	public void setThreadCount(int threadCount) {
+		this.threadCount = threadCount;
+	}
+
+	/**
+	 * @return the executor
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * @param executor the executor to set
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+	
 	public Object clone() throws CloneNotSupportedException {
 		return super.clone();
 	}
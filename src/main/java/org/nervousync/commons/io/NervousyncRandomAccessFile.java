@@ -22,7 +22,11 @@ import java.io.DataOutput;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
+import org.nervousync.commons.core.Globals;
 import org.nervousync.utils.FileUtils;
 
 import jcifs.smb.SmbRandomAccessFile;
@@ -333,6 +337,111 @@ public class NervousyncRandomAccessFile implements DataInput, DataOutput, Closea
 		}
 	}
 
+	/**
+	 * Read data from given position, the file pointer will not be changed.
+	 * Local file using positional read of file channel, so it can be called by multiple threads
+	 * @param position	file position
+	 * @param b			read buffer
+	 * @param off		buffer offset
+	 * @param len		read length
+	 * @return			read length or -1 if position reached end of file
+	 * @throws IOException	If read data failed
+	 */
+	public int read(long position, byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (this.originObject instanceof SmbRandomAccessFile) {
+			synchronized (this.originObject) {
+				SmbRandomAccessFile smbRandomAccessFile = (SmbRandomAccessFile)this.originObject;
+				long filePointer = smbRandomAccessFile.getFilePointer();
+				try {
+					smbRandomAccessFile.seek(position);
+					return smbRandomAccessFile.read(b, off, len);
+				} finally {
+					smbRandomAccessFile.seek(filePointer);
+				}
+			}
+		} else {
+			ByteBuffer byteBuffer = ByteBuffer.wrap(b, off, len);
+			long readPosition = position;
+			while (byteBuffer.hasRemaining()) {
+				int readLength = ((RandomAccessFile)this.originObject).getChannel().read(byteBuffer, readPosition);
+				if (readLength < 0) {
+					break;
+				}
+				readPosition += readLength;
+			}
+			int totalRead = len - byteBuffer.remaining();
+			return totalRead == 0 ? -1 : totalRead;
+		}
+	}
+
+	/**
+	 * Transfer bytes from given position of current file to target channel.
+	 * Local file was transferred by FileChannel, data was copied without passing through the Java heap
+	 * @param position	file position
+	 * @param count		transfer length
+	 * @param target	target channel
+	 * @return			transferred length
+	 * @throws IOException	If transfer data failed
+	 */
+	public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+		long totalWrite = 0L;
+		if (this.originObject instanceof SmbRandomAccessFile) {
+			byte[] readBuffer = new byte[(int)Math.min(count, Globals.DEFAULT_BUFFER_SIZE)];
+			while (totalWrite < count) {
+				int readLength = this.read(position + totalWrite, readBuffer, 0,
+						(int)Math.min(count - totalWrite, readBuffer.length));
+				if (readLength <= 0) {
+					break;
+				}
+				ByteBuffer byteBuffer = ByteBuffer.wrap(readBuffer, 0, readLength);
+				while (byteBuffer.hasRemaining()) {
+					target.write(byteBuffer);
+				}
+				totalWrite += readLength;
+			}
+		} else {
+			FileChannel fileChannel = ((RandomAccessFile)this.originObject).getChannel();
+			while (totalWrite < count) {
+				long transferLength = fileChannel.transferTo(position + totalWrite, count - totalWrite, target);
+				if (transferLength <= 0L) {
+					break;
+				}
+				totalWrite += transferLength;
+			}
+		}
+		return totalWrite;
+	}
+
+	/**
+	 * Transfer bytes from given position of current file to current file pointer of target file
+	 * @param position	file position
+	 * @param count		transfer length
+	 * @param target	target file
+	 * @return			transferred length
+	 * @throws IOException	If transfer data failed
+	 */
+	public long transferTo(long position, long count, NervousyncRandomAccessFile target) throws IOException {
+		if (target.originObject instanceof RandomAccessFile) {
+			return this.transferTo(position, count, ((RandomAccessFile)target.originObject).getChannel());
+		}
+		
+		long totalWrite = 0L;
+		byte[] readBuffer = new byte[(int)Math.min(count, Globals.DEFAULT_BUFFER_SIZE)];
+		while (totalWrite < count) {
+			int readLength = this.read(position + totalWrite, readBuffer, 0,
+					(int)Math.min(count - totalWrite, readBuffer.length));
+			if (readLength <= 0) {
+				break;
+			}
+			target.write(readBuffer, 0, readLength);
+			totalWrite += readLength;
+		}
+		return totalWrite;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.io.DataInput#readFully(byte[])
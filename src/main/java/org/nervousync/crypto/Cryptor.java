@@ -18,8 +18,8 @@
 package org.nervousync.crypto;
 
 import org.nervousync.commons.core.Globals;
+import org.nervousync.exceptions.crypto.CryptoException;
 import org.nervousync.utils.ConvertUtils;
-import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.SecurityUtils;
 import org.nervousync.utils.StringUtils;
 import org.slf4j.Logger;
@@ -30,11 +30,28 @@ import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.DESKeySpec;
 import javax.crypto.spec.DESedeKeySpec;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * The type Cryptor.
@@ -45,12 +62,58 @@ public abstract class Cryptor {
      * The constant LOGGER.
      */
     protected static final Logger LOGGER = LoggerFactory.getLogger(Cryptor.class);
+    /**
+     * Initialized Cipher instances of current thread, mapping key is cipher algorithm
+     */
+    private static final ThreadLocal<Map<String, CachedCipher>> CIPHER_CACHE = ThreadLocal.withInitial(HashMap::new);
+    /**
+     * Cipher metrics hook
+     */
+    private static volatile CipherMetrics cipherMetrics = null;
+    /**
+     * Authenticated encryption mode
+     */
+    private static final String GCM_MODE = "GCM";
+    /**
+     * Nonce length of GCM mode
+     */
+    private static final int GCM_NONCE_LENGTH = 12;
+    /**
+     * Authentication tag length of GCM mode, in bits
+     */
+    private static final int GCM_TAG_LENGTH = 128;
+    /**
+     * Cache key suffix of Cipher instance created by JDK provider
+     */
+    private static final String JDK_PROVIDER_SUFFIX = "@JDK";
+    /**
+     * Random generator of GCM nonce
+     */
+    private static final SecureRandom NONCE_RANDOM = new SecureRandom();
+    /**
+     * Segment size of parallel process, must be multiple of cipher block size
+     */
+    private static final int PARALLEL_SEGMENT_SIZE = 4 * 1024 * 1024;
+    /**
+     * Read buffer of stream process
+     */
+    private static final ThreadLocal<byte[]> READ_BUFFER =
+            ThreadLocal.withInitial(() -> new byte[Globals.READ_FILE_BUFFER_SIZE]);
+    /**
+     * Output buffer of stream process, extra space for padding and buffered block
+     */
+    private static final ThreadLocal<byte[]> OUTPUT_BUFFER =
+            ThreadLocal.withInitial(() -> new byte[Globals.READ_FILE_BUFFER_SIZE + 64]);
 
     /**
      * The Cipher mode.
      */
     protected final CipherMode cipherMode;
     private final EncodeType encodeType;
+    /**
+     * Key material of last used key
+     */
+    private volatile KeyMaterial keyMaterial = null;
 
     /**
      * Instantiates a new Cryptor.
@@ -154,11 +217,14 @@ public abstract class Cryptor {
      * @return Encrypted Data
      * @throws NoSuchAlgorithmException the no such algorithm exception
      */
-    protected static byte[] encryptData(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] arrB,
+    protected final byte[] encryptData(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] arrB,
                                         Key key, byte[] keyData, int keySize) throws NoSuchAlgorithmException {
         if (cipherMode == null) {
             throw new NoSuchAlgorithmException("Unknown algorithm! ");
         }
+        if (GCM_MODE.equals(cipherMode.getMode())) {
+            return this.processAEAD(cipherMode, randomAlgorithm, arrB, keyData, keySize, null, Boolean.TRUE);
+        }
         try {
             switch (cipherMode.getAlgorithm()) {
                 case "AES":
@@ -191,6 +257,7 @@ public abstract class Cryptor {
                     throw new NoSuchAlgorithmException("Unknown algorithm! ");
             }
         } catch (Exception e) {
+            Cryptor.removeCipher(cipherMode.toString());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Encrypt data error! ", e);
             }
@@ -210,11 +277,14 @@ public abstract class Cryptor {
      * @return Encrypted Data
      * @throws NoSuchAlgorithmException the no such algorithm exception
      */
-    protected static byte[] decryptData(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] arrB,
+    protected final byte[] decryptData(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] arrB,
                                         Key key, byte[] keyData, int keySize) throws NoSuchAlgorithmException {
         if (cipherMode == null) {
             throw new NoSuchAlgorithmException("Unknown algorithm! ");
         }
+        if (GCM_MODE.equals(cipherMode.getMode())) {
+            return this.processAEAD(cipherMode, randomAlgorithm, arrB, keyData, keySize, null, Boolean.FALSE);
+        }
         try {
             switch (cipherMode.getAlgorithm()) {
                 case "AES":
@@ -245,6 +315,7 @@ public abstract class Cryptor {
                     throw new NoSuchAlgorithmException("Unknown algorithm! ");
             }
         } catch (Exception e) {
+            Cryptor.removeCipher(cipherMode.toString());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Decrypt data error! ", e);
             }
@@ -253,7 +324,336 @@ public abstract class Cryptor {
     }
 
     /**
-     * Initialize Cipher Instance
+     * Encrypt or decrypt data of input stream to output stream by symmetric algorithm.
+     * Data was processed by Cipher.update using fixed size buffers of current thread,
+     * so memory usage was not related to data size. Given streams were not closed.
+     *
+     * @param cipherMode      the cipher mode
+     * @param randomAlgorithm the random algorithm
+     * @param keyData         Given binary key
+     * @param keySize         Key Size
+     * @param encrypt         <code>true</code> for encrypt, <code>false</code> for decrypt
+     * @param inputStream     Input stream
+     * @param outputStream    Output stream
+     * @throws CryptoException Unknown algorithm or process data error
+     */
+    protected final void processStream(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] keyData,
+                                       int keySize, boolean encrypt, InputStream inputStream,
+                                       OutputStream outputStream) throws CryptoException {
+        this.processStream(cipherMode, randomAlgorithm, keyData, keySize, encrypt, null, inputStream, outputStream);
+    }
+
+    /**
+     * Encrypt or decrypt data of input stream to output stream by symmetric algorithm.
+     * Nonce of GCM mode was written before encrypted data and read before decrypt data,
+     * decrypted data must be discarded if CryptoException was thrown, because tag was verified at the end.
+     *
+     * @param cipherMode      the cipher mode
+     * @param randomAlgorithm the random algorithm
+     * @param keyData         Given binary key
+     * @param keySize         Key Size
+     * @param encrypt         <code>true</code> for encrypt, <code>false</code> for decrypt
+     * @param associatedData  Associated data of GCM mode, <code>null</code> if not exists
+     * @param inputStream     Input stream
+     * @param outputStream    Output stream
+     * @throws CryptoException Unknown algorithm or process data error
+     */
+    protected final void processStream(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] keyData,
+                                       int keySize, boolean encrypt, byte[] associatedData, InputStream inputStream,
+                                       OutputStream outputStream) throws CryptoException {
+        if (cipherMode == null) {
+            throw new CryptoException("Unknown algorithm! ");
+        }
+        boolean aeadMode = GCM_MODE.equals(cipherMode.getMode());
+        if (associatedData != null && !aeadMode) {
+            throw new CryptoException("Associated data is only supported by GCM mode! ");
+        }
+        CipherKey cipherKey = Cryptor.symmetricKey(cipherMode, randomAlgorithm, keyData, keySize);
+        int processMode = encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE;
+        String cacheKey = aeadMode
+                ? Cryptor.aeadCacheKey(cipherMode.toString(), processMode, Boolean.TRUE)
+                : cipherMode.toString();
+        try {
+            Cipher cipher;
+            if (aeadMode) {
+                byte[] nonce = Cryptor.streamNonce(encrypt, inputStream, outputStream);
+                cipher = this.initAEADCipher(cipherMode.toString(), processMode, cipherKey, nonce,
+                        associatedData, Boolean.TRUE);
+            } else {
+                cipher = this.initCipher(cipherMode.toString(), processMode, cipherKey);
+            }
+            Cryptor.processCipher(cipher, inputStream, outputStream);
+        } catch (Exception e) {
+            Cryptor.removeCipher(cacheKey);
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * Encrypt or decrypt data of input stream to output stream by GCM mode with one-time data key.
+     * Data key was not cached as key material of cryptor and Cipher instance was not cached by thread,
+     * so nothing of the data key was kept by cryptor after process finished.
+     *
+     * @param cipherMode     the cipher mode, only GCM mode was supported
+     * @param dataKey        one-time data key bytes
+     * @param encrypt        encrypt or decrypt
+     * @param associatedData the associated data
+     * @param inputStream    the input stream
+     * @param outputStream   the output stream
+     * @throws CryptoException the crypto exception
+     */
+    protected final void processOneTimeKeyStream(CipherMode cipherMode, byte[] dataKey, boolean encrypt,
+                                                 byte[] associatedData, InputStream inputStream,
+                                                 OutputStream outputStream) throws CryptoException {
+        if (cipherMode == null || !GCM_MODE.equals(cipherMode.getMode())) {
+            throw new CryptoException("One-time data key is only supported by GCM mode! ");
+        }
+        String algorithm = cipherMode.toString();
+        int processMode = encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE;
+        try {
+            byte[] nonce = Cryptor.streamNonce(encrypt, inputStream, outputStream);
+            Cipher cipher = Cryptor.aeadCacheKey(algorithm, processMode, Boolean.TRUE).equals(algorithm)
+                    ? Cipher.getInstance(algorithm, "BC")
+                    : Cipher.getInstance(algorithm);
+            cipher.init(processMode, new SecretKeySpec(dataKey, cipherMode.getAlgorithm()),
+                    new GCMParameterSpec(GCM_TAG_LENGTH, nonce));
+            if (associatedData != null && associatedData.length > 0) {
+                cipher.updateAAD(associatedData);
+            }
+            Cryptor.processCipher(cipher, inputStream, outputStream);
+        } catch (CryptoException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * Encrypt or decrypt data bytes by GCM mode.
+     * Encrypted data was random nonce followed by cipher text and authentication tag,
+     * so confidentiality and integrity were processed in single pass.
+     *
+     * @param cipherMode      the cipher mode
+     * @param randomAlgorithm the random algorithm
+     * @param dataBytes       Data bytes
+     * @param keyData         Given binary key
+     * @param keySize         Key Size
+     * @param associatedData  Associated data, <code>null</code> if not exists
+     * @param encrypt         <code>true</code> for encrypt, <code>false</code> for decrypt
+     * @return Processed data bytes, or empty byte array if process failed or authenticate failed
+     */
+    protected final byte[] processAEAD(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] dataBytes,
+                                       byte[] keyData, int keySize, byte[] associatedData, boolean encrypt) {
+        try {
+            if (cipherMode == null || !GCM_MODE.equals(cipherMode.getMode())) {
+                throw new CryptoException("Associated data is only supported by GCM mode! ");
+            }
+            CipherKey cipherKey = Cryptor.symmetricKey(cipherMode, randomAlgorithm, keyData, keySize);
+            if (encrypt) {
+                byte[] nonce = Cryptor.generateNonce();
+                Cipher cipher = this.initAEADCipher(cipherMode.toString(), Cipher.ENCRYPT_MODE, cipherKey,
+                        nonce, associatedData, Boolean.FALSE);
+                byte[] outputBytes = new byte[GCM_NONCE_LENGTH + cipher.getOutputSize(dataBytes.length)];
+                System.arraycopy(nonce, 0, outputBytes, 0, GCM_NONCE_LENGTH);
+                //  Process by fixed size chunks, so the intrinsic method of provider can be compiled
+                int outputLength = GCM_NONCE_LENGTH;
+                int position = 0;
+                while (dataBytes.length - position > Globals.READ_FILE_BUFFER_SIZE) {
+                    outputLength += cipher.update(dataBytes, position, Globals.READ_FILE_BUFFER_SIZE,
+                            outputBytes, outputLength);
+                    position += Globals.READ_FILE_BUFFER_SIZE;
+                }
+                outputLength += cipher.doFinal(dataBytes, position, dataBytes.length - position,
+                        outputBytes, outputLength);
+                outputLength -= GCM_NONCE_LENGTH;
+                return (GCM_NONCE_LENGTH + outputLength == outputBytes.length)
+                        ? outputBytes
+                        : Arrays.copyOf(outputBytes, GCM_NONCE_LENGTH + outputLength);
+            }
+            if (dataBytes.length < GCM_NONCE_LENGTH + GCM_TAG_LENGTH / 8) {
+                throw new CryptoException("Invalid data length! ");
+            }
+            Cipher cipher = this.initAEADCipher(cipherMode.toString(), Cipher.DECRYPT_MODE, cipherKey,
+                    Arrays.copyOf(dataBytes, GCM_NONCE_LENGTH), associatedData, Boolean.FALSE);
+            return cipher.doFinal(dataBytes, GCM_NONCE_LENGTH, dataBytes.length - GCM_NONCE_LENGTH);
+        } catch (Exception e) {
+            if (cipherMode != null) {
+                Cryptor.removeCipher(Cryptor.aeadCacheKey(cipherMode.toString(),
+                        encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE, Boolean.FALSE));
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug((encrypt ? "Encrypt" : "Decrypt") + " data error! ", e);
+            }
+        }
+        return new byte[0];
+    }
+
+    /**
+     * Encrypt or decrypt data bytes by CTR mode in parallel.
+     * Data was split into counter aligned segments, every segment was processed by own Cipher instance
+     * in common ForkJoin pool, the result is same as sequential process.
+     * Data was processed sequential if cipher mode is not CTR or data length less than two segments.
+     *
+     * @param cipherMode      the cipher mode
+     * @param randomAlgorithm the random algorithm
+     * @param dataBytes       Data bytes
+     * @param keyData         Given binary key
+     * @param keySize         Key Size
+     * @param encrypt         <code>true</code> for encrypt, <code>false</code> for decrypt
+     * @return Processed data bytes
+     */
+    protected final byte[] processParallel(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, byte[] dataBytes,
+                                           byte[] keyData, int keySize, boolean encrypt) {
+        try {
+            if (cipherMode == null || !"CTR".equals(cipherMode.getMode())
+                    || dataBytes.length < 2L * PARALLEL_SEGMENT_SIZE) {
+                return encrypt
+                        ? this.encryptData(cipherMode, randomAlgorithm, dataBytes, null, keyData, keySize)
+                        : this.decryptData(cipherMode, randomAlgorithm, dataBytes, null, keyData, keySize);
+            }
+            CipherKey cipherKey = Cryptor.symmetricKey(cipherMode, randomAlgorithm, keyData, keySize);
+            KeyMaterial keyMaterial = this.keyMaterial(cipherMode.toString(), cipherKey);
+            //  Extra space for padding block
+            byte[] outputBytes = new byte[dataBytes.length + 32];
+            CTRSegmentTask segmentTask = new CTRSegmentTask(cipherMode, keyMaterial,
+                    encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE, dataBytes.length);
+            segmentTask.dataBytes = dataBytes;
+            segmentTask.outputBytes = outputBytes;
+            long outputLength = ForkJoinPool.commonPool().invoke(segmentTask);
+            return outputLength == outputBytes.length ? outputBytes : Arrays.copyOf(outputBytes, (int) outputLength);
+        } catch (Exception e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug((encrypt ? "Encrypt" : "Decrypt") + " data error! ", e);
+            }
+        }
+        return new byte[0];
+    }
+
+    /**
+     * Encrypt or decrypt source file to target file by CTR mode in parallel.
+     * File was split into counter aligned segments, every segment was read, processed and written
+     * at the same position by own Cipher instance in common ForkJoin pool, the result is same as sequential process.
+     * File was processed sequential if cipher mode is not CTR or file size less than two segments.
+     * Source file and target file must be different files.
+     *
+     * @param cipherMode      the cipher mode
+     * @param randomAlgorithm the random algorithm
+     * @param sourcePath      Source file path
+     * @param targetPath      Target file path
+     * @param keyData         Given binary key
+     * @param keySize         Key Size
+     * @param encrypt         <code>true</code> for encrypt, <code>false</code> for decrypt
+     * @throws CryptoException Unknown algorithm or process data error
+     */
+    protected final void processParallel(CipherMode cipherMode, RandomAlgorithm randomAlgorithm, Path sourcePath,
+                                         Path targetPath, byte[] keyData, int keySize, boolean encrypt)
+            throws CryptoException {
+        try {
+            //  Target file was truncated when opened, so source file must not be the target file
+            if (Files.exists(targetPath) && Files.isSameFile(sourcePath, targetPath)) {
+                throw new CryptoException("Source file and target file are the same file! ");
+            }
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        }
+        try (FileChannel sourceChannel = FileChannel.open(sourcePath, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(targetPath, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long fileSize = sourceChannel.size();
+            if (cipherMode == null || !"CTR".equals(cipherMode.getMode()) || fileSize < 2L * PARALLEL_SEGMENT_SIZE) {
+                this.processStream(cipherMode, randomAlgorithm, keyData, keySize, encrypt,
+                        Channels.newInputStream(sourceChannel), Channels.newOutputStream(targetChannel));
+                return;
+            }
+            CipherKey cipherKey = Cryptor.symmetricKey(cipherMode, randomAlgorithm, keyData, keySize);
+            KeyMaterial keyMaterial = this.keyMaterial(cipherMode.toString(), cipherKey);
+            CTRSegmentTask segmentTask = new CTRSegmentTask(cipherMode, keyMaterial,
+                    encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE, fileSize);
+            segmentTask.sourceChannel = sourceChannel;
+            segmentTask.targetChannel = targetChannel;
+            long outputLength = ForkJoinPool.commonPool().invoke(segmentTask);
+            targetChannel.truncate(outputLength);
+        } catch (CryptoException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * Process source file and write result to target file through temporary file in the directory of target file.
+     * Temporary file was moved to target path after processor finished, and was deleted if processor failed,
+     * so data of failed process, e.g. unauthenticated plain text of GCM mode, was never left in target file.
+     *
+     * @param sourcePath    Source file path
+     * @param targetPath    Target file path
+     * @param fileProcessor Processor of source stream and target stream
+     * @throws CryptoException Process data error or read/write file error
+     */
+    protected static void processFile(Path sourcePath, Path targetPath, FileProcessor fileProcessor)
+            throws CryptoException {
+        Path tempPath = null;
+        try {
+            Path absolutePath = targetPath.toAbsolutePath();
+            tempPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+            try (InputStream inputStream = Files.newInputStream(sourcePath);
+                 OutputStream outputStream = Files.newOutputStream(tempPath)) {
+                fileProcessor.process(inputStream, outputStream);
+            }
+            try {
+                Files.move(tempPath, absolutePath,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempPath = null;
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        } finally {
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException e) {
+                    LOGGER.warn("Delete temporary file error! ");
+                }
+            }
+        }
+    }
+
+    /**
+     * Register cipher metrics hook, the hook receives time of generate key and initialize cipher.
+     * Set to <code>null</code> to disable metrics.
+     *
+     * @param cipherMetrics the cipher metrics hook
+     */
+    public static void registerMetrics(CipherMetrics cipherMetrics) {
+        Cryptor.cipherMetrics = cipherMetrics;
+    }
+
+    /**
+     * Remove cached Cipher instances and wipe process buffers of current thread.
+     * Cipher instances and buffers were cached by thread, call this method before a pooled thread was
+     * returned to pool, so no key or data was kept alive by the thread.
+     */
+    public static void clearCache() {
+        CIPHER_CACHE.remove();
+        Arrays.fill(READ_BUFFER.get(), (byte) 0);
+        READ_BUFFER.remove();
+        Arrays.fill(OUTPUT_BUFFER.get(), (byte) 0);
+        OUTPUT_BUFFER.remove();
+    }
+
+    /**
+     * Release key material of last used key, key material was generated again by next process
+     */
+    public final void clearKey() {
+        this.keyMaterial = null;
+    }
+
+    /**
+     * Initialize Cipher Instance.
+     * Key material was generated once and cached by current cryptor until the key content changed,
+     * initialized Cipher instance was cached by current thread and reused if the mode and key were not changed.
      *
      * @param algorithm  Algorithm
      * @param cipherMode Cipher Mode
@@ -262,9 +662,249 @@ public abstract class Cryptor {
      * @throws GeneralSecurityException the general security exception
      * @throws InvalidKeyException      If RSA Key invalid
      */
-    protected static Cipher initCipher(String algorithm, int cipherMode, CipherKey cipherKey)
+    private Cipher initCipher(String algorithm, int cipherMode, CipherKey cipherKey)
             throws GeneralSecurityException, InvalidKeyException {
-        long currentTime = DateTimeUtils.currentUTCTimeMillis();
+        long beginTime = System.nanoTime();
+        KeyMaterial keyMaterial = this.keyMaterial(algorithm, cipherKey);
+        long generateTime = System.nanoTime() - beginTime;
+
+        Map<String, CachedCipher> cipherMap = CIPHER_CACHE.get();
+        CachedCipher cachedCipher = cipherMap.get(algorithm);
+        if (cachedCipher == null) {
+            cachedCipher = new CachedCipher(Cipher.getInstance(algorithm, "BC"));
+            cipherMap.put(algorithm, cachedCipher);
+        }
+        if (cachedCipher.cipherMode != cipherMode || cachedCipher.keyMaterial != keyMaterial) {
+            //  Clear status first, cached cipher can not be used if initialize failed
+            cachedCipher.keyMaterial = null;
+            cachedCipher.cipher.init(cipherMode, keyMaterial.key, keyMaterial.ivParameterSpec);
+            cachedCipher.cipherMode = cipherMode;
+            cachedCipher.keyMaterial = keyMaterial;
+        }
+
+        CipherMetrics metrics = Cryptor.cipherMetrics;
+        if (metrics != null) {
+            metrics.record(algorithm, generateTime, System.nanoTime() - beginTime - generateTime);
+        }
+        return cachedCipher.cipher;
+    }
+
+    /**
+     * Retrieve key material of given cipher key, cached key material was used if key was not changed
+     *
+     * @param algorithm  Algorithm
+     * @param cipherKey  CipherKey Instance
+     * @return Key material
+     * @throws GeneralSecurityException the general security exception
+     */
+    private KeyMaterial keyMaterial(String algorithm, CipherKey cipherKey) throws GeneralSecurityException {
+        KeyMaterial keyMaterial = this.keyMaterial;
+        if (keyMaterial == null || !keyMaterial.match(algorithm, cipherKey)) {
+            keyMaterial = Cryptor.generateKeyMaterial(algorithm, cipherKey);
+            this.keyMaterial = keyMaterial;
+        }
+        return keyMaterial;
+    }
+
+    /**
+     * Generate CipherKey Instance of symmetric algorithm
+     *
+     * @param cipherMode      the cipher mode
+     * @param randomAlgorithm the random algorithm
+     * @param keyData         Given binary key
+     * @param keySize         Key Size
+     * @return CipherKey Instance
+     * @throws CryptoException Unknown algorithm or not symmetric algorithm
+     */
+    private static CipherKey symmetricKey(CipherMode cipherMode, RandomAlgorithm randomAlgorithm,
+                                          byte[] keyData, int keySize) throws CryptoException {
+        if (cipherMode == null) {
+            throw new CryptoException("Unknown algorithm! ");
+        }
+        switch (cipherMode.getAlgorithm()) {
+            case "AES":
+                return AESKey(keyData, randomAlgorithm, keySize);
+            case "DES":
+            case "DESede":
+                return DESKey(keyData);
+            case "SM4":
+                return SM4Key(keyData, randomAlgorithm);
+            default:
+                throw new CryptoException("Not symmetric algorithm: " + cipherMode.getAlgorithm());
+        }
+    }
+
+    /**
+     * Initialize Cipher instance for CTR segment, counter was increased by block index.
+     * IV shorter than block size was padded with zero bytes, same as counter block of CTR mode.
+     *
+     * @param algorithm   Algorithm
+     * @param cipherMode  Cipher Mode
+     * @param keyMaterial Key material
+     * @param position    Data position of segment begin, must be multiple of block size
+     * @return Cipher Instance
+     * @throws GeneralSecurityException the general security exception
+     */
+    private static Cipher segmentCipher(String algorithm, int cipherMode, KeyMaterial keyMaterial, long position)
+            throws GeneralSecurityException {
+        //  Not cached by thread, so no key was left in threads of common pool
+        Cipher cipher = Cipher.getInstance(algorithm, "BC");
+        int blockSize = cipher.getBlockSize();
+        byte[] counter = Arrays.copyOf(keyMaterial.ivParameterSpec.getIV(), blockSize);
+        long carry = position / blockSize;
+        for (int i = counter.length - 1 ; i >= 0 && carry != 0L ; i--) {
+            long sum = (counter[i] & 0xFFL) + (carry & 0xFFL);
+            counter[i] = (byte) sum;
+            carry = (carry >>> 8) + (sum >>> 8);
+        }
+        cipher.init(cipherMode, keyMaterial.key, new IvParameterSpec(counter));
+        return cipher;
+    }
+
+    /**
+     * Initialize Cipher Instance of GCM mode by given nonce, Cipher instance was cached by current thread,
+     * but always initialized because nonce must not be reused.
+     * AES was processed by JDK provider which using hardware acceleration, except stream decrypt,
+     * because JDK provider buffers all data until tag verified.
+     *
+     * @param algorithm      Algorithm
+     * @param cipherMode     Cipher Mode
+     * @param cipherKey      CipherKey Instance
+     * @param nonce          Nonce bytes
+     * @param associatedData Associated data, <code>null</code> if not exists
+     * @param streamMode     Process stream data
+     * @return Cipher Instance
+     * @throws GeneralSecurityException the general security exception
+     */
+    private Cipher initAEADCipher(String algorithm, int cipherMode, CipherKey cipherKey, byte[] nonce,
+                                  byte[] associatedData, boolean streamMode) throws GeneralSecurityException {
+        long beginTime = System.nanoTime();
+        KeyMaterial keyMaterial = this.keyMaterial(algorithm, cipherKey);
+        long generateTime = System.nanoTime() - beginTime;
+
+        String cacheKey = Cryptor.aeadCacheKey(algorithm, cipherMode, streamMode);
+        boolean jdkProvider = !cacheKey.equals(algorithm);
+        Map<String, CachedCipher> cipherMap = CIPHER_CACHE.get();
+        CachedCipher cachedCipher = cipherMap.get(cacheKey);
+        if (cachedCipher == null) {
+            cachedCipher = new CachedCipher(jdkProvider
+                    ? Cipher.getInstance(algorithm)
+                    : Cipher.getInstance(algorithm, "BC"));
+            cipherMap.put(cacheKey, cachedCipher);
+        }
+        cachedCipher.keyMaterial = null;
+        cachedCipher.cipher.init(cipherMode, keyMaterial.key, new GCMParameterSpec(GCM_TAG_LENGTH, nonce));
+        if (associatedData != null && associatedData.length > 0) {
+            cachedCipher.cipher.updateAAD(associatedData);
+        }
+
+        CipherMetrics metrics = Cryptor.cipherMetrics;
+        if (metrics != null) {
+            metrics.record(algorithm, generateTime, System.nanoTime() - beginTime - generateTime);
+        }
+        return cachedCipher.cipher;
+    }
+
+    /**
+     * Write random nonce to output stream when encrypt, or read nonce from input stream when decrypt
+     *
+     * @param encrypt      encrypt or decrypt
+     * @param inputStream  the input stream
+     * @param outputStream the output stream
+     * @return Nonce bytes
+     * @throws IOException     read or write stream error
+     * @throws CryptoException Nonce not found
+     */
+    private static byte[] streamNonce(boolean encrypt, InputStream inputStream, OutputStream outputStream)
+            throws IOException, CryptoException {
+        if (encrypt) {
+            byte[] nonce = Cryptor.generateNonce();
+            outputStream.write(nonce);
+            return nonce;
+        }
+        byte[] nonce = inputStream.readNBytes(GCM_NONCE_LENGTH);
+        if (nonce.length != GCM_NONCE_LENGTH) {
+            throw new CryptoException("Nonce not found! ");
+        }
+        return nonce;
+    }
+
+    /**
+     * Process data of input stream by initialized Cipher instance and write result to output stream
+     *
+     * @param cipher       Initialized Cipher instance
+     * @param inputStream  the input stream
+     * @param outputStream the output stream
+     * @throws IOException              read or write stream error
+     * @throws GeneralSecurityException process data error
+     */
+    private static void processCipher(Cipher cipher, InputStream inputStream, OutputStream outputStream)
+            throws IOException, GeneralSecurityException {
+        byte[] readBuffer = READ_BUFFER.get();
+        byte[] outputBuffer = OUTPUT_BUFFER.get();
+        int outputSize = cipher.getOutputSize(readBuffer.length);
+        if (outputBuffer.length < outputSize) {
+            outputBuffer = new byte[outputSize];
+        }
+        int readLength;
+        while ((readLength = inputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
+            int length = cipher.update(readBuffer, 0, readLength, outputBuffer, 0);
+            if (length > 0) {
+                outputStream.write(outputBuffer, 0, length);
+            }
+        }
+        int length = cipher.doFinal(outputBuffer, 0);
+        if (length > 0) {
+            outputStream.write(outputBuffer, 0, length);
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Cache key of GCM mode Cipher instance, Cipher instance of JDK provider was cached by suffixed key
+     *
+     * @param algorithm  Algorithm
+     * @param cipherMode Cipher Mode
+     * @param streamMode Process stream data
+     * @return Cache key
+     */
+    private static String aeadCacheKey(String algorithm, int cipherMode, boolean streamMode) {
+        if (algorithm.startsWith("AES") && !(streamMode && cipherMode == Cipher.DECRYPT_MODE)) {
+            return algorithm + JDK_PROVIDER_SUFFIX;
+        }
+        return algorithm;
+    }
+
+    /**
+     * Generate random nonce of GCM mode
+     *
+     * @return Nonce bytes
+     */
+    private static byte[] generateNonce() {
+        byte[] nonce = new byte[GCM_NONCE_LENGTH];
+        NONCE_RANDOM.nextBytes(nonce);
+        return nonce;
+    }
+
+    /**
+     * Remove cached Cipher instance of current thread, cipher status was unknown after process error
+     *
+     * @param algorithm  Algorithm
+     */
+    private static void removeCipher(String algorithm) {
+        CIPHER_CACHE.get().remove(algorithm);
+    }
+
+    /**
+     * Generate key and IV parameter by given cipher key
+     *
+     * @param algorithm  Algorithm
+     * @param cipherKey  CipherKey Instance
+     * @return Key material
+     * @throws GeneralSecurityException the general security exception
+     */
+    private static KeyMaterial generateKeyMaterial(String algorithm, CipherKey cipherKey)
+            throws GeneralSecurityException {
         IvParameterSpec ivParameterSpec = null;
         byte[] keyContent = cipherKey.getKeyContent();
         byte[] ivContent = new byte[0];
@@ -298,11 +938,19 @@ public abstract class Cryptor {
                 ivContent = new byte[8];
             }
         } else if (algorithm.startsWith("SM4")) {
-            KeyGenerator keyGenerator = KeyGenerator.getInstance("SM4", "BC");
-            SecureRandom secureRandom = SecureRandom.getInstance(cipherKey.getRandomAlgorithm().getAlgorithm());
-            secureRandom.setSeed(keyContent);
-            keyGenerator.init(cipherKey.getKeySize(), secureRandom);
-            key = keyGenerator.generateKey();
+            if (RandomAlgorithm.NONE.equals(cipherKey.getRandomAlgorithm())) {
+                //  Raw key bytes were used without derivation
+                if (keyContent.length * 8 != cipherKey.getKeySize()) {
+                    throw new InvalidKeyException("Invalid SM4 key length: " + keyContent.length);
+                }
+                key = new SecretKeySpec(keyContent, "SM4");
+            } else {
+                KeyGenerator keyGenerator = KeyGenerator.getInstance("SM4", "BC");
+                SecureRandom secureRandom = SecureRandom.getInstance(cipherKey.getRandomAlgorithm().getAlgorithm());
+                secureRandom.setSeed(keyContent);
+                keyGenerator.init(cipherKey.getKeySize(), secureRandom);
+                key = keyGenerator.generateKey();
+            }
             if (!algorithm.startsWith("SM4/ECB")) {
                 ivContent = new byte[8];
             }
@@ -316,18 +964,204 @@ public abstract class Cryptor {
             ivParameterSpec = new IvParameterSpec(ivContent);
         }
 
-        long generateTime = DateTimeUtils.currentUTCTimeMillis() - currentTime;
+        return new KeyMaterial(algorithm, cipherKey, key, ivParameterSpec);
+    }
 
-        Cipher cipher = Cipher.getInstance(algorithm, "BC");
-        cipher.init(cipherMode, key, ivParameterSpec);
+    /**
+     * Cipher metrics hook
+     */
+    @FunctionalInterface
+    public interface CipherMetrics {
 
-        long initTime = DateTimeUtils.currentUTCTimeMillis() - currentTime - generateTime;
+        /**
+         * Record time of initialize cipher
+         *
+         * @param algorithm    Cipher algorithm
+         * @param generateTime Time of generate key material in nanoseconds, almost zero if cached key was used
+         * @param initTime     Time of initialize cipher in nanoseconds, almost zero if cached cipher was used
+         */
+        void record(String algorithm, long generateTime, long initTime);
+    }
 
-        long usedTime = DateTimeUtils.currentUTCTimeMillis() - currentTime;
-        if (usedTime > 500) {
-            System.out.println("Used time: " + usedTime + ":" + generateTime + ":" + initTime);
+    /**
+     * Processor of file streams, used by processFile
+     */
+    @FunctionalInterface
+    protected interface FileProcessor {
+
+        /**
+         * Process data of input stream and write to output stream, given streams were closed by caller
+         *
+         * @param inputStream  the input stream of source file
+         * @param outputStream the output stream of temporary file
+         * @throws CryptoException the crypto exception
+         */
+        void process(InputStream inputStream, OutputStream outputStream) throws CryptoException;
+    }
+
+    /**
+     * ForkJoin task of process CTR segments.
+     * Segments were split into two halves until only one segment left, segments except the last one were
+     * processed by NoPadding transformation, the last segment was processed by given transformation,
+     * so padding was only applied to the end of data. Task result is the output length.
+     */
+    private static final class CTRSegmentTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 4470562279621406128L;
+
+        //  Cipher mode
+        private final CipherMode cipherMode;
+        //  Key material
+        private final KeyMaterial keyMaterial;
+        //  Encrypt or decrypt mode
+        private final int processMode;
+        //  Total data length
+        private final long dataLength;
+        //  Begin segment index
+        private final long beginSegment;
+        //  End segment index
+        private final long endSegment;
+        //  Source data bytes and output bytes, using for process data bytes
+        private byte[] dataBytes = null;
+        private byte[] outputBytes = null;
+        //  Source channel and target channel, using for process file
+        private FileChannel sourceChannel = null;
+        private FileChannel targetChannel = null;
+
+        CTRSegmentTask(CipherMode cipherMode, KeyMaterial keyMaterial, int processMode, long dataLength) {
+            this(cipherMode, keyMaterial, processMode, dataLength,
+                    0L, (dataLength + PARALLEL_SEGMENT_SIZE - 1) / PARALLEL_SEGMENT_SIZE);
+        }
+
+        private CTRSegmentTask(CipherMode cipherMode, KeyMaterial keyMaterial, int processMode, long dataLength,
+                               long beginSegment, long endSegment) {
+            this.cipherMode = cipherMode;
+            this.keyMaterial = keyMaterial;
+            this.processMode = processMode;
+            this.dataLength = dataLength;
+            this.beginSegment = beginSegment;
+            this.endSegment = endSegment;
+        }
+
+        @Override
+        protected Long compute() {
+            if (this.endSegment - this.beginSegment > 1L) {
+                long middleSegment = this.beginSegment + (this.endSegment - this.beginSegment) / 2;
+                CTRSegmentTask beginTask = this.subTask(this.beginSegment, middleSegment);
+                CTRSegmentTask endTask = this.subTask(middleSegment, this.endSegment);
+                beginTask.fork();
+                long outputLength = endTask.compute();
+                beginTask.join();
+                return outputLength;
+            }
+
+            long position = this.beginSegment * PARALLEL_SEGMENT_SIZE;
+            int length = (int) Math.min(PARALLEL_SEGMENT_SIZE, this.dataLength - position);
+            boolean lastSegment = (position + length == this.dataLength);
+            String algorithm = lastSegment
+                    ? this.cipherMode.toString()
+                    : String.join("/", this.cipherMode.getAlgorithm(), this.cipherMode.getMode(), "NoPadding");
+            try {
+                Cipher cipher = Cryptor.segmentCipher(algorithm, this.processMode, this.keyMaterial, position);
+                int outputLength;
+                if (this.dataBytes != null) {
+                    outputLength = cipher.doFinal(this.dataBytes, (int) position, length,
+                            this.outputBytes, (int) position);
+                } else {
+                    ByteBuffer dataBuffer = ByteBuffer.allocate(length);
+                    while (dataBuffer.hasRemaining()) {
+                        if (this.sourceChannel.read(dataBuffer, position + dataBuffer.position())
+                                == Globals.DEFAULT_VALUE_INT) {
+                            throw new CryptoException("Unexpected end of file! ");
+                        }
+                    }
+                    dataBuffer.flip();
+                    ByteBuffer outputBuffer = ByteBuffer.allocate(cipher.getOutputSize(length));
+                    outputLength = cipher.doFinal(dataBuffer, outputBuffer);
+                    outputBuffer.flip();
+                    while (outputBuffer.hasRemaining()) {
+                        this.targetChannel.write(outputBuffer, position + outputBuffer.position());
+                    }
+                }
+                return position + outputLength;
+            } catch (CryptoException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CryptoException(e);
+            }
+        }
+
+        private CTRSegmentTask subTask(long beginSegment, long endSegment) {
+            CTRSegmentTask segmentTask = new CTRSegmentTask(this.cipherMode, this.keyMaterial, this.processMode,
+                    this.dataLength, beginSegment, endSegment);
+            segmentTask.dataBytes = this.dataBytes;
+            segmentTask.outputBytes = this.outputBytes;
+            segmentTask.sourceChannel = this.sourceChannel;
+            segmentTask.targetChannel = this.targetChannel;
+            return segmentTask;
+        }
+    }
+
+    /**
+     * Key material generated by cipher key
+     */
+    private static final class KeyMaterial {
+
+        //  Cipher algorithm
+        private final String algorithm;
+        //  RSA key(PublicKey or PrivateKey)
+        private final Key rsaKey;
+        //  Copy of key content
+        private final byte[] keyContent;
+        //  PRNG Algorithm
+        private final RandomAlgorithm randomAlgorithm;
+        //  Key Size
+        private final int keySize;
+        //  Generated key
+        private final Key key;
+        //  Generated IV parameter
+        private final IvParameterSpec ivParameterSpec;
+
+        private KeyMaterial(String algorithm, CipherKey cipherKey, Key key, IvParameterSpec ivParameterSpec) {
+            this.algorithm = algorithm;
+            this.rsaKey = cipherKey.getRsaKey();
+            this.keyContent = cipherKey.getKeyContent().clone();
+            this.randomAlgorithm = cipherKey.getRandomAlgorithm();
+            this.keySize = cipherKey.getKeySize();
+            this.key = key;
+            this.ivParameterSpec = ivParameterSpec;
+        }
+
+        /**
+         * Check current key material was generated by given algorithm and cipher key
+         *
+         * @param algorithm  Algorithm
+         * @param cipherKey  CipherKey Instance
+         * @return Match result
+         */
+        private boolean match(String algorithm, CipherKey cipherKey) {
+            return this.algorithm.equals(algorithm) && this.rsaKey == cipherKey.getRsaKey()
+                    && this.randomAlgorithm == cipherKey.getRandomAlgorithm()
+                    && this.keySize == cipherKey.getKeySize()
+                    && MessageDigest.isEqual(this.keyContent, cipherKey.getKeyContent());
+        }
+    }
+
+    /**
+     * Cipher instance cached by thread
+     */
+    private static final class CachedCipher {
+
+        //  Cipher instance
+        private final Cipher cipher;
+        //  Initialized cipher mode
+        private int cipherMode = Globals.DEFAULT_VALUE_INT;
+        //  Initialized key material
+        private KeyMaterial keyMaterial = null;
+
+        private CachedCipher(Cipher cipher) {
+            this.cipher = cipher;
         }
-        return cipher;
     }
 
     /**
@@ -361,6 +1195,24 @@ public abstract class Cryptor {
             return algorithm;
         }
 
+        /**
+         * Gets mode.
+         *
+         * @return the mode
+         */
+        public String getMode() {
+            return mode;
+        }
+
+        /**
+         * Gets padding.
+         *
+         * @return the padding
+         */
+        public String getPadding() {
+            return padding;
+        }
+
         public String toString() {
             return String.join("/", this.algorithm, this.mode, this.padding);
         }
@@ -28,15 +28,21 @@ import org.bouncycastle.operator.OperatorCreationException;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.nervousync.commons.core.Globals;
 import org.nervousync.crypto.Cryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
 import org.nervousync.utils.FileUtils;
 import org.nervousync.utils.IOUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
@@ -44,6 +50,7 @@ import java.security.spec.ECGenParameterSpec;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Optional;
 
@@ -52,6 +59,31 @@ import java.util.Optional;
  */
 public abstract class AsymmetricCryptor extends Cryptor {
 
+    /**
+     * Magic bytes of envelope header
+     */
+    private static final byte[] ENVELOPE_MAGIC = {'N', 'S', 'E', 'V'};
+    /**
+     * Envelope format version
+     */
+    private static final byte ENVELOPE_VERSION = 1;
+    /**
+     * Envelope data algorithm: AES-256 in GCM mode
+     */
+    private static final byte ENVELOPE_AES = 1;
+    /**
+     * Envelope data algorithm: SM4 in GCM mode
+     */
+    private static final byte ENVELOPE_SM4 = 2;
+    /**
+     * Length of envelope header before wrapped data key: magic, version, data algorithm and wrapped key length
+     */
+    private static final int ENVELOPE_HEADER_LENGTH = ENVELOPE_MAGIC.length + 4;
+    /**
+     * Random generator of data key
+     */
+    private static final SecureRandom DATA_KEY_RANDOM = new SecureRandom();
+
     /**
      * The Public key.
      */
@@ -292,13 +324,163 @@ public abstract class AsymmetricCryptor extends Cryptor {
      */
     public final byte[] decrypt(byte[] dataBytes) {
         try {
-            return decryptData(this.cipherMode, RandomAlgorithm.NONE,
+            byte[] decrypted = decryptData(this.cipherMode, RandomAlgorithm.NONE,
                     this.parseResult(dataBytes), this.privateKey, new byte[0], Globals.DEFAULT_VALUE_INT);
+            if (decrypted.length == 0) {
+                //  Retry with the layout of data encrypted by earlier version
+                byte[] legacyBytes = this.parseLegacyResult(dataBytes);
+                if (legacyBytes != null) {
+                    decrypted = decryptData(this.cipherMode, RandomAlgorithm.NONE,
+                            legacyBytes, this.privateKey, new byte[0], Globals.DEFAULT_VALUE_INT);
+                }
+            }
+            return decrypted;
         } catch (NoSuchAlgorithmException e) {
             return new byte[0];
         }
     }
 
+    /**
+     * Encrypt data bytes by envelope mode.
+     *
+     * @param dataBytes the data bytes
+     * @return the envelope bytes
+     * @throws CryptoException the crypto exception
+     * @see #envelopeEncrypt(InputStream, OutputStream)
+     */
+    public final byte[] envelopeEncrypt(byte[] dataBytes) throws CryptoException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(dataBytes.length + 1024);
+        this.envelopeEncrypt(new ByteArrayInputStream(dataBytes), outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Decrypt envelope bytes.
+     *
+     * @param dataBytes the envelope bytes
+     * @return the data bytes
+     * @throws CryptoException the crypto exception
+     * @see #envelopeDecrypt(InputStream, OutputStream)
+     */
+    public final byte[] envelopeDecrypt(byte[] dataBytes) throws CryptoException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(dataBytes.length);
+        this.envelopeDecrypt(new ByteArrayInputStream(dataBytes), outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encrypt data of input stream by envelope mode and write to output stream, given streams were not closed.
+     * Random data key was wrapped by public key, data was processed by data key in GCM mode,
+     * SM4 was used for SM2 and AES-256 was used for others.
+     * Envelope format: magic "NSEV", version, data algorithm, wrapped key length (2 bytes), wrapped key,
+     * nonce, cipher text and tag, header bytes before nonce were authenticated as associated data.
+     * Data key was used as raw key bytes, and wrapped key was kept in the output layout of provider.
+     *
+     * @param inputStream  the input stream
+     * @param outputStream the output stream
+     * @throws CryptoException the crypto exception
+     */
+    public final void envelopeEncrypt(InputStream inputStream, OutputStream outputStream) throws CryptoException {
+        byte dataAlgorithm = "SM2".equals(this.cipherMode.getAlgorithm()) ? ENVELOPE_SM4 : ENVELOPE_AES;
+        byte[] dataKey = new byte[AsymmetricCryptor.dataKeyLength(dataAlgorithm)];
+        try {
+            DATA_KEY_RANDOM.nextBytes(dataKey);
+            byte[] wrappedKey = this.wrapKey(dataKey, Boolean.TRUE);
+            if (wrappedKey.length == 0 || wrappedKey.length > 0xFFFF) {
+                throw new CryptoException("Wrap data key error! ");
+            }
+            byte[] headerBytes = ByteBuffer.allocate(ENVELOPE_HEADER_LENGTH + wrappedKey.length)
+                    .put(ENVELOPE_MAGIC)
+                    .put(ENVELOPE_VERSION)
+                    .put(dataAlgorithm)
+                    .putShort((short) wrappedKey.length)
+                    .put(wrappedKey)
+                    .array();
+            outputStream.write(headerBytes);
+            this.processOneTimeKeyStream(AsymmetricCryptor.dataCipherMode(dataAlgorithm), dataKey,
+                    Boolean.TRUE, headerBytes, inputStream, outputStream);
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        } finally {
+            Arrays.fill(dataKey, (byte) 0);
+        }
+    }
+
+    /**
+     * Decrypt envelope data of input stream and write to output stream, given streams were not closed.
+     * Decrypted data must be discarded if CryptoException was thrown, because tag was verified at the end.
+     *
+     * @param inputStream  the input stream
+     * @param outputStream the output stream
+     * @throws CryptoException the crypto exception
+     */
+    public final void envelopeDecrypt(InputStream inputStream, OutputStream outputStream) throws CryptoException {
+        byte[] headerBytes;
+        try {
+            byte[] readBytes = inputStream.readNBytes(ENVELOPE_HEADER_LENGTH);
+            if (readBytes.length != ENVELOPE_HEADER_LENGTH
+                    || !Arrays.equals(readBytes, 0, ENVELOPE_MAGIC.length, ENVELOPE_MAGIC, 0, ENVELOPE_MAGIC.length)
+                    || readBytes[ENVELOPE_MAGIC.length] != ENVELOPE_VERSION) {
+                throw new CryptoException("Invalid envelope header! ");
+            }
+            int wrappedLength = ByteBuffer.wrap(readBytes, ENVELOPE_HEADER_LENGTH - 2, 2).getShort() & 0xFFFF;
+            headerBytes = Arrays.copyOf(readBytes, ENVELOPE_HEADER_LENGTH + wrappedLength);
+            if (inputStream.readNBytes(headerBytes, ENVELOPE_HEADER_LENGTH, wrappedLength) != wrappedLength) {
+                throw new CryptoException("Wrapped data key not found! ");
+            }
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        }
+        byte dataAlgorithm = headerBytes[ENVELOPE_MAGIC.length + 1];
+        int keyLength = AsymmetricCryptor.dataKeyLength(dataAlgorithm);
+        byte[] unwrappedKey =
+                this.wrapKey(Arrays.copyOfRange(headerBytes, ENVELOPE_HEADER_LENGTH, headerBytes.length), Boolean.FALSE);
+        byte[] dataKey = unwrappedKey;
+        try {
+            if (unwrappedKey.length > keyLength) {
+                //  Decrypted block of RSA without padding was prefixed by zero bytes
+                dataKey = Arrays.copyOfRange(unwrappedKey, unwrappedKey.length - keyLength, unwrappedKey.length);
+            }
+            if (dataKey.length != keyLength) {
+                throw new CryptoException("Unwrap data key error! ");
+            }
+            this.processOneTimeKeyStream(AsymmetricCryptor.dataCipherMode(dataAlgorithm), dataKey,
+                    Boolean.FALSE, headerBytes, inputStream, outputStream);
+        } finally {
+            Arrays.fill(unwrappedKey, (byte) 0);
+            Arrays.fill(dataKey, (byte) 0);
+        }
+    }
+
+    /**
+     * Encrypt source file by envelope mode and write to target file.
+     *
+     * @param sourcePath the source file path
+     * @param targetPath the target file path
+     * @throws CryptoException the crypto exception
+     */
+    public final void envelopeEncrypt(Path sourcePath, Path targetPath) throws CryptoException {
+        try (InputStream inputStream = Files.newInputStream(sourcePath);
+             OutputStream outputStream = Files.newOutputStream(targetPath)) {
+            this.envelopeEncrypt(inputStream, outputStream);
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * Decrypt envelope file and write to target file.
+     * Decrypted data was written to temporary file and moved to target path after tag was verified,
+     * target file was not created or changed if CryptoException was thrown.
+     *
+     * @param sourcePath the source file path
+     * @param targetPath the target file path
+     * @throws CryptoException the crypto exception
+     */
+    public final void envelopeDecrypt(Path sourcePath, Path targetPath) throws CryptoException {
+        Cryptor.processFile(sourcePath, targetPath, this::envelopeDecrypt);
+    }
+
     /**
      * Gets public key.
      *
@@ -488,4 +670,70 @@ public abstract class AsymmetricCryptor extends Cryptor {
      * @return the byte [ ]
      */
     protected abstract byte[] parseResult(byte[] dataBytes);
+
+    /**
+     * Parse result byte [ ] of data encrypted by earlier version, used when decrypt by parse result failed.
+     *
+     * @param dataBytes the data bytes
+     * @return the byte [ ], or <code>null</code> if layout was not changed
+     */
+    protected byte[] parseLegacyResult(byte[] dataBytes) {
+        return null;
+    }
+
+    /**
+     * Wrap or unwrap data key of envelope by public key or private key.
+     * Wrapped key was kept in the output layout of provider, so the envelope was not affected by result conversion.
+     *
+     * @param keyBytes the key bytes
+     * @param wrap     <code>true</code> for wrap, <code>false</code> for unwrap
+     * @return Processed key bytes, or empty byte array if process failed
+     */
+    private byte[] wrapKey(byte[] keyBytes, boolean wrap) {
+        try {
+            return wrap
+                    ? encryptData(this.cipherMode, RandomAlgorithm.NONE, keyBytes, this.publicKey,
+                    new byte[0], Globals.DEFAULT_VALUE_INT)
+                    : decryptData(this.cipherMode, RandomAlgorithm.NONE, keyBytes, this.privateKey,
+                    new byte[0], Globals.DEFAULT_VALUE_INT);
+        } catch (NoSuchAlgorithmException e) {
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Cipher mode of envelope data algorithm
+     *
+     * @param dataAlgorithm Data algorithm identify in envelope header
+     * @return Cipher mode
+     * @throws CryptoException Unknown data algorithm
+     */
+    private static CipherMode dataCipherMode(byte dataAlgorithm) throws CryptoException {
+        switch (dataAlgorithm) {
+            case ENVELOPE_AES:
+                return new CipherMode("AES", "GCM", "NoPadding");
+            case ENVELOPE_SM4:
+                return new CipherMode("SM4", "GCM", "NoPadding");
+            default:
+                throw new CryptoException("Unknown envelope data algorithm: " + dataAlgorithm);
+        }
+    }
+
+    /**
+     * Data key length of envelope data algorithm
+     *
+     * @param dataAlgorithm Data algorithm identify in envelope header
+     * @return Data key length in bytes
+     * @throws CryptoException Unknown data algorithm
+     */
+    private static int dataKeyLength(byte dataAlgorithm) throws CryptoException {
+        switch (dataAlgorithm) {
+            case ENVELOPE_AES:
+                return 32;
+            case ENVELOPE_SM4:
+                return 16;
+            default:
+                throw new CryptoException("Unknown envelope data algorithm: " + dataAlgorithm);
+        }
+    }
 }
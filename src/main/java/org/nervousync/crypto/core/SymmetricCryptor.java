@@ -18,9 +18,18 @@
 package org.nervousync.crypto.core;
 
 import org.nervousync.crypto.Cryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
 import org.nervousync.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * The type Symmetric cryptor.
@@ -101,6 +110,124 @@ public abstract class SymmetricCryptor extends Cryptor {
      */
     public abstract byte[] decrypt(byte[] dataBytes, byte[] keyBytes);
 
+    /**
+     * Encrypt data of input stream and write to output stream, given streams were not closed.
+     *
+     * @param inputStream  the input stream
+     * @param outputStream the output stream
+     * @param keyBytes     the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public abstract void encrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes)
+            throws CryptoException;
+
+    /**
+     * Decrypt data of input stream and write to output stream, given streams were not closed.
+     *
+     * @param inputStream  the input stream
+     * @param outputStream the output stream
+     * @param keyBytes     the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public abstract void decrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes)
+            throws CryptoException;
+
+    /**
+     * Encrypt data of readable channel and write to writable channel, given channels were not closed.
+     *
+     * @param readableChannel the readable channel
+     * @param writableChannel the writable channel
+     * @param keyBytes        the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public final void encrypt(ReadableByteChannel readableChannel, WritableByteChannel writableChannel,
+                              byte[] keyBytes) throws CryptoException {
+        this.encrypt(Channels.newInputStream(readableChannel), Channels.newOutputStream(writableChannel), keyBytes);
+    }
+
+    /**
+     * Decrypt data of readable channel and write to writable channel, given channels were not closed.
+     *
+     * @param readableChannel the readable channel
+     * @param writableChannel the writable channel
+     * @param keyBytes        the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public final void decrypt(ReadableByteChannel readableChannel, WritableByteChannel writableChannel,
+                              byte[] keyBytes) throws CryptoException {
+        this.decrypt(Channels.newInputStream(readableChannel), Channels.newOutputStream(writableChannel), keyBytes);
+    }
+
+    /**
+     * Encrypt source file and write to target file.
+     *
+     * @param sourcePath the source file path
+     * @param targetPath the target file path
+     * @param keyBytes   the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public final void encrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException {
+        try (InputStream inputStream = Files.newInputStream(sourcePath);
+             OutputStream outputStream = Files.newOutputStream(targetPath)) {
+            this.encrypt(inputStream, outputStream, keyBytes);
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * Decrypt source file and write to target file.
+     * Decrypted data was written to temporary file and moved to target path after process finished,
+     * target file was not created or changed if CryptoException was thrown, e.g. tag of GCM mode was invalid.
+     *
+     * @param sourcePath the source file path
+     * @param targetPath the target file path
+     * @param keyBytes   the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public final void decrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException {
+        Cryptor.processFile(sourcePath, targetPath,
+                (inputStream, outputStream) -> this.decrypt(inputStream, outputStream, keyBytes));
+    }
+
+    /**
+     * Encrypt data bytes in parallel, only CTR mode was processed in parallel and the result is same as encrypt.
+     *
+     * @param dataBytes the data bytes
+     * @param keyBytes  the key bytes
+     * @return the byte [ ]
+     */
+    public abstract byte[] parallelEncrypt(byte[] dataBytes, byte[] keyBytes);
+
+    /**
+     * Decrypt data bytes in parallel, only CTR mode was processed in parallel and the result is same as decrypt.
+     *
+     * @param dataBytes the data bytes
+     * @param keyBytes  the key bytes
+     * @return the byte [ ]
+     */
+    public abstract byte[] parallelDecrypt(byte[] dataBytes, byte[] keyBytes);
+
+    /**
+     * Encrypt source file and write to target file in parallel, only CTR mode was processed in parallel.
+     *
+     * @param sourcePath the source file path
+     * @param targetPath the target file path
+     * @param keyBytes   the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public abstract void parallelEncrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException;
+
+    /**
+     * Decrypt source file and write to target file in parallel, only CTR mode was processed in parallel.
+     *
+     * @param sourcePath the source file path
+     * @param targetPath the target file path
+     * @param keyBytes   the key bytes
+     * @throws CryptoException the crypto exception
+     */
+    public abstract void parallelDecrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException;
+
     /**
      * New key string.
      *
@@ -19,9 +19,13 @@ package org.nervousync.crypto.impl;
 
 import org.nervousync.commons.core.Globals;
 import org.nervousync.crypto.core.SymmetricCryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 
@@ -54,6 +58,94 @@ public final class AESCryptor extends SymmetricCryptor {
         }
     }
 
+    @Override
+    public void encrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes)
+            throws CryptoException {
+        this.processStream(this.cipherMode, this.randomAlgorithm, keyBytes, this.keySize, Boolean.TRUE, inputStream, outputStream);
+    }
+
+    @Override
+    public void decrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes)
+            throws CryptoException {
+        this.processStream(this.cipherMode, this.randomAlgorithm, keyBytes, this.keySize, Boolean.FALSE, inputStream, outputStream);
+    }
+
+    /**
+     * Encrypt data bytes with associated data, only GCM mode was supported.
+     * Encrypted data was random nonce followed by cipher text and authentication tag.
+     *
+     * @param dataBytes      the data bytes
+     * @param keyBytes       the key bytes
+     * @param associatedData the associated data
+     * @return the byte [ ], or empty byte array if process failed
+     */
+    public byte[] encrypt(byte[] dataBytes, byte[] keyBytes, byte[] associatedData) {
+        return this.processAEAD(this.cipherMode, this.randomAlgorithm, dataBytes, keyBytes, this.keySize, associatedData, Boolean.TRUE);
+    }
+
+    /**
+     * Decrypt data bytes with associated data, only GCM mode was supported.
+     *
+     * @param dataBytes      the data bytes
+     * @param keyBytes       the key bytes
+     * @param associatedData the associated data
+     * @return the byte [ ], or empty byte array if process failed or authenticate failed
+     */
+    public byte[] decrypt(byte[] dataBytes, byte[] keyBytes, byte[] associatedData) {
+        return this.processAEAD(this.cipherMode, this.randomAlgorithm, dataBytes, keyBytes, this.keySize, associatedData, Boolean.FALSE);
+    }
+
+    /**
+     * Encrypt data of input stream with associated data, only GCM mode was supported.
+     *
+     * @param inputStream    the input stream
+     * @param outputStream   the output stream
+     * @param keyBytes       the key bytes
+     * @param associatedData the associated data
+     * @throws CryptoException the crypto exception
+     */
+    public void encrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes,
+                        byte[] associatedData) throws CryptoException {
+        this.processStream(this.cipherMode, this.randomAlgorithm, keyBytes, this.keySize, Boolean.TRUE, associatedData,
+                inputStream, outputStream);
+    }
+
+    /**
+     * Decrypt data of input stream with associated data, only GCM mode was supported.
+     * Output data must be discarded if CryptoException was thrown.
+     *
+     * @param inputStream    the input stream
+     * @param outputStream   the output stream
+     * @param keyBytes       the key bytes
+     * @param associatedData the associated data
+     * @throws CryptoException the crypto exception
+     */
+    public void decrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes,
+                        byte[] associatedData) throws CryptoException {
+        this.processStream(this.cipherMode, this.randomAlgorithm, keyBytes, this.keySize, Boolean.FALSE, associatedData,
+                inputStream, outputStream);
+    }
+
+    @Override
+    public byte[] parallelEncrypt(byte[] dataBytes, byte[] keyBytes) {
+        return this.processParallel(this.cipherMode, this.randomAlgorithm, dataBytes, keyBytes, this.keySize, Boolean.TRUE);
+    }
+
+    @Override
+    public byte[] parallelDecrypt(byte[] dataBytes, byte[] keyBytes) {
+        return this.processParallel(this.cipherMode, this.randomAlgorithm, dataBytes, keyBytes, this.keySize, Boolean.FALSE);
+    }
+
+    @Override
+    public void parallelEncrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException {
+        this.processParallel(this.cipherMode, this.randomAlgorithm, sourcePath, targetPath, keyBytes, this.keySize, Boolean.TRUE);
+    }
+
+    @Override
+    public void parallelDecrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException {
+        this.processParallel(this.cipherMode, this.randomAlgorithm, sourcePath, targetPath, keyBytes, this.keySize, Boolean.FALSE);
+    }
+
     @Override
     public String newKey() {
         try {
@@ -118,6 +210,10 @@ public final class AESCryptor extends SymmetricCryptor {
          * AES/CTR/ISO10126Padding
          */
         CTR_ISO10126Padding("CTR", "ISO10126Padding"),
+        /**
+         * AES/GCM/NoPadding, authenticated encryption with random nonce
+         */
+        GCM_NoPadding("GCM", "NoPadding"),
         /**
          * AES/CTS/NoPadding
          */
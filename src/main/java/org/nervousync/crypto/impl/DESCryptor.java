@@ -19,9 +19,13 @@ package org.nervousync.crypto.impl;
 
 import org.nervousync.commons.core.Globals;
 import org.nervousync.crypto.core.SymmetricCryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 
 public final class DESCryptor extends SymmetricCryptor {
@@ -50,6 +54,38 @@ public final class DESCryptor extends SymmetricCryptor {
         }
     }
 
+    @Override
+    public void encrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes)
+            throws CryptoException {
+        this.processStream(this.cipherMode, RandomAlgorithm.NONE, keyBytes, Globals.DEFAULT_VALUE_INT, Boolean.TRUE, inputStream, outputStream);
+    }
+
+    @Override
+    public void decrypt(InputStream inputStream, OutputStream outputStream, byte[] keyBytes)
+            throws CryptoException {
+        this.processStream(this.cipherMode, RandomAlgorithm.NONE, keyBytes, Globals.DEFAULT_VALUE_INT, Boolean.FALSE, inputStream, outputStream);
+    }
+
+    @Override
+    public byte[] parallelEncrypt(byte[] dataBytes, byte[] keyBytes) {
+        return this.processParallel(this.cipherMode, RandomAlgorithm.NONE, dataBytes, keyBytes, Globals.DEFAULT_VALUE_INT, Boolean.TRUE);
+    }
+
+    @Override
+    public byte[] parallelDecrypt(byte[] dataBytes, byte[] keyBytes) {
+        return this.processParallel(this.cipherMode, RandomAlgorithm.NONE, dataBytes, keyBytes, Globals.DEFAULT_VALUE_INT, Boolean.FALSE);
+    }
+
+    @Override
+    public void parallelEncrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException {
+        this.processParallel(this.cipherMode, RandomAlgorithm.NONE, sourcePath, targetPath, keyBytes, Globals.DEFAULT_VALUE_INT, Boolean.TRUE);
+    }
+
+    @Override
+    public void parallelDecrypt(Path sourcePath, Path targetPath, byte[] keyBytes) throws CryptoException {
+        this.processParallel(this.cipherMode, RandomAlgorithm.NONE, sourcePath, targetPath, keyBytes, Globals.DEFAULT_VALUE_INT, Boolean.FALSE);
+    }
+
     @Override
     public String newKey() {
         try {
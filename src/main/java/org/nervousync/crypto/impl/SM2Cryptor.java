@@ -131,10 +131,11 @@ public final class SM2Cryptor extends AsymmetricCryptor {
             return dataBytes;
         }
 
+        //  Provider output was C1C2C3, move C3 (last 32 bytes) before C2
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(dataBytes.length);
         byteArrayOutputStream.write(dataBytes, 0, 65);
-        byteArrayOutputStream.write(dataBytes, 65, 32);
-        byteArrayOutputStream.write(dataBytes, 97, dataBytes.length - 97);
+        byteArrayOutputStream.write(dataBytes, dataBytes.length - 32, 32);
+        byteArrayOutputStream.write(dataBytes, 65, dataBytes.length - 97);
         return byteArrayOutputStream.toByteArray();
     }
 
@@ -143,14 +144,26 @@ public final class SM2Cryptor extends AsymmetricCryptor {
         if (SM2Mode.C1C2C3.equals(this.sm2Mode)) {
             return dataBytes;
         } else {
+            //  Move C3 after C2, provider input was C1C2C3
             ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(dataBytes.length);
             byteArrayOutputStream.write(dataBytes, 0, 65);
-            byteArrayOutputStream.write(dataBytes, dataBytes.length - 32, 32);
-            byteArrayOutputStream.write(dataBytes, 65, dataBytes.length - 97);
+            byteArrayOutputStream.write(dataBytes, 97, dataBytes.length - 97);
+            byteArrayOutputStream.write(dataBytes, 65, 32);
             return byteArrayOutputStream.toByteArray();
         }
     }
 
+    /**
+     * Data encrypted in C1C3C2 mode by earlier version was not converted and kept in C1C2C3 layout
+     *
+     * @param dataBytes the data bytes
+     * @return the byte [ ]
+     */
+    @Override
+    protected byte[] parseLegacyResult(byte[] dataBytes) {
+        return SM2Mode.C1C3C2.equals(this.sm2Mode) ? dataBytes : null;
+    }
+
     /**
      * The enum Sm 2 mode.
      */
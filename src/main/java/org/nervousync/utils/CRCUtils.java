@@ -18,10 +18,23 @@ package org.nervousync.utils;
 
 import org.nervousync.exceptions.crc.CRCException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 
 /**
- * CRC3 to CRC32 Calculator
+ * CRC3 to CRC64 Calculator
  *
  * Support algorithms:
  * CRC-3/GSM, CRC-3/ROHC, CRC-4/G-704, CRC-4/INTERLAKEN, CRC-5/EPC-C1G2, CRC-5/G-704, CRC-5/USB, CRC-6/CDMA2000-A,
@@ -36,7 +49,8 @@ import java.util.*;
  * CRC-16/SPI-FUJITSU, CRC-16/T10-DIF, CRC-16/TELEDISK, CRC-16/TMS37157, CRC-16/UMTS, CRC-16/USB, CRC-16/XMODEM,
  * CRC-17/CAN-FD, CRC-21/CAN-FD, CRC-24/BLE, CRC-24/FLEXRAY-A, CRC-24/FLEXRAY-B, CRC-24/INTERLAKEN, CRC-24/LTE-A,
  * CRC-24/LTE-B, CRC-24/OPENPGP, CRC-24/OS-9, CRC-30/CDMA, CRC-31/PHILIPS, CRC-32/AIXM, CRC-32/AUTOSAR, CRC-32/BASE91-D,
- * CRC-32/BZIP2, CRC-32/CD-ROM-EDC, CRC-32/CKSUM, CRC-32/ISCSI, CRC-32/ISO-HDLC, CRC-32/JAMCRC, CRC-32/MPEG-2, CRC-32/XFER
+ * CRC-32/BZIP2, CRC-32/CD-ROM-EDC, CRC-32/CKSUM, CRC-32/ISCSI, CRC-32/ISO-HDLC, CRC-32/JAMCRC, CRC-32/MPEG-2, CRC-32/XFER,
+ * CRC-40/GSM, CRC-64/ECMA-182, CRC-64/GO-ISO, CRC-64/MS, CRC-64/REDIS, CRC-64/WE, CRC-64/XZ
  *
  * Support register algorithm
  *
@@ -49,6 +63,14 @@ public final class CRCUtils {
 	 * Registered CRC config map
 	 */
 	private static final Hashtable<String, CRCConfig> REGISTERED_CRC_CONFIG = new Hashtable<>();
+	/**
+	 * Files smaller than this size were calculated by single thread
+	 */
+	private static final long PARALLEL_THRESHOLD = 64L * 1024 * 1024;
+	/**
+	 * Maximum range size which calculated by one task in parallel mode
+	 */
+	private static final long PARALLEL_RANGE_SIZE = 16L * 1024 * 1024;
 	
 	static {
 		CRCUtils.registerAlgorithm("CRC-3/GSM", 3, 0x3, 0x0, 0x7, false, false);
@@ -152,6 +174,19 @@ public final class CRCUtils {
 		CRCUtils.registerAlgorithm("CRC-32/JAMCRC", 32, 0x04C11DB7, 0xFFFFFFFF, 0x00000000, true, true);
 		CRCUtils.registerAlgorithm("CRC-32/MPEG-2", 32, 0x04C11DB7, 0xFFFFFFFF, 0x00000000, false, false);
 		CRCUtils.registerAlgorithm("CRC-32/XFER", 32, 0x000000AF, 0x00000000, 0x00000000, false, false);
+		CRCUtils.registerAlgorithm("CRC-40/GSM", 40, 0x0004820009L, 0x0000000000L, 0xFFFFFFFFFFL, false, false);
+		CRCUtils.registerAlgorithm("CRC-64/ECMA-182", 64, 0x42F0E1EBA9EA3693L,
+				0x0000000000000000L, 0x0000000000000000L, false, false);
+		CRCUtils.registerAlgorithm("CRC-64/GO-ISO", 64, 0x000000000000001BL,
+				0xFFFFFFFFFFFFFFFFL, 0xFFFFFFFFFFFFFFFFL, true, true);
+		CRCUtils.registerAlgorithm("CRC-64/MS", 64, 0x259C84CBA6426349L,
+				0xFFFFFFFFFFFFFFFFL, 0x0000000000000000L, true, true);
+		CRCUtils.registerAlgorithm("CRC-64/REDIS", 64, 0xAD93D23594C935A9L,
+				0x0000000000000000L, 0x0000000000000000L, true, true);
+		CRCUtils.registerAlgorithm("CRC-64/WE", 64, 0x42F0E1EBA9EA3693L,
+				0xFFFFFFFFFFFFFFFFL, 0xFFFFFFFFFFFFFFFFL, false, false);
+		CRCUtils.registerAlgorithm("CRC-64/XZ", 64, 0x42F0E1EBA9EA3693L,
+				0xFFFFFFFFFFFFFFFFL, 0xFFFFFFFFFFFFFFFFL, true, true);
 	}
 
 	private CRCUtils() {
@@ -181,17 +216,17 @@ public final class CRCUtils {
 	 * Register CRC algorithm
 	 * @param algorithm         Algorithm name
 	 * @param bit               CRC bit
-	 * @param polynomial        CRC polynomial
+	 * @param polynomial        CRC polynomial, values of 64 bit algorithm were read as unsigned
 	 * @param init              Init value
 	 * @param xorOut            XorOut value
 	 * @param refIn             Reverse data bytes
 	 * @param refOut            Reverse CRC result before final XOR
-	 * @throws CRCException     CRC bit is lager than 32, or algorithm name was exists
+	 * @throws CRCException     CRC bit is not in 1 to 64, or algorithm name was exists
 	 */
 	public static void registerAlgorithm(String algorithm, int bit, long polynomial, long init, long xorOut,
 	                                     boolean refIn, boolean refOut) throws CRCException {
-		if (bit > 32) {
-			throw new CRCException("Cannot calculate CRC value lager than 32 bit");
+		if (bit < 1 || bit > 64) {
+			throw new CRCException("CRC bit must be in 1 to 64, current bit: " + bit);
 		}
 		if (REGISTERED_CRC_CONFIG.containsKey(algorithm)) {
 			throw new CRCException("Algorithm name: " + algorithm + " was exists!");
@@ -239,9 +274,102 @@ public final class CRCUtils {
 	}
 
 	/**
-	 * CRC adapter interface
+	 * Calculate numeric crc value of data bytes using given algorithms
+	 * @param algorithm     CRC algorithm name
+	 * @param dataBytes     Data bytes
+	 * @return              CRC value
+	 * @throws CRCException CRC algorithm can not found
+	 */
+	public static long calculateValue(String algorithm, byte[] dataBytes) throws CRCException {
+		CRCAdapter crcAdapter = CRCUtils.initialize(algorithm);
+		crcAdapter.update(dataBytes, 0, dataBytes.length);
+		return crcAdapter.getValue();
+	}
+
+	/**
+	 * Calculate numeric crc value of file content using given algorithms
+	 * @param algorithm     CRC algorithm name
+	 * @param filePath      File path
+	 * @return              CRC value
+	 * @throws CRCException CRC algorithm can not found or read file error
 	 */
-	public interface CRCAdapter {
+	public static long calculateValue(String algorithm, Path filePath) throws CRCException {
+		CRCAdapter crcAdapter = CRCUtils.initialize(algorithm);
+		try {
+			crcAdapter.update(filePath);
+		} catch (IOException e) {
+			throw new CRCException(e);
+		}
+		return crcAdapter.getValue();
+	}
+
+	/**
+	 * Calculate numeric crc value of file content using given algorithms in parallel mode.
+	 * Large file was split into ranges, ranges were mapped to memory and calculated in common ForkJoin pool,
+	 * partial crc values were merged by crc combination. Small file was calculated by current thread.
+	 * @param algorithm     CRC algorithm name
+	 * @param filePath      File path
+	 * @return              CRC value
+	 * @throws CRCException CRC algorithm can not found or read file error
+	 */
+	public static long parallelCalculate(String algorithm, Path filePath) throws CRCException {
+		if (!REGISTERED_CRC_CONFIG.containsKey(algorithm)) {
+			throw new CRCException("CRC algorithm: " + algorithm + " not registered! ");
+		}
+		CRCConfig crcConfig = REGISTERED_CRC_CONFIG.get(algorithm);
+		//  JDK implements were used for same algorithms, which were intrinsic accelerated
+		Supplier<Checksum> checksumSupplier;
+		switch (algorithm) {
+			case "CRC-32/ISO-HDLC":
+				checksumSupplier = CRC32::new;
+				break;
+			case "CRC-32/ISCSI":
+				checksumSupplier = CRC32C::new;
+				break;
+			default:
+				checksumSupplier = () -> new CRC(crcConfig);
+				break;
+		}
+		try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+			long fileSize = fileChannel.size();
+			if (fileSize < PARALLEL_THRESHOLD) {
+				Checksum checksum = checksumSupplier.get();
+				ByteBuffer readBuffer = ByteBuffer.allocate(CRC.BUFFER_SIZE);
+				while (fileChannel.read(readBuffer) != -1) {
+					readBuffer.flip();
+					checksum.update(readBuffer);
+					readBuffer.clear();
+				}
+				return checksum.getValue();
+			}
+			return ForkJoinPool.commonPool().invoke(
+					new CRCRangeTask(crcConfig, checksumSupplier, fileChannel, 0L, fileSize));
+		} catch (IOException e) {
+			throw new CRCException(e);
+		}
+	}
+
+	/**
+	 * Combine crc values of two data blocks to crc value of joined data block
+	 * @param algorithm     CRC algorithm name
+	 * @param crc1          CRC value of first data block
+	 * @param crc2          CRC value of second data block
+	 * @param length2       Length of second data block
+	 * @return              CRC value of first data block followed by second data block
+	 * @throws CRCException CRC algorithm can not found
+	 */
+	public static long combine(String algorithm, long crc1, long crc2, long length2) throws CRCException {
+		if (!REGISTERED_CRC_CONFIG.containsKey(algorithm)) {
+			throw new CRCException("CRC algorithm: " + algorithm + " not registered! ");
+		}
+		return REGISTERED_CRC_CONFIG.get(algorithm).combine(crc1, crc2, length2);
+	}
+
+	/**
+	 * CRC adapter interface, adapter instance can be used as java.util.zip.Checksum,
+	 * e.g. by java.util.zip.CheckedInputStream
+	 */
+	public interface CRCAdapter extends Checksum {
 
 		/**
 		 * Append string data
@@ -255,6 +383,35 @@ public final class CRCUtils {
 		 */
 		void appendBinary(byte[] dataBytes);
 
+		/**
+		 * Update crc value with remaining bytes of given buffer, heap buffer and direct buffer were both read
+		 * without copy. Buffer position was moved to limit.
+		 * @param buffer    data buffer
+		 */
+		@Override
+		void update(ByteBuffer buffer);
+
+		/**
+		 * Update crc value with all data of given input stream, input stream was not closed
+		 * @param inputStream   input stream
+		 * @throws IOException  read data error
+		 */
+		void update(InputStream inputStream) throws IOException;
+
+		/**
+		 * Update crc value with file content of given path
+		 * @param filePath      file path
+		 * @throws IOException  read file error
+		 */
+		void update(Path filePath) throws IOException;
+
+		/**
+		 * Current crc value of appended data, current value was not reset
+		 * @return  crc value
+		 */
+		@Override
+		long getValue();
+
 		/**
 		 * Finish append data and calculate crc result
 		 * @return  crc result(Hex string)
@@ -264,24 +421,25 @@ public final class CRCUtils {
 		/**
 		 * Reset the crc value to initialize value
 		 */
+		@Override
 		void reset();
 	}
 
 	/**
-	 * CRC3 to CRC32 implement class
+	 * Table driven CRC implement class.
+	 * Reflected algorithm keeps register in low bits, others keep register in high bits of long value,
+	 * so every CRC width share the same byte table and slice-by-8 table
 	 */
 	private static final class CRC implements CRCAdapter {
 
+		//  Read buffer size of input stream and file
+		static final int BUFFER_SIZE = 64 * 1024;
 		//  Current crc config
 		private final CRCConfig crcConfig;
-		//  Polynomial
-		private final long polynomial;
+		//  CRC tables, slice-by-8 tables if width was 16 bits and up
+		private final long[][] crcTables;
 		//  Initialize CRC Value
 		private final long init;
-		//  Check Value
-		private final long check;
-		//  Mask Value
-		private final long mask;
 		//  CRC Value
 		private long crc;
 
@@ -291,36 +449,9 @@ public final class CRCUtils {
 		 */
 		public CRC(CRCConfig crcConfig) {
 			this.crcConfig = crcConfig;
-			if (this.crcConfig.isRefIn()) {
-				this.polynomial = CRCUtils.CRC.reverseBit(this.crcConfig.getPolynomial(), this.crcConfig.getBit());
-				this.init = CRCUtils.CRC.reverseBit(this.crcConfig.getInit(), this.crcConfig.getBit());
-			} else {
-				this.polynomial = (this.crcConfig.getBit() < 8)
-						? (this.crcConfig.getPolynomial() << (8 - this.crcConfig.getBit()))
-						: this.crcConfig.getPolynomial();
-				this.init = (this.crcConfig.getBit() < 8)
-						? (this.crcConfig.getInit() << (8 - this.crcConfig.getBit()))
-						: this.crcConfig.getInit();
-			}
+			this.crcTables = crcConfig.crcTables();
+			this.init = crcConfig.registerInit();
 			this.crc = this.init;
-			if (this.crcConfig.isRefIn()) {
-				this.check = 0x1L;
-			} else {
-				if (this.crcConfig.getBit() <= 8) {
-					this.check = 0x80;
-				} else {
-					this.check = Double.valueOf(Math.pow(2, this.crcConfig.getBit() - 1)).longValue();
-				}
-			}
-			if (this.crcConfig.getBit() <= 8) {
-				this.mask = 0xFF;
-			} else {
-				StringBuilder stringBuilder = new StringBuilder();
-				while (stringBuilder.length() < this.crcConfig.getBit()) {
-					stringBuilder.append("1");
-				}
-				this.mask = Long.valueOf(stringBuilder.toString(), 2);
-			}
 		}
 
 		/**
@@ -336,57 +467,258 @@ public final class CRCUtils {
 		 * @param dataBytes data bytes
 		 */
 		public void appendBinary(byte[] dataBytes) {
-			for (byte dataByte : dataBytes) {
-				long crc = (dataByte < 0) ? ((int)dataByte) + 256 : dataByte;
-				if (this.crcConfig.getBit() <= 8) {
-					this.crc ^= crc;
-				} else {
-					this.crc ^= ((this.crcConfig.isRefIn() ? crc : (crc << (this.crcConfig.getBit() - 8)))
-							& this.mask);
-				}
+			this.update(dataBytes, 0, dataBytes.length);
+		}
 
-				for (int j = 0; j < 8; j++) {
-					if ((this.crc & this.check) > 0) {
-						this.crc = (this.crcConfig.isRefIn() ? (this.crc >>> 1) : (this.crc << 1)) ^ this.polynomial;
-					} else {
-						this.crc = this.crcConfig.isRefIn() ? (this.crc >>> 1) : (this.crc << 1);
-					}
-				}
+		/**
+		 * Update crc value with one byte
+		 * @param b     data byte
+		 */
+		@Override
+		public void update(int b) {
+			if (this.crcConfig.isRefIn()) {
+				this.crc = this.crcTables[0][((int) this.crc ^ b) & 0xFF] ^ (this.crc >>> 8);
+			} else {
+				this.crc = this.crcTables[0][((int) (this.crc >>> 56) ^ b) & 0xFF] ^ (this.crc << 8);
 			}
-			this.crc &= this.mask;
 		}
 
 		/**
-		 * Finish append data and calculate crc result
-		 * @return  crc result(Hex string)
+		 * Update crc value with data bytes
+		 * @param dataBytes     data bytes
+		 * @param offset        begin offset
+		 * @param length        data length
 		 */
-		public String finish() {
-			if (this.crcConfig.getBit() < 8 && !this.crcConfig.isRefIn()) {
-				this.crc >>>= (8 - this.crcConfig.getBit());
+		@Override
+		public void update(byte[] dataBytes, int offset, int length) {
+			if (offset < 0 || length < 0 || offset > dataBytes.length - length) {
+				throw new ArrayIndexOutOfBoundsException();
+			}
+			if (this.crcConfig.isRefIn()) {
+				this.crc = CRCUtils.CRC.updateReflected(this.crcTables, this.crc, dataBytes, offset, length);
+			} else {
+				this.crc = CRCUtils.CRC.updateNormal(this.crcTables, this.crc, dataBytes, offset, length);
+			}
+		}
+
+		/**
+		 * Update crc value with remaining bytes of given buffer, heap buffer and direct buffer were both read
+		 * without copy. Buffer position was moved to limit.
+		 * @param buffer    data buffer
+		 */
+		@Override
+		public void update(ByteBuffer buffer) {
+			int position = buffer.position();
+			int limit = buffer.limit();
+			if (position >= limit) {
+				return;
 			}
-			if (!Objects.equals(this.crcConfig.isRefIn(), this.crcConfig.isRefOut()) && this.crcConfig.isRefOut()) {
-				//  Just using for CRC-12/UMTS
-				this.crc &= this.mask;
-				this.crc = (CRCUtils.CRC.reverseBit(this.crc, Long.toString(this.crc, 2).length())
-						^ this.crcConfig.getXorOut());
+			if (buffer.hasArray()) {
+				this.update(buffer.array(), buffer.arrayOffset() + position, limit - position);
+			} else if (this.crcConfig.isRefIn()) {
+				this.crc = CRCUtils.CRC.updateReflected(this.crcTables, this.crc, buffer, position, limit);
 			} else {
-				this.crc = (this.crc ^ this.crcConfig.getXorOut()) & this.mask;
+				this.crc = CRCUtils.CRC.updateNormal(this.crcTables, this.crc, buffer, position, limit);
 			}
-			StringBuilder result = new StringBuilder(Long.toString(this.crc, 16));
-			while (result.length() < this.crcConfig.getOutLength()) {
-				result.insert(0, "0");
+			buffer.position(limit);
+		}
+
+		/**
+		 * Update crc value with all data of given input stream, input stream was not closed
+		 * @param inputStream   input stream
+		 * @throws IOException  read data error
+		 */
+		public void update(InputStream inputStream) throws IOException {
+			byte[] readBuffer = new byte[BUFFER_SIZE];
+			int readLength;
+			while ((readLength = inputStream.read(readBuffer)) != -1) {
+				this.update(readBuffer, 0, readLength);
 			}
+		}
+
+		/**
+		 * Update crc value with file content of given path
+		 * @param filePath      file path
+		 * @throws IOException  read file error
+		 */
+		public void update(Path filePath) throws IOException {
+			try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+				ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+				while (fileChannel.read(readBuffer) != -1) {
+					readBuffer.flip();
+					this.update(readBuffer);
+					readBuffer.clear();
+				}
+			}
+		}
+
+		/**
+		 * Current crc value of appended data, current value was not reset
+		 * @return  crc value
+		 */
+		@Override
+		public long getValue() {
+			return this.crcConfig.toValue(this.crc);
+		}
+
+		/**
+		 * Finish append data and calculate crc result
+		 * @return  crc result(Hex string)
+		 */
+		public String finish() {
+			String hexValue = Long.toHexString(this.getValue());
 			this.reset();
-			return "0x" + result;
+			return "0x" + "0".repeat(Math.max(0, this.crcConfig.getOutLength() - hexValue.length())) + hexValue;
 		}
 
 		/**
 		 * Reset the crc value to initialize value
 		 */
+		@Override
 		public void reset() {
 			this.crc = this.init;
 		}
 
+		/**
+		 * Update reflected register, 8 bytes were processed at once if slice-by-8 tables exists
+		 * @param crcTables     CRC tables
+		 * @param crc           Current register
+		 * @param dataBytes     Data bytes
+		 * @param offset        Begin offset
+		 * @param length        Data length
+		 * @return              Updated register
+		 */
+		private static long updateReflected(long[][] crcTables, long crc, byte[] dataBytes, int offset, int length) {
+			int index = offset;
+			int end = offset + length;
+			if (crcTables.length == 8) {
+				long[] t0 = crcTables[0], t1 = crcTables[1], t2 = crcTables[2], t3 = crcTables[3],
+						t4 = crcTables[4], t5 = crcTables[5], t6 = crcTables[6], t7 = crcTables[7];
+				while (end - index >= 8) {
+					crc ^= (dataBytes[index] & 0xFFL)
+							| ((dataBytes[index + 1] & 0xFFL) << 8)
+							| ((dataBytes[index + 2] & 0xFFL) << 16)
+							| ((dataBytes[index + 3] & 0xFFL) << 24)
+							| ((dataBytes[index + 4] & 0xFFL) << 32)
+							| ((dataBytes[index + 5] & 0xFFL) << 40)
+							| ((dataBytes[index + 6] & 0xFFL) << 48)
+							| ((dataBytes[index + 7] & 0xFFL) << 56);
+					crc = t7[(int) crc & 0xFF] ^ t6[(int) (crc >>> 8) & 0xFF]
+							^ t5[(int) (crc >>> 16) & 0xFF] ^ t4[(int) (crc >>> 24) & 0xFF]
+							^ t3[(int) (crc >>> 32) & 0xFF] ^ t2[(int) (crc >>> 40) & 0xFF]
+							^ t1[(int) (crc >>> 48) & 0xFF] ^ t0[(int) (crc >>> 56)];
+					index += 8;
+				}
+			}
+			long[] crcTable = crcTables[0];
+			while (index < end) {
+				crc = crcTable[((int) crc ^ dataBytes[index++]) & 0xFF] ^ (crc >>> 8);
+			}
+			return crc;
+		}
+
+		/**
+		 * Update reflected register by buffer using absolute read, direct buffer was not copied
+		 * @param crcTables     CRC tables
+		 * @param crc           Current register
+		 * @param buffer        Data buffer
+		 * @param offset        Begin index
+		 * @param end           End index
+		 * @return              Updated register
+		 */
+		private static long updateReflected(long[][] crcTables, long crc, ByteBuffer buffer, int offset, int end) {
+			int index = offset;
+			if (crcTables.length == 8) {
+				long[] t0 = crcTables[0], t1 = crcTables[1], t2 = crcTables[2], t3 = crcTables[3],
+						t4 = crcTables[4], t5 = crcTables[5], t6 = crcTables[6], t7 = crcTables[7];
+				boolean swapBytes = (buffer.order() == ByteOrder.BIG_ENDIAN);
+				while (end - index >= 8) {
+					long value = buffer.getLong(index);
+					crc ^= swapBytes ? Long.reverseBytes(value) : value;
+					crc = t7[(int) crc & 0xFF] ^ t6[(int) (crc >>> 8) & 0xFF]
+							^ t5[(int) (crc >>> 16) & 0xFF] ^ t4[(int) (crc >>> 24) & 0xFF]
+							^ t3[(int) (crc >>> 32) & 0xFF] ^ t2[(int) (crc >>> 40) & 0xFF]
+							^ t1[(int) (crc >>> 48) & 0xFF] ^ t0[(int) (crc >>> 56)];
+					index += 8;
+				}
+			}
+			long[] crcTable = crcTables[0];
+			while (index < end) {
+				crc = crcTable[((int) crc ^ buffer.get(index++)) & 0xFF] ^ (crc >>> 8);
+			}
+			return crc;
+		}
+
+		/**
+		 * Update register aligned to high bits, 8 bytes were processed at once if slice-by-8 tables exists
+		 * @param crcTables     CRC tables
+		 * @param crc           Current register
+		 * @param dataBytes     Data bytes
+		 * @param offset        Begin offset
+		 * @param length        Data length
+		 * @return              Updated register
+		 */
+		private static long updateNormal(long[][] crcTables, long crc, byte[] dataBytes, int offset, int length) {
+			int index = offset;
+			int end = offset + length;
+			if (crcTables.length == 8) {
+				long[] t0 = crcTables[0], t1 = crcTables[1], t2 = crcTables[2], t3 = crcTables[3],
+						t4 = crcTables[4], t5 = crcTables[5], t6 = crcTables[6], t7 = crcTables[7];
+				while (end - index >= 8) {
+					crc ^= ((dataBytes[index] & 0xFFL) << 56)
+							| ((dataBytes[index + 1] & 0xFFL) << 48)
+							| ((dataBytes[index + 2] & 0xFFL) << 40)
+							| ((dataBytes[index + 3] & 0xFFL) << 32)
+							| ((dataBytes[index + 4] & 0xFFL) << 24)
+							| ((dataBytes[index + 5] & 0xFFL) << 16)
+							| ((dataBytes[index + 6] & 0xFFL) << 8)
+							| (dataBytes[index + 7] & 0xFFL);
+					crc = t7[(int) (crc >>> 56)] ^ t6[(int) (crc >>> 48) & 0xFF]
+							^ t5[(int) (crc >>> 40) & 0xFF] ^ t4[(int) (crc >>> 32) & 0xFF]
+							^ t3[(int) (crc >>> 24) & 0xFF] ^ t2[(int) (crc >>> 16) & 0xFF]
+							^ t1[(int) (crc >>> 8) & 0xFF] ^ t0[(int) crc & 0xFF];
+					index += 8;
+				}
+			}
+			long[] crcTable = crcTables[0];
+			while (index < end) {
+				crc = crcTable[((int) (crc >>> 56) ^ dataBytes[index++]) & 0xFF] ^ (crc << 8);
+			}
+			return crc;
+		}
+
+		/**
+		 * Update register aligned to high bits by buffer using absolute read, direct buffer was not copied
+		 * @param crcTables     CRC tables
+		 * @param crc           Current register
+		 * @param buffer        Data buffer
+		 * @param offset        Begin index
+		 * @param end           End index
+		 * @return              Updated register
+		 */
+		private static long updateNormal(long[][] crcTables, long crc, ByteBuffer buffer, int offset, int end) {
+			int index = offset;
+			if (crcTables.length == 8) {
+				long[] t0 = crcTables[0], t1 = crcTables[1], t2 = crcTables[2], t3 = crcTables[3],
+						t4 = crcTables[4], t5 = crcTables[5], t6 = crcTables[6], t7 = crcTables[7];
+				boolean swapBytes = (buffer.order() == ByteOrder.LITTLE_ENDIAN);
+				while (end - index >= 8) {
+					long value = buffer.getLong(index);
+					crc ^= swapBytes ? Long.reverseBytes(value) : value;
+					crc = t7[(int) (crc >>> 56)] ^ t6[(int) (crc >>> 48) & 0xFF]
+							^ t5[(int) (crc >>> 40) & 0xFF] ^ t4[(int) (crc >>> 32) & 0xFF]
+							^ t3[(int) (crc >>> 24) & 0xFF] ^ t2[(int) (crc >>> 16) & 0xFF]
+							^ t1[(int) (crc >>> 8) & 0xFF] ^ t0[(int) crc & 0xFF];
+					index += 8;
+				}
+			}
+			long[] crcTable = crcTables[0];
+			while (index < end) {
+				crc = crcTable[((int) (crc >>> 56) ^ buffer.get(index++)) & 0xFF] ^ (crc << 8);
+			}
+			return crc;
+		}
+
 		/**
 		 * Reverse data
 		 * @param value     input data
@@ -394,20 +726,76 @@ public final class CRCUtils {
 		 * @return          reversed data
 		 */
 		private static long reverseBit(long value, int bit) {
-			if (value < 0) {
-				value += Math.pow(2, bit);
+			return Long.reverse(value) >>> (64 - bit);
+		}
+	}
+
+	/**
+	 * ForkJoin task of calculate crc value of file range.
+	 * Range was split into two halves until the range size is not larger than PARALLEL_RANGE_SIZE,
+	 * crc value of two halves were merged by crc combination.
+	 */
+	private static final class CRCRangeTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = -3389613829853458412L;
+
+		//  Current crc config
+		private final CRCConfig crcConfig;
+		//  Checksum instance supplier
+		private final Supplier<Checksum> checksumSupplier;
+		//  File channel
+		private final FileChannel fileChannel;
+		//  Begin position
+		private final long beginPosition;
+		//  End position
+		private final long endPosition;
+
+		CRCRangeTask(CRCConfig crcConfig, Supplier<Checksum> checksumSupplier, FileChannel fileChannel,
+		             long beginPosition, long endPosition) {
+			this.crcConfig = crcConfig;
+			this.checksumSupplier = checksumSupplier;
+			this.fileChannel = fileChannel;
+			this.beginPosition = beginPosition;
+			this.endPosition = endPosition;
+		}
+
+		@Override
+		protected Long compute() {
+			long length = this.endPosition - this.beginPosition;
+			if (length > PARALLEL_RANGE_SIZE) {
+				long rangeCount = (length + PARALLEL_RANGE_SIZE - 1) / PARALLEL_RANGE_SIZE;
+				long middlePosition = this.beginPosition + (rangeCount / 2) * PARALLEL_RANGE_SIZE;
+				CRCRangeTask beginTask = new CRCRangeTask(this.crcConfig, this.checksumSupplier,
+						this.fileChannel, this.beginPosition, middlePosition);
+				CRCRangeTask endTask = new CRCRangeTask(this.crcConfig, this.checksumSupplier,
+						this.fileChannel, middlePosition, this.endPosition);
+				beginTask.fork();
+				long endValue = endTask.compute();
+				long beginValue = beginTask.join();
+				return this.crcConfig.combine(beginValue, endValue, this.endPosition - middlePosition);
 			}
-			String reverseValue = new StringBuilder(Long.toString(value, 2)).reverse().toString();
-			if (reverseValue.length() < bit) {
-				StringBuilder stringBuilder = new StringBuilder(reverseValue);
-				while (stringBuilder.length() < bit) {
-					stringBuilder.append("0");
+
+			//  Range data was read into one buffer reused by the whole range, no region was memory mapped,
+			//  so the file was released as soon as the channel closed
+			Checksum checksum = this.checksumSupplier.get();
+			ByteBuffer readBuffer = ByteBuffer.allocate((int) Math.min(length, CRC.BUFFER_SIZE));
+			long position = this.beginPosition;
+			try {
+				while (position < this.endPosition) {
+					readBuffer.clear();
+					readBuffer.limit((int) Math.min(readBuffer.capacity(), this.endPosition - position));
+					int readLength = this.fileChannel.read(readBuffer, position);
+					if (readLength == -1) {
+						throw new IOException("Unexpected end of file at position: " + position);
+					}
+					position += readLength;
+					readBuffer.flip();
+					checksum.update(readBuffer);
 				}
-				reverseValue = stringBuilder.toString();
-			} else {
-				reverseValue = reverseValue.substring(0, bit);
+			} catch (IOException e) {
+				throw new CRCException(e);
 			}
-			return Long.parseLong(reverseValue, 2);
+			return checksum.getValue();
 		}
 	}
 
@@ -430,6 +818,12 @@ public final class CRCUtils {
 		private final boolean refIn;
 		//  Reverse CRC result before final XOR
 		private final boolean refOut;
+		//  Mask of CRC bit
+		private final long mask;
+		//  CRC tables, built when first used
+		private volatile long[][] crcTables = null;
+		//  Zero bytes operators, operator k append 2^k zero bytes to register, built when first used
+		private volatile long[][] zeroOperators = null;
 
 		/**
 		 * Constructor
@@ -448,6 +842,175 @@ public final class CRCUtils {
 			this.outLength = (bit % 4 != 0) ? ((bit / 4) + 1) : (bit / 4);
 			this.refIn = refIn;
 			this.refOut = refOut;
+			this.mask = (bit == 64) ? -1L : ((1L << bit) - 1);
+		}
+
+		/**
+		 * Retrieve CRC tables, tables were built once and shared by all CRC instances of current config.
+		 * Table of reflected algorithm was built on low bits, others on high bits of long value.
+		 * Slice-by-8 tables were built if CRC bit was 16 and up.
+		 *
+		 * @return CRC tables
+		 */
+		long[][] crcTables() {
+			long[][] tables = this.crcTables;
+			if (tables == null) {
+				synchronized (this) {
+					tables = this.crcTables;
+					if (tables == null) {
+						tables = new long[this.bit >= 16 ? 8 : 1][256];
+						if (this.refIn) {
+							long polynomial = CRCUtils.CRC.reverseBit(this.polynomial, this.bit);
+							for (int i = 0 ; i < 256 ; i++) {
+								long crc = i;
+								for (int j = 0 ; j < 8 ; j++) {
+									crc = ((crc & 1L) != 0L) ? ((crc >>> 1) ^ polynomial) : (crc >>> 1);
+								}
+								tables[0][i] = crc;
+							}
+							for (int k = 1 ; k < tables.length ; k++) {
+								for (int i = 0 ; i < 256 ; i++) {
+									long crc = tables[k - 1][i];
+									tables[k][i] = (crc >>> 8) ^ tables[0][(int) crc & 0xFF];
+								}
+							}
+						} else {
+							long polynomial = this.polynomial << (64 - this.bit);
+							for (int i = 0 ; i < 256 ; i++) {
+								long crc = ((long) i) << 56;
+								for (int j = 0 ; j < 8 ; j++) {
+									crc = (crc < 0L) ? ((crc << 1) ^ polynomial) : (crc << 1);
+								}
+								tables[0][i] = crc;
+							}
+							for (int k = 1 ; k < tables.length ; k++) {
+								for (int i = 0 ; i < 256 ; i++) {
+									long crc = tables[k - 1][i];
+									tables[k][i] = (crc << 8) ^ tables[0][(int) (crc >>> 56)];
+								}
+							}
+						}
+						this.crcTables = tables;
+					}
+				}
+			}
+			return tables;
+		}
+
+		/**
+		 * Initialize register value, reflected in low bits or aligned to high bits
+		 *
+		 * @return register value
+		 */
+		long registerInit() {
+			return this.refIn ? CRCUtils.CRC.reverseBit(this.init, this.bit) : (this.init << (64 - this.bit));
+		}
+
+		/**
+		 * Convert register to crc value
+		 *
+		 * @param register  register value
+		 * @return          crc value
+		 */
+		long toValue(long register) {
+			long value = this.refIn ? register : (register >>> (64 - this.bit));
+			if (this.refIn != this.refOut) {
+				value = CRCUtils.CRC.reverseBit(value, this.bit);
+			}
+			return (value ^ this.xorOut) & this.mask;
+		}
+
+		/**
+		 * Convert crc value to register
+		 *
+		 * @param value     crc value
+		 * @return          register value
+		 */
+		long toRegister(long value) {
+			long register = (value ^ this.xorOut) & this.mask;
+			if (this.refIn != this.refOut) {
+				register = CRCUtils.CRC.reverseBit(register, this.bit);
+			}
+			return this.refIn ? register : (register << (64 - this.bit));
+		}
+
+		/**
+		 * Combine crc values of two data blocks.
+		 * Register of joined block is register of first block shifted by zero bytes of second block length,
+		 * XOR register of second block, initialize value was removed from first register to avoid applied twice.
+		 *
+		 * @param crc1      CRC value of first data block
+		 * @param crc2      CRC value of second data block
+		 * @param length2   Length of second data block
+		 * @return          CRC value of joined data block
+		 */
+		long combine(long crc1, long crc2, long length2) {
+			if (length2 <= 0L) {
+				return crc1;
+			}
+			long register = this.toRegister(crc1) ^ this.registerInit();
+			long[][] operators = this.zeroOperators();
+			int index = 0;
+			while (length2 != 0L) {
+				if ((length2 & 1L) != 0L) {
+					register = CRCConfig.multiply(operators[index], register);
+				}
+				length2 >>>= 1;
+				index++;
+			}
+			return this.toValue(register ^ this.toRegister(crc2));
+		}
+
+		/**
+		 * Retrieve zero bytes operators, operators were GF(2) matrix of 64 columns,
+		 * operator k append 2^k zero bytes to register
+		 *
+		 * @return Zero bytes operators
+		 */
+		private long[][] zeroOperators() {
+			long[][] operators = this.zeroOperators;
+			if (operators == null) {
+				synchronized (this) {
+					operators = this.zeroOperators;
+					if (operators == null) {
+						long[] crcTable = this.crcTables()[0];
+						operators = new long[63][64];
+						for (int i = 0 ; i < 64 ; i++) {
+							long register = 1L << i;
+							operators[0][i] = this.refIn
+									? (crcTable[(int) register & 0xFF] ^ (register >>> 8))
+									: (crcTable[(int) (register >>> 56)] ^ (register << 8));
+						}
+						for (int k = 1 ; k < operators.length ; k++) {
+							for (int i = 0 ; i < 64 ; i++) {
+								operators[k][i] = CRCConfig.multiply(operators[k - 1], operators[k - 1][i]);
+							}
+						}
+						this.zeroOperators = operators;
+					}
+				}
+			}
+			return operators;
+		}
+
+		/**
+		 * Multiply GF(2) matrix and vector
+		 *
+		 * @param matrix    matrix columns
+		 * @param vector    vector
+		 * @return          result vector
+		 */
+		private static long multiply(long[] matrix, long vector) {
+			long result = 0L;
+			int index = 0;
+			while (vector != 0L) {
+				if ((vector & 1L) != 0L) {
+					result ^= matrix[index];
+				}
+				vector >>>= 1;
+				index++;
+			}
+			return result;
 		}
 
 		/**
@@ -486,6 +1049,15 @@ public final class CRCUtils {
 			return xorOut;
 		}
 
+		/**
+		 * Gets the value of mask
+		 *
+		 * @return the value of mask
+		 */
+		public long getMask() {
+			return mask;
+		}
+
 		/**
 		 * Gets the value of outLength
 		 *
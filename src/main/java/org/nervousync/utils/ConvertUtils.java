@@ -46,6 +46,11 @@ public final class ConvertUtils {
 
 	private final static Logger LOGGER = LoggerFactory.getLogger(ConvertUtils.class);
 
+	/**
+	 * Hex characters table, using for convert byte array to hex string
+	 */
+	private final static char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
 	private ConvertUtils() {
 	}
 	
@@ -137,15 +142,13 @@ public final class ConvertUtils {
 			return Globals.DEFAULT_VALUE_STRING;
 		}
 
-		StringBuilder stringBuilder = new StringBuilder();
-		for (byte b : dataBytes) {
-			String tmp = Integer.toHexString(b & 0xFF);
-			if (tmp.length() == 1) {
-				stringBuilder.append("0");
-			}
-			stringBuilder.append(tmp);
+		char[] hexChars = new char[dataBytes.length * 2];
+		for (int i = 0 ; i < dataBytes.length ; i++) {
+			int value = dataBytes[i] & 0xFF;
+			hexChars[i * 2] = HEX_CHARS[value >>> 4];
+			hexChars[i * 2 + 1] = HEX_CHARS[value & 0x0F];
 		}
-		return stringBuilder.toString();
+		return new String(hexChars);
 	}
 	
 	/**
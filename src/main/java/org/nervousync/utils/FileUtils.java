@@ -35,6 +35,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -1979,6 +1980,21 @@ public final class FileUtils {
 					outputStream = new FileOutputStream(copyToPath);
 				}
 
+				if (inputStream instanceof FileInputStream && outputStream instanceof FileOutputStream) {
+					//	Local file was copied by FileChannel without passing through the Java heap
+					FileChannel inputChannel = ((FileInputStream) inputStream).getChannel();
+					FileChannel outputChannel = ((FileOutputStream) outputStream).getChannel();
+					long position = 0L, fileSize = inputChannel.size();
+					while (position < fileSize) {
+						long transferLength = inputChannel.transferTo(position, fileSize - position, outputChannel);
+						if (transferLength <= 0L) {
+							break;
+						}
+						position += transferLength;
+					}
+					return position == fileSize;
+				}
+
 				int len;
 				byte [] buffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
 
@@ -2244,12 +2260,29 @@ public final class FileUtils {
 	}
 
 	/**
-	 * Calculate file CRC value
+	 * Calculate file CRC value, local file was calculated by CRCUtils in parallel mode
 	 *
 	 * @param filePath file path
 	 * @return CRC value
 	 */
 	public static long calcFileCRC(String filePath) {
+		File localFile = null;
+		try {
+			localFile = FileUtils.getFile(filePath);
+		} catch (FileNotFoundException ignored) {
+		}
+
+		if (localFile != null && localFile.isFile()) {
+			try {
+				return CRCUtils.parallelCalculate("CRC-32/ISO-HDLC", localFile.toPath());
+			} catch (Exception e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Calculate file crc error! ", e);
+				}
+				return Globals.DEFAULT_VALUE_LONG;
+			}
+		}
+
 		InputStream inputStream = null;
 		try {
 			inputStream = FileUtils.loadFile(filePath);
@@ -2735,11 +2768,11 @@ public final class FileUtils {
 	}
 
 	/**
-	 * Replace page separator to "|"
+	 * Replace page separator to "|" and remove the last separator, using for compare or index file path
 	 * @param path      file path
 	 * @return          replaced file path
 	 */
-	private static String replacePageSeparator(String path) {
+	public static String replacePageSeparator(String path) {
 		String replacePath = StringUtils.replace(path, Globals.DEFAULT_PAGE_SEPARATOR, "|");
 		replacePath = StringUtils.replace(replacePath, "/", "|");
 		replacePath = StringUtils.replace(replacePath, "\\", "|");
@@ -17,9 +17,12 @@
 package org.nervousync.utils;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.security.*;
 import java.security.cert.*;
 import java.security.cert.Certificate;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.crypto.*;
@@ -60,6 +63,12 @@ public final class SecurityUtils implements Serializable {
 	 */
 	private transient static final Logger LOGGER = LoggerFactory.getLogger(SecurityUtils.class);
 
+	/**
+	 * MessageDigest instances of current thread, mapping key is standard algorithm name of MessageDigest
+	 */
+	private transient static final ThreadLocal<Map<String, MessageDigest>> DIGEST_CACHE =
+			ThreadLocal.withInitial(HashMap::new);
+
 	static {
 		Security.addProvider(new BouncyCastleProvider());
 	}
@@ -90,7 +99,7 @@ public final class SecurityUtils implements Serializable {
 	 */
 	@Deprecated
 	public static String SHA1(Object source) {
-		return digestEncode(source, "SHA1");
+		return digestEncode(source, "SHA-1");
 	}
 
 	/**
@@ -123,6 +132,64 @@ public final class SecurityUtils implements Serializable {
 		return digestEncode(source, "SM3");
 	}
 
+	/**
+	 * Calculate digest value of given source by given algorithm
+	 *
+	 * @param source    source object, file content was calculated if source is <code>File</code>
+	 * @param algorithm digest algorithm, e.g. MD5, SHA-256, SM3
+	 * @return digest bytes, or empty byte array if algorithm not supported
+	 */
+	public static byte[] digest(Object source, String algorithm) {
+		MessageDigest messageDigest = messageDigest(algorithm);
+		if (messageDigest == null) {
+			return new byte[0];
+		}
+		if (source instanceof File) {
+			digestFile((File)source, messageDigest);
+		} else {
+			byte[] tempBytes = ConvertUtils.convertToByteArray(source);
+			if (tempBytes != null) {
+				messageDigest.update(tempBytes);
+			}
+		}
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Calculate digest value of given range of byte array by given algorithm
+	 *
+	 * @param dataBytes data bytes
+	 * @param offset    offset of data bytes
+	 * @param length    length of data
+	 * @param algorithm digest algorithm, e.g. MD5, SHA-256, SM3
+	 * @return digest bytes, or empty byte array if algorithm not supported
+	 */
+	public static byte[] digest(byte[] dataBytes, int offset, int length, String algorithm) {
+		MessageDigest messageDigest = messageDigest(algorithm);
+		if (messageDigest == null) {
+			return new byte[0];
+		}
+		messageDigest.update(dataBytes, offset, length);
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Calculate digest value of remaining bytes of given buffer by given algorithm,
+	 * position of buffer was moved to limit
+	 *
+	 * @param byteBuffer data buffer, heap or direct buffer
+	 * @param algorithm  digest algorithm, e.g. MD5, SHA-256, SM3
+	 * @return digest bytes, or empty byte array if algorithm not supported
+	 */
+	public static byte[] digest(ByteBuffer byteBuffer, String algorithm) {
+		MessageDigest messageDigest = messageDigest(algorithm);
+		if (messageDigest == null) {
+			return new byte[0];
+		}
+		messageDigest.update(byteBuffer);
+		return messageDigest.digest();
+	}
+
 	/**
 	 * Signature data with HmacMD5
 	 *
@@ -1163,25 +1230,37 @@ public final class SecurityUtils implements Serializable {
 	 * @return calc value
 	 */
 	private static String digestEncode(Object source, String algorithm) {
-		MessageDigest messageDigest;
-
-		//	Initialize MessageDigest Instance
-		try {
-			messageDigest = MessageDigest.getInstance(algorithm, "BC");
-		} catch (NoSuchAlgorithmException | NoSuchProviderException ex) {
-			LOGGER.error("Initialize failed, maybe the MessageDigest does not support " + algorithm + "!", ex);
-			return Globals.DEFAULT_VALUE_STRING;
-		}
+		byte[] digestBytes = digest(source, algorithm);
+		return digestBytes.length == 0 ? Globals.DEFAULT_VALUE_STRING : ConvertUtils.byteToHex(digestBytes);
+	}
 
-		if (source instanceof File) {
-			digestFile((File)source, messageDigest);
-		} else {
-			byte[] tempBytes = ConvertUtils.convertToByteArray(source);
-			if (tempBytes != null) {
-				messageDigest.update(tempBytes);
+	/**
+	 * Load MessageDigest instance of current thread, instance was reset before return.
+	 * Instance was cached by standard algorithm name, so aliases of algorithm share one cached instance
+	 * and the cache size was limited by count of supported algorithms
+	 * @param algorithm	Calc algorithm
+	 * @return MessageDigest instance, or <code>null</code> if algorithm not supported
+	 */
+	private static MessageDigest messageDigest(String algorithm) {
+		Map<String, MessageDigest> digestMap = DIGEST_CACHE.get();
+		MessageDigest messageDigest = digestMap.get(algorithm);
+		if (messageDigest == null) {
+			//	Initialize MessageDigest Instance
+			try {
+				messageDigest = MessageDigest.getInstance(algorithm, "BC");
+			} catch (NoSuchAlgorithmException | NoSuchProviderException ex) {
+				LOGGER.error("Initialize failed, maybe the MessageDigest does not support " + algorithm + "!", ex);
+				return null;
 			}
+			MessageDigest cachedDigest = digestMap.putIfAbsent(messageDigest.getAlgorithm(), messageDigest);
+			if (cachedDigest != null) {
+				cachedDigest.reset();
+				return cachedDigest;
+			}
+		} else {
+			messageDigest.reset();
 		}
-		return ConvertUtils.byteToHex(messageDigest.digest());
+		return messageDigest;
 	}
 
 	/**
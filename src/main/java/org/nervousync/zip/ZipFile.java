@@ -17,6 +17,8 @@
 package org.nervousync.zip;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -24,19 +26,36 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.nervousync.commons.core.Globals;
 import org.nervousync.commons.core.zip.ZipConstants;
 import org.nervousync.commons.core.zip.ZipOptions;
 import org.nervousync.zip.crypto.Decryptor;
 import org.nervousync.zip.crypto.impl.aes.AESDecryptor;
+import org.nervousync.zip.crypto.impl.aes.AESKeyCache;
 import org.nervousync.zip.crypto.impl.standard.StandardDecryptor;
 import org.nervousync.zip.engine.AESEngine;
+import org.nervousync.zip.io.CompressedEntry;
 import org.nervousync.zip.io.SplitOutputStream;
 import org.nervousync.zip.io.ZipOutputStream;
 import org.nervousync.zip.io.input.InflaterInputStream;
@@ -58,6 +77,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.nervousync.zip.models.central.CentralDirectory;
+import org.nervousync.zip.models.central.CompactFileHeaders;
 import org.nervousync.zip.models.central.DigitalSignature;
 import org.nervousync.zip.models.central.EndCentralDirectoryRecord;
 import org.nervousync.zip.models.central.Zip64EndCentralDirectoryLocator;
@@ -68,7 +88,7 @@ import org.nervousync.zip.models.central.Zip64EndCentralDirectoryRecord;
  * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
  * @version $Revision: 1.0 $ $Date: Nov 28, 2017 5:01:20 PM $
  */
-public final class ZipFile implements Cloneable {
+public final class ZipFile implements Cloneable, Closeable {
 
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -112,11 +132,6 @@ public final class ZipFile implements Cloneable {
 	 * @see Zip64EndCentralDirectoryRecord
 	 */
 	private Zip64EndCentralDirectoryRecord zip64EndCentralDirectoryRecord = null;
-	/**
-	 * Decryptor instance
-	 * @see Decryptor
-	 */
-	private Decryptor decryptor = null;
 	/**
 	 * Archive is split file status
 	 */
@@ -133,6 +148,18 @@ public final class ZipFile implements Cloneable {
 	 * Is Zip64 format
 	 */
 	private boolean zip64Format = Globals.DEFAULT_VALUE_BOOLEAN;
+	/**
+	 * Read only status, read only zip file can be shared by multiple threads
+	 */
+	private boolean readOnly = Globals.DEFAULT_VALUE_BOOLEAN;
+	/**
+	 * Shared file handler of read only zip file
+	 */
+	private NervousyncRandomAccessFile sharedInput = null;
+	/**
+	 * Derived key cache of AES encrypted entries, wiped when zip file closed
+	 */
+	private final AESKeyCache aesKeyCache = new AESKeyCache(ZipConstants.AES_KEY_CACHE_SIZE);
 	
 	/**
 	 * ZipFile Constructor
@@ -197,6 +224,31 @@ public final class ZipFile implements Cloneable {
 		this.splitLength = splitLength;
 	}
 
+	/**
+	 * Open zip file in read only mode using default character encoding.
+	 * Read only zip file can be shared by multiple threads, all entry streams share one file handler
+	 * and read data by position, the file handler will be released when close the zip file
+	 * @param filePath			Zip file path
+	 * @return					ZipFile instance
+	 * @throws ZipException		Zip file cannot access and read
+	 */
+	public static ZipFile openReadOnly(String filePath) throws ZipException {
+		return ZipFile.openReadOnly(filePath, Globals.DEFAULT_ENCODING);
+	}
+
+	/**
+	 * Open zip file in read only mode
+	 * @param filePath			Zip file path
+	 * @param fileNameCharset	File name charset encoding
+	 * @return					ZipFile instance
+	 * @throws ZipException		Zip file cannot access and read
+	 */
+	public static ZipFile openReadOnly(String filePath, String fileNameCharset) throws ZipException {
+		ZipFile zipFile = new ZipFile(filePath, fileNameCharset);
+		zipFile.readOnly = true;
+		return zipFile;
+	}
+
 	/**
 	 * Create zip file using default character encoding
 	 * @param filePath			Zip file path
@@ -355,6 +407,53 @@ public final class ZipFile implements Cloneable {
 		return zipFile;
 	}
 
+	/**
+	 * Open streaming zip writer using default character encoding
+	 * @param outputStream		Target output stream
+	 * @return					ZipOutputStream instance
+	 * @throws ZipException		Output stream is null
+	 * @see #openStreamWriter(OutputStream, String)
+	 */
+	public static ZipOutputStream openStreamWriter(OutputStream outputStream) throws ZipException {
+		return ZipFile.openStreamWriter(outputStream, Globals.DEFAULT_ENCODING);
+	}
+
+	/**
+	 * Open streaming zip writer on given output stream, e.g. servlet response stream.
+	 * Entries were written with data descriptor and the writer never seek back to target stream,
+	 * only central directory was kept in memory until ZipOutputStream#finish() was called.
+	 * Add data by ZipOutputStream#putNextEntry, write, closeEntry and call finish before close the stream,
+	 * external data should set ZipOptions#sourceExternalStream and ZipOptions#fileNameInZip
+	 * @param outputStream		Target output stream
+	 * @param charsetName		File name charset encoding
+	 * @return					ZipOutputStream instance
+	 * @throws ZipException		Output stream is null
+	 */
+	public static ZipOutputStream openStreamWriter(OutputStream outputStream, String charsetName)
+			throws ZipException {
+		if (outputStream == null) {
+			throw new ZipException("Output stream is null!");
+		}
+		return new ZipOutputStream(outputStream,
+				new ZipFile(null, charsetName, Globals.DEFAULT_VALUE_BOOLEAN, Globals.DEFAULT_VALUE_LONG));
+	}
+
+	/**
+	 * Open streaming zip writer on given writable channel
+	 * @param writableByteChannel	Target channel
+	 * @param charsetName			File name charset encoding
+	 * @return						ZipOutputStream instance
+	 * @throws ZipException			Channel is null
+	 * @see #openStreamWriter(OutputStream, String)
+	 */
+	public static ZipOutputStream openStreamWriter(WritableByteChannel writableByteChannel, String charsetName)
+			throws ZipException {
+		if (writableByteChannel == null) {
+			throw new ZipException("Writable channel is null!");
+		}
+		return ZipFile.openStreamWriter(Channels.newOutputStream(writableByteChannel), charsetName);
+	}
+
 	/**
 	 * Generate entity path
 	 * @param file				Which file path will add to zip file
@@ -436,12 +535,8 @@ public final class ZipFile implements Cloneable {
 	 * @return				check result
 	 */
 	public boolean isEntryExists(String entryPath) {
-		for (GeneralFileHeader generalFileHeader : this.centralDirectory.getFileHeaders()) {
-			if (generalFileHeader.getEntryPath().equals(entryPath)) {
-				return true;
-			}
-		}
-		return Globals.DEFAULT_VALUE_BOOLEAN;
+		GeneralFileHeader generalFileHeader = this.centralDirectory.retrieveGeneralFileHeader(entryPath);
+		return generalFileHeader != null && generalFileHeader.getEntryPath().equals(entryPath);
 	}
 
 	/**
@@ -452,9 +547,7 @@ public final class ZipFile implements Cloneable {
 	 * @throws ZipException		file list is empty or zipOptions is null
 	 */
 	public int readEntryLength(String entryPath) throws ZipException {
-		if (FileUtils.isExists(this.filePath) && this.splitArchive) {
-			throw new ZipException("This is a split archive. Zip file format does not allow updating split/spanned files");
-		}
+		this.splitReadCheck();
 		return this.readEntryLength(this.retrieveGeneralFileHeader(entryPath));
 	}
 	
@@ -465,9 +558,7 @@ public final class ZipFile implements Cloneable {
 	 * @throws ZipException		file list is empty or zipOptions is null
 	 */
 	public byte[] readEntry(String entryPath) throws ZipException {
-		if (FileUtils.isExists(this.filePath) && this.splitArchive) {
-			throw new ZipException("This is a split archive. Zip file format does not allow updating split/spanned files");
-		}
+		this.splitReadCheck();
 
 		return this.readEntry(this.retrieveGeneralFileHeader(entryPath));
 	}
@@ -479,12 +570,32 @@ public final class ZipFile implements Cloneable {
 	 * @throws ZipException	File is split archive
 	 */
 	public InputStream entryInputStream(String entryPath) throws ZipException {
-		if (FileUtils.isExists(this.filePath) && this.splitArchive) {
-			throw new ZipException("This is a split archive. Zip file format does not allow updating split/spanned files");
-		}
+		this.splitReadCheck();
 
 		return this.openInputStream(this.retrieveGeneralFileHeader(entryPath));
 	}
+
+	/**
+	 * Open input stream by given entry path and seek to given position of entry data,
+	 * using for read a range of entry, e.g. HTTP range request
+	 * @param entryPath		Zip entry path
+	 * @param position		Position of entry data
+	 * @return				Opened input stream
+	 * @throws ZipException	File is split archive or invalid position
+	 * @see ZipInputStream#seek(long)
+	 */
+	public ZipInputStream entryInputStream(String entryPath, long position) throws ZipException {
+		this.splitReadCheck();
+
+		ZipInputStream inputStream = this.openInputStream(this.retrieveGeneralFileHeader(entryPath));
+		try {
+			inputStream.seek(position);
+		} catch (IOException e) {
+			IOUtils.closeStream(inputStream);
+			throw new ZipException(e);
+		}
+		return inputStream;
+	}
 	
 	/**
 	 * Add file to zip file
@@ -528,10 +639,18 @@ public final class ZipFile implements Cloneable {
 		}
 
 		this.appendCheck(zipOptions);
-		this.addFilesToZip(fileList, zipOptions);
+		this.addFilesToZip(fileList, zipOptions, new ArrayList<>());
+	}
+
+	private void splitReadCheck() throws ZipException {
+		if (FileUtils.isExists(this.filePath) && this.splitArchive) {
+			throw new ZipException("This is a split archive. Reading entry data of split/spanned files is not supported, "
+					+ "merge split files by mergeSplitFile first");
+		}
 	}
 
 	private void appendCheck(ZipOptions zipOptions) throws ZipException {
+		this.writableCheck();
 		if (zipOptions == null) {
 			throw new ZipException("Zip options is null!");
 		}
@@ -612,7 +731,100 @@ public final class ZipFile implements Cloneable {
 
 		this.centralDirectory.getFileHeaders().forEach(generalFileHeader -> this.extractFile(generalFileHeader, destPath, ignoreFileAttr));
 	}
-	
+
+	/**
+	 * Extract all entries in zip file to target extract file path by given count of worker threads
+	 * @param destPath			Target extract file path
+	 * @param ignoreFileAttr	Status of process file attribute
+	 * @param threadCount		Count of worker threads, extract in current thread if less than 2
+	 * @throws ZipException		Target path is null or zip file invalid or any entry extract failed
+	 */
+	public void extractAll(String destPath, boolean ignoreFileAttr, int threadCount) throws ZipException {
+		if (threadCount <= 1 || this.splitArchive) {
+			this.extractAll(destPath, ignoreFileAttr);
+			return;
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			this.extractAll(destPath, ignoreFileAttr, executorService);
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Extract all entries in zip file to target extract file path by given executor.
+	 * Every file entry will be extracted in an independent task which using its own file handler,
+	 * inflater and decryptor, and the extracted data will be verified by CRC or MAC
+	 * @param destPath			Target extract file path
+	 * @param ignoreFileAttr	Status of process file attribute
+	 * @param executor			Executor instance for running extract tasks
+	 * @throws ZipException		Target path is null or zip file invalid or any entry extract failed
+	 */
+	public void extractAll(String destPath, boolean ignoreFileAttr, Executor executor) throws ZipException {
+		if (StringUtils.isEmpty(destPath)) {
+			throw new ZipException("Destination path is null!");
+		}
+
+		if (this.centralDirectory == null || this.centralDirectory.getFileHeaders() == null) {
+			throw new ZipException("Invalid central directory in zip entity");
+		}
+
+		if (executor == null) {
+			throw new ZipException("Executor is null!");
+		}
+
+		if (this.splitArchive) {
+			//	Split archive switch the split file in sequence, extract in current thread
+			this.extractAll(destPath, ignoreFileAttr);
+			return;
+		}
+
+		String basePath = destPath.endsWith(Globals.DEFAULT_PAGE_SEPARATOR)
+				? destPath : destPath + Globals.DEFAULT_PAGE_SEPARATOR;
+		List<CompletableFuture<Void>> extractTasks = new ArrayList<>();
+		//	Remaining entries were skipped after any entry extract failed
+		AtomicBoolean extractFailed = new AtomicBoolean(Boolean.FALSE);
+
+		for (GeneralFileHeader generalFileHeader : this.centralDirectory.getFileHeaders()) {
+			if (extractFailed.get()) {
+				break;
+			}
+			if (generalFileHeader.isDirectory()) {
+				this.extractFile(generalFileHeader, basePath, ignoreFileAttr);
+			} else {
+				//	Create parent folders before submit task, avoid create the same folder in multiple threads
+				String targetPath = StringUtils.replace(basePath + generalFileHeader.getEntryPath(),
+						ZipConstants.ZIP_FILE_SEPARATOR, Globals.DEFAULT_PAGE_SEPARATOR);
+				if (!FileUtils.makeDir(targetPath.substring(0, targetPath.lastIndexOf(Globals.DEFAULT_PAGE_SEPARATOR)))) {
+					throw new ZipException("Create output folder error!");
+				}
+				extractTasks.add(CompletableFuture.runAsync(() -> {
+					if (extractFailed.get()) {
+						return;
+					}
+					try {
+						this.extractFile(generalFileHeader, basePath, ignoreFileAttr);
+					} catch (RuntimeException e) {
+						extractFailed.set(Boolean.TRUE);
+						throw e;
+					}
+				}, executor));
+			}
+		}
+
+		try {
+			CompletableFuture.allOf(extractTasks.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof ZipException) {
+				throw (ZipException)e.getCause();
+			} else {
+				throw new ZipException(e.getCause());
+			}
+		}
+	}
+
 	/**
 	 * Extract entry path file to target extra file path
 	 * @param entryPath			Which entry path will extract
@@ -684,6 +896,30 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 	
+	/**
+	 * Remove entry paths and add files to zip file by single rewrite of zip file
+	 * @param removeEntries		Which entry paths will removed
+	 * @param fileList			Target files will add to zip file
+	 * @param zipOptions		Zip options
+	 * @see ZipOptions
+	 * @throws ZipException		zipOptions is null or zip file was split archive
+	 */
+	public void updateEntries(List<String> removeEntries, List<String> fileList, ZipOptions zipOptions)
+			throws ZipException {
+		this.appendCheck(zipOptions);
+		
+		List<String> entryList = removeEntries == null ? new ArrayList<>() : new ArrayList<>(removeEntries);
+		if (fileList == null || fileList.isEmpty()) {
+			this.removeFilesIfExists(entryList);
+		} else {
+			this.addFilesToZip(fileList, zipOptions, entryList);
+		}
+		
+		if (this.isNoEntry()) {
+			FileUtils.removeFile(this.filePath);
+		}
+	}
+	
 	/**
 	 * Setting password
 	 * @param password			password
@@ -707,6 +943,11 @@ public final class ZipFile implements Cloneable {
 			throw new ZipException("Invalid zip file");
 		}
 		
+		if (this.centralDirectory.getFileHeaders() instanceof CompactFileHeaders) {
+			((CompactFileHeaders) this.centralDirectory.getFileHeaders()).setPassword(password);
+			return;
+		}
+
 		for (int i = 0 ; i < this.centralDirectory.getFileHeaders().size() ; i++) {
 			if (this.centralDirectory.getFileHeaders().get(i) != null
 					&& this.centralDirectory.getFileHeaders().get(i).isEncrypted()) {
@@ -725,6 +966,8 @@ public final class ZipFile implements Cloneable {
 			throw new ZipException("input comment is null, cannot update zip file");
 		}
 		
+		this.writableCheck();
+		
 		if (!FileUtils.isExists(this.filePath)) {
 			throw new ZipException("zip file does not exist, cannot set comment for zip file");
 		}
@@ -838,7 +1081,7 @@ public final class ZipFile implements Cloneable {
 			throw new ZipException("corrupt zip entity, archive not a split zip file");
 		}
 		
-		OutputStream outputStream;
+		OutputStream outputStream = null;
 		NervousyncRandomAccessFile input = null;
 		List<Long> sizeList = new ArrayList<>();
 		long totalWriteBytes = 0L;
@@ -876,6 +1119,9 @@ public final class ZipFile implements Cloneable {
 				totalWriteBytes += (end - start);
 				
 				sizeList.add(end);
+				
+				IOUtils.closeStream(input);
+				input = null;
 			}
 			
 			ZipFile newFile = (ZipFile)this.clone();
@@ -891,6 +1137,7 @@ public final class ZipFile implements Cloneable {
 			}
 		} finally {
 			IOUtils.closeStream(input);
+			IOUtils.closeStream(outputStream);
 		}
 	}
 
@@ -912,6 +1159,12 @@ public final class ZipFile implements Cloneable {
 
 		int sizeOfCentralDirectory = this.writeCentralDirectory(outputStream, headerBytesList);
 
+		if (offsetCentralDirectory >= ZipConstants.ZIP_64_LIMIT
+				|| (this.centralDirectory != null && this.centralDirectory.getFileHeaders() != null
+				&& this.centralDirectory.getFileHeaders().size() >= ZipConstants.ZIP64_ENTRY_LIMIT)) {
+			this.zip64Format = true;
+		}
+
 		if (this.zip64Format) {
 			this.checkZip64Format();
 			this.zip64EndCentralDirectoryLocator
@@ -953,6 +1206,19 @@ public final class ZipFile implements Cloneable {
 
 		return new NervousyncRandomAccessFile(currentSplitFile, Globals.WRITE_MODE);
 	}
+
+	/**
+	 * Release shared file handler of read only zip file and wipe cached AES derived keys
+	 * @throws IOException		Close file handler failed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		this.aesKeyCache.clear();
+		if (this.sharedInput != null) {
+			this.sharedInput.close();
+			this.sharedInput = null;
+		}
+	}
 	
 	/**
 	 * @return the centralDirectory
@@ -1101,6 +1367,7 @@ public final class ZipFile implements Cloneable {
 	}
 
 	private void removeFilesIfExists(List<String> entryList) throws ZipException {
+		this.writableCheck();
 		if (this.centralDirectory == null 
 				|| this.centralDirectory.getFileHeaders() == null                           
 				|| this.centralDirectory.getFileHeaders().size() == 0) {
@@ -1108,12 +1375,18 @@ public final class ZipFile implements Cloneable {
 			return;
 		}
 
+		//	General file header does not override equals, so the headers were matched by identity
+		Set<GeneralFileHeader> removeHeaders = Collections.newSetFromMap(new IdentityHashMap<>());
 		for (String entryPath : entryList) {
 			GeneralFileHeader generalFileHeader = this.retrieveGeneralFileHeader(entryPath);
 			if (generalFileHeader != null) {
-				this.removeExistsFile(generalFileHeader);
+				removeHeaders.add(generalFileHeader);
 			}
 		}
+		
+		if (!removeHeaders.isEmpty()) {
+			this.removeExistsFiles(removeHeaders);
+		}
 	}
 
 	private ZipOutputStream openOutputStream() throws IOException {
@@ -1287,7 +1560,8 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 	
-	private void addFilesToZip(List<String> fileList, ZipOptions zipOptions) throws ZipException {
+	private void addFilesToZip(List<String> fileList, ZipOptions zipOptions, List<String> entryList)
+			throws ZipException {
 		if (fileList == null || fileList.isEmpty()) {
 			throw new ZipException("No file to added");
 		}
@@ -1302,53 +1576,30 @@ public final class ZipFile implements Cloneable {
 		}
 		
 		ZipOutputStream outputStream = null;
-		InputStream inputStream = null;
 		
 		try {
 			this.checkOptions(zipOptions);
-			List<String> entryList = new ArrayList<>();
 			for (String filePath : fileList) {
 				entryList.add(ZipFile.getRelativeFileName(filePath, 
 						zipOptions.getRootFolderInZip(), zipOptions.getDefaultFolderPath()));
 			}
 			this.removeFilesIfExists(entryList);
 
-			byte[] readBuffer = new byte[ZipConstants.BUFFER_SIZE];
-			int readLength;
-
 			outputStream = this.openOutputStream();
 
-			for (String filePath : fileList) {
-				ZipOptions fileOptions = (ZipOptions)zipOptions.clone();
-				
-				if (!FileUtils.isDirectory(filePath)) {
-					if (fileOptions.isEncryptFiles() 
-							&& fileOptions.getEncryptionMethod() == ZipConstants.ENC_METHOD_STANDARD) {
-						fileOptions.setSourceFileCRC(FileUtils.calcFileCRC(filePath));
-					}
-					
-					if (FileUtils.getFileSize(filePath) == 0L) {
-						fileOptions.setCompressionMethod(ZipConstants.COMP_STORE);
-					}
-				}
-				
-				outputStream.putNextEntry(FileUtils.getFile(filePath), fileOptions);
-				if (FileUtils.isDirectory(filePath)) {
-					outputStream.closeEntry();
-					continue;
-				}
-				
-				inputStream = FileUtils.loadFile(filePath);
-				if (inputStream == null) {
-					throw new ZipException("Load file error!");
+			if (zipOptions.getExecutor() != null) {
+				this.writeEntries(outputStream, fileList, zipOptions, zipOptions.getExecutor());
+			} else if (zipOptions.getThreadCount() > 1) {
+				ExecutorService executorService = Executors.newFixedThreadPool(zipOptions.getThreadCount());
+				try {
+					this.writeEntries(outputStream, fileList, zipOptions, executorService);
+				} finally {
+					executorService.shutdownNow();
 				}
-				
-				while ((readLength = inputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
-					outputStream.write(readBuffer, 0, readLength);
+			} else {
+				for (String filePath : fileList) {
+					this.writeEntry(outputStream, filePath, this.entryOptions(filePath, zipOptions, true));
 				}
-				
-				outputStream.closeEntry();
-				inputStream.close();
 			}
 			
 			outputStream.finish();
@@ -1359,10 +1610,124 @@ public final class ZipFile implements Cloneable {
 				throw new ZipException(e);
 			}
 		} finally {
-			IOUtils.closeStream(inputStream);
 			IOUtils.closeStream(outputStream);
 		}
 	}
+
+	private ZipOptions entryOptions(String filePath, ZipOptions zipOptions, boolean calcCRC)
+			throws CloneNotSupportedException {
+		ZipOptions fileOptions = (ZipOptions)zipOptions.clone();
+
+		if (!FileUtils.isDirectory(filePath)) {
+			if (calcCRC && fileOptions.isEncryptFiles()
+					&& fileOptions.getEncryptionMethod() == ZipConstants.ENC_METHOD_STANDARD) {
+				fileOptions.setSourceFileCRC(FileUtils.calcFileCRC(filePath));
+			}
+
+			if (FileUtils.getFileSize(filePath) == 0L) {
+				fileOptions.setCompressionMethod(ZipConstants.COMP_STORE);
+			}
+		}
+		return fileOptions;
+	}
+
+	private void writeEntry(ZipOutputStream outputStream, String filePath, ZipOptions fileOptions)
+			throws IOException {
+		outputStream.putNextEntry(FileUtils.getFile(filePath), fileOptions);
+		if (FileUtils.isDirectory(filePath)) {
+			outputStream.closeEntry();
+			return;
+		}
+
+		InputStream inputStream = null;
+		try {
+			inputStream = FileUtils.loadFile(filePath);
+			if (inputStream == null) {
+				throw new ZipException("Load file error!");
+			}
+
+			byte[] readBuffer = new byte[ZipConstants.BUFFER_SIZE];
+			int readLength;
+			while ((readLength = inputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
+				outputStream.write(readBuffer, 0, readLength);
+			}
+
+			outputStream.closeEntry();
+		} finally {
+			IOUtils.closeStream(inputStream);
+		}
+	}
+
+	/**
+	 * Compress and encrypt entries in worker threads, write entries in given order by current thread.
+	 * Folders and files which size is greater than ZipConstants.PARALLEL_ENTRY_SIZE_LIMIT
+	 * will be written by current thread in stream mode.
+	 * Total size of entries submitted and not written is limited by ZipConstants.PARALLEL_BUFFER_LIMIT
+	 */
+	private void writeEntries(ZipOutputStream outputStream, List<String> fileList, ZipOptions zipOptions,
+			Executor executor) throws IOException, CloneNotSupportedException {
+		//	Limit count of compressed entries in memory
+		int windowSize = Math.max(zipOptions.getThreadCount(), Runtime.getRuntime().availableProcessors()) * 2;
+		List<ZipOptions> optionsList = new ArrayList<>(fileList.size());
+		List<CompletableFuture<CompressedEntry>> taskList = new ArrayList<>(fileList.size());
+		long[] entrySizes = new long[fileList.size()];
+		long bufferedSize = 0L;
+
+		try {
+			for (int i = 0 ; i < fileList.size() ; i++) {
+				while (taskList.size() < fileList.size() && taskList.size() < i + windowSize) {
+					int index = taskList.size();
+					String filePath = fileList.get(index);
+					long fileSize = FileUtils.isDirectory(filePath) ? Globals.DEFAULT_VALUE_LONG : FileUtils.getFileSize(filePath);
+					if (fileSize < 0L || fileSize > ZipConstants.PARALLEL_ENTRY_SIZE_LIMIT) {
+						optionsList.add(this.entryOptions(filePath, zipOptions, true));
+						taskList.add(null);
+					} else {
+						if (index > i && bufferedSize + fileSize > ZipConstants.PARALLEL_BUFFER_LIMIT) {
+							//	Wait for writing the submitted entries, at least the current entry was submitted
+							break;
+						}
+						ZipOptions fileOptions = this.entryOptions(filePath, zipOptions, Globals.DEFAULT_VALUE_BOOLEAN);
+						optionsList.add(fileOptions);
+						entrySizes[index] = fileSize;
+						bufferedSize += fileSize;
+						taskList.add(CompletableFuture.supplyAsync(
+								() -> CompressedEntry.compress(filePath, fileOptions), executor));
+					}
+				}
+
+				String filePath = fileList.get(i);
+				ZipOptions fileOptions = optionsList.get(i);
+				CompletableFuture<CompressedEntry> compressTask = taskList.get(i);
+				if (compressTask == null) {
+					this.writeEntry(outputStream, filePath, fileOptions);
+				} else {
+					CompressedEntry compressedEntry;
+					try {
+						compressedEntry = compressTask.join();
+					} catch (CompletionException e) {
+						if (e.getCause() instanceof ZipException) {
+							throw (ZipException)e.getCause();
+						}
+						throw new ZipException(e.getCause());
+					}
+					//	Standard encryption need CRC value of source file
+					fileOptions.setSourceFileCRC(compressedEntry.getCrc());
+					outputStream.writeCompressedEntry(FileUtils.getFile(filePath), fileOptions, compressedEntry);
+					//	Release compressed data
+					taskList.set(i, null);
+					bufferedSize -= entrySizes[i];
+				}
+			}
+		} finally {
+			//	Cancel the submitted tasks when write failed, shared executor was not shut down
+			for (CompletableFuture<CompressedEntry> compressTask : taskList) {
+				if (compressTask != null) {
+					compressTask.cancel(Boolean.TRUE);
+				}
+			}
+		}
+	}
 	
 	private void checkOptions(ZipOptions zipOptions) throws ZipException {
 		if (zipOptions == null) {
@@ -1392,11 +1757,14 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 
-	private void removeExistsFile(GeneralFileHeader generalFileHeader) throws ZipException {
-		if (generalFileHeader == null) {
-			throw new ZipException("input parameters is null in maintain zip file, cannot remove file from archive");
-		}
-
+	/**
+	 * Remove given file headers by single rewrite of zip file.
+	 * Data of surviving entries is copied as contiguous ranges into a temp file,
+	 * then the offsets of surviving entries are shifted and the central directory is written once
+	 * @param removeHeaders		File headers will removed
+	 * @throws ZipException		Wrong password or copy data error
+	 */
+	private void removeExistsFiles(Set<GeneralFileHeader> removeHeaders) throws ZipException {
 		if (this.splitArchive) {
 			throw new ZipException("Unsupported updating split/spanned zip file! ");
 		}
@@ -1407,31 +1775,14 @@ public final class ZipFile implements Cloneable {
 		String tempFileName = this.filePath + System.currentTimeMillis() % 1000L;
 		
 		try {
-			int indexOfHeader = this.retrieveIndexOfGeneralFileHeader(generalFileHeader);
-			if (indexOfHeader < 0) {
-				throw new ZipException("File header not found in zip entity, cannot remove file!");
-			}
-			
-			while (FileUtils.isExists(tempFileName)) {
-				tempFileName = this.filePath + System.currentTimeMillis() % 1000L;
-			}
-			
-			try {
-				outputStream = new SplitOutputStream(tempFileName);
-			} catch (FileNotFoundException e) {
-				throw new ZipException(e);
-			}
-			
 			input = this.createFileHandler();
-
-			if (!this.readLocalFileHeader(input, generalFileHeader).verifyPassword(input)) {
-				throw new ZipException("Wrong password or Unsupported encryption method!");
-			}
-			
-			long offsetLocalFileHeader = generalFileHeader.getOffsetLocalHeader();
-			if (generalFileHeader.getZip64ExtendInfo() != null 
-					&& generalFileHeader.getZip64ExtendInfo().getOffsetLocalHeader() != Globals.DEFAULT_VALUE_LONG) {
-				offsetLocalFileHeader = generalFileHeader.getZip64ExtendInfo().getOffsetLocalHeader();
+			for (GeneralFileHeader generalFileHeader : removeHeaders) {
+				if (this.retrieveIndexOfGeneralFileHeader(generalFileHeader) < 0) {
+					throw new ZipException("File header not found in zip entity, cannot remove file!");
+				}
+				if (!this.readLocalFileHeader(input, generalFileHeader).verifyPassword(input, this.aesKeyCache)) {
+					throw new ZipException("Wrong password or Unsupported encryption method!");
+				}
 			}
 			
 			long offsetStartCentralDirectory = this.endCentralDirectoryRecord.getOffsetOfStartOfCentralDirectory();
@@ -1439,51 +1790,67 @@ public final class ZipFile implements Cloneable {
 				offsetStartCentralDirectory = this.zip64EndCentralDirectoryRecord.getOffsetStartCenDirWRTStartDiskNo();
 			}
 			
-			long offsetEndOfCompressedFile = Globals.DEFAULT_VALUE_LONG;
-			
-			List<GeneralFileHeader> fileHeaders = this.centralDirectory.getFileHeaders();
-			if (indexOfHeader == fileHeaders.size() - 1) {
-				offsetEndOfCompressedFile = offsetStartCentralDirectory - 1;
-			} else {
-				GeneralFileHeader nextFileHeader = fileHeaders.get(indexOfHeader + 1);
-				if (nextFileHeader != null) {
-					offsetEndOfCompressedFile = nextFileHeader.getOffsetLocalHeader() - 1;
-					if (nextFileHeader.getZip64ExtendInfo() != null 
-							&& nextFileHeader.getZip64ExtendInfo().getOffsetLocalHeader() != Globals.DEFAULT_VALUE_LONG) {
-						offsetEndOfCompressedFile = nextFileHeader.getZip64ExtendInfo().getOffsetLocalHeader() - 1;
+			//	Entries ordered by local header offset, data of each entry ends at the next local header
+			List<GeneralFileHeader> sortedHeaders = new ArrayList<>(this.centralDirectory.getFileHeaders());
+			sortedHeaders.sort(Comparator.comparingLong(ZipFile::offsetLocalHeader));
+			
+			List<long[]> copyRanges = new ArrayList<>();
+			List<Long> shiftOffsets = new ArrayList<>();
+			long rangeBegin = 0L;
+			long removedLength = 0L;
+			for (int i = 0 ; i < sortedHeaders.size() ; i++) {
+				GeneralFileHeader generalFileHeader = sortedHeaders.get(i);
+				long offsetLocalFileHeader = offsetLocalHeader(generalFileHeader);
+				long offsetEndOfCompressedFile = (i == sortedHeaders.size() - 1)
+						? offsetStartCentralDirectory
+						: offsetLocalHeader(sortedHeaders.get(i + 1));
+				if (offsetLocalFileHeader < 0L || offsetEndOfCompressedFile < offsetLocalFileHeader) {
+					throw new ZipException("invalid offset for start and end of local file, cannot remove file");
+				}
+				
+				if (removeHeaders.contains(generalFileHeader)) {
+					if (offsetLocalFileHeader > rangeBegin) {
+						copyRanges.add(new long[]{rangeBegin, offsetLocalFileHeader});
 					}
+					rangeBegin = offsetEndOfCompressedFile;
+					removedLength += (offsetEndOfCompressedFile - offsetLocalFileHeader);
 				}
+				shiftOffsets.add(removedLength);
+			}
+			if (offsetStartCentralDirectory > rangeBegin) {
+				copyRanges.add(new long[]{rangeBegin, offsetStartCentralDirectory});
+			}
+			
+			while (FileUtils.isExists(tempFileName)) {
+				tempFileName = this.filePath + System.currentTimeMillis() % 1000L;
 			}
 			
-			if (offsetLocalFileHeader < 0L || offsetEndOfCompressedFile < 0L) {
-				throw new ZipException("invalid offset for start and end of local file, cannot remove file");
+			outputStream = new SplitOutputStream(tempFileName);
+			for (long[] copyRange : copyRanges) {
+				this.copyFile(input, outputStream, copyRange[0], copyRange[1]);
 			}
 			
-			if (indexOfHeader == 0) {
-				if (this.centralDirectory.getFileHeaders().size() > 1) {
-					this.copyFile(input, outputStream, offsetEndOfCompressedFile + 1L, offsetStartCentralDirectory);
+			for (int i = 0 ; i < sortedHeaders.size() ; i++) {
+				GeneralFileHeader generalFileHeader = sortedHeaders.get(i);
+				long offsetLocalHeader = offsetLocalHeader(generalFileHeader) - shiftOffsets.get(i);
+				generalFileHeader.setOffsetLocalHeader(offsetLocalHeader);
+				if (generalFileHeader.getZip64ExtendInfo() != null 
+						&& generalFileHeader.getZip64ExtendInfo().getOffsetLocalHeader() != Globals.DEFAULT_VALUE_LONG) {
+					generalFileHeader.getZip64ExtendInfo().setOffsetLocalHeader(offsetLocalHeader);
 				}
-			} else if (indexOfHeader == (fileHeaders.size() - 1)) {
-				this.copyFile(input, outputStream, 0, offsetLocalFileHeader);
-			} else {
-				this.copyFile(input, outputStream, 0, offsetLocalFileHeader);
-				this.copyFile(input, outputStream, offsetEndOfCompressedFile + 1L, offsetStartCentralDirectory);
 			}
 			
-			this.endCentralDirectoryRecord.setOffsetOfStartOfCentralDirectory(outputStream.getFilePointer());
-			this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectory(this.endCentralDirectoryRecord.getTotalOfEntriesInCentralDirectory() - 1);
-			this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectoryOnThisDisk(this.endCentralDirectoryRecord.getTotalOfEntriesInCentralDirectoryOnThisDisk() - 1);
+			List<GeneralFileHeader> fileHeaders = new ArrayList<>(this.centralDirectory.getFileHeaders());
+			fileHeaders.removeIf(removeHeaders::contains);
+			this.centralDirectory.setFileHeaders(fileHeaders);
 			
-			this.centralDirectory.getFileHeaders().remove(indexOfHeader);
-			
-			for (int i = indexOfHeader ; i < this.centralDirectory.getFileHeaders().size() ; i++) {
-				long offsetLocalHeader = this.centralDirectory.getFileHeaders().get(i).getOffsetLocalHeader();
-				if (this.centralDirectory.getFileHeaders().get(i).getZip64ExtendInfo() != null
-						&& this.centralDirectory.getFileHeaders().get(i).getZip64ExtendInfo().getOffsetLocalHeader() != Globals.DEFAULT_VALUE_LONG) {
-					offsetLocalHeader = this.centralDirectory.getFileHeaders().get(i).getZip64ExtendInfo().getOffsetLocalHeader();
-				}
-				
-				this.centralDirectory.getFileHeaders().get(i).setOffsetLocalHeader(offsetLocalHeader - (offsetEndOfCompressedFile - offsetLocalFileHeader) - 1);
+			this.endCentralDirectoryRecord.setOffsetOfStartOfCentralDirectory(outputStream.getFilePointer());
+			this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectory(fileHeaders.size());
+			this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectoryOnThisDisk(fileHeaders.size());
+			if (this.zip64Format && this.zip64EndCentralDirectoryRecord != null) {
+				this.zip64EndCentralDirectoryRecord.setOffsetStartCenDirWRTStartDiskNo(outputStream.getFilePointer());
+				this.zip64EndCentralDirectoryRecord.setTotalEntriesInCentralDirectory(fileHeaders.size());
+				this.zip64EndCentralDirectoryRecord.setTotalEntriesInCentralDirectoryOnThisDisk(fileHeaders.size());
 			}
 			
 			this.finalizeZipFile(outputStream);
@@ -1499,7 +1866,16 @@ public final class ZipFile implements Cloneable {
 			IOUtils.closeStream(outputStream);
 			
 			if (success) {
-				FileUtils.copyFile(tempFileName, this.filePath);
+				if (this.filePath.startsWith(FileUtils.SAMBA_URL_PREFIX)) {
+					FileUtils.copyFile(tempFileName, this.filePath);
+				} else {
+					try {
+						Files.move(FileUtils.getFile(tempFileName).toPath(), FileUtils.getFile(this.filePath).toPath(),
+								StandardCopyOption.REPLACE_EXISTING);
+					} catch (IOException e) {
+						throw new ZipException(e);
+					}
+				}
 			}
 			
 			if (FileUtils.isExists(tempFileName)) {
@@ -1508,6 +1884,14 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 	
+	private static long offsetLocalHeader(GeneralFileHeader generalFileHeader) {
+		if (generalFileHeader.getZip64ExtendInfo() != null 
+				&& generalFileHeader.getZip64ExtendInfo().getOffsetLocalHeader() != Globals.DEFAULT_VALUE_LONG) {
+			return generalFileHeader.getZip64ExtendInfo().getOffsetLocalHeader();
+		}
+		return generalFileHeader.getOffsetLocalHeader();
+	}
+	
 	private int retrieveIndexOfGeneralFileHeader(GeneralFileHeader generalFileHeader) {
 		if (generalFileHeader == null) {
 			throw new ZipException("File header is null!");
@@ -1520,6 +1904,23 @@ public final class ZipFile implements Cloneable {
 		return this.centralDirectory.retrieveIndexOfGeneralFileHeader(generalFileHeader);
 	}
 	
+	private void writableCheck() throws ZipException {
+		if (this.readOnly) {
+			throw new ZipException("Zip file was opened in read only mode");
+		}
+		if (this.centralDirectory != null && this.centralDirectory.getFileHeaders() instanceof CompactFileHeaders) {
+			//	Archive will be modified, file headers must be kept as instances
+			this.centralDirectory.setFileHeaders(new ArrayList<>(this.centralDirectory.getFileHeaders()));
+		}
+	}
+
+	private synchronized NervousyncRandomAccessFile sharedInput() throws FileNotFoundException {
+		if (this.sharedInput == null) {
+			this.sharedInput = this.createFileHandler();
+		}
+		return this.sharedInput;
+	}
+	
 	private NervousyncRandomAccessFile createFileHandler() throws FileNotFoundException {
 		if (StringUtils.notBlank(this.filePath)) {
 			return new NervousyncRandomAccessFile(this.filePath, Globals.READ_MODE);
@@ -1547,32 +1948,24 @@ public final class ZipFile implements Cloneable {
 		}
 		
 		try {
-			input.seek(start);
-			
-			int bufferSize = Globals.DEFAULT_BUFFER_SIZE;
-			if ((end - start) < Globals.DEFAULT_BUFFER_SIZE) {
-				bufferSize = (int)(end - start);
-			}
-			
-			int readLength;
-			byte[] readBuffer = new byte[bufferSize];
-			long totalRead = 0L;
-			long limitRead = end - start;
-			
-			do {
-				readLength = input.read(readBuffer);
-				
-				outputStream.write(readBuffer, 0, readLength);
-				
-				totalRead += readLength;
-				if (totalRead == limitRead) {
-					break;
+			if (outputStream instanceof SplitOutputStream) {
+				((SplitOutputStream) outputStream).transferFrom(input, start, end - start);
+			} else if (outputStream instanceof FileOutputStream) {
+				if (input.transferTo(start, end - start, ((FileOutputStream) outputStream).getChannel()) != (end - start)) {
+					throw new ZipException("Unexpected end of input file");
 				}
-				
-				if (totalRead + readBuffer.length > limitRead) {
-					readBuffer = new byte[(int)(limitRead - totalRead)];
+			} else {
+				byte[] readBuffer = new byte[(int)Math.min(end - start, Globals.DEFAULT_BUFFER_SIZE)];
+				long position = start;
+				while (position < end) {
+					int readLength = input.read(position, readBuffer, 0, (int)Math.min(end - position, readBuffer.length));
+					if (readLength == Globals.DEFAULT_VALUE_INT) {
+						throw new ZipException("Unexpected end of input file");
+					}
+					outputStream.write(readBuffer, 0, readLength);
+					position += readLength;
 				}
-			} while (readLength != Globals.DEFAULT_VALUE_INT);
+			}
 		} catch (Exception e) {
 			if (e instanceof ZipException) {
 				throw (ZipException)e;
@@ -1603,7 +1996,7 @@ public final class ZipFile implements Cloneable {
 			}
 			
 			if (generalFileHeader.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES) {
-				this.checkMac();
+				checkMac(inputStream.getDecryptor());
 			} else {
 				long calculatedCRC = inputStream.crcValue() & 0xFFFFFFFFL;
 				if (calculatedCRC != generalFileHeader.getCrc32()) {
@@ -1632,13 +2025,13 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 
-	private void checkMac() throws ZipException {
-		if (this.decryptor instanceof AESDecryptor) {
-			byte[] tempMacBytes = ((AESDecryptor)this.decryptor).calculateAuthenticationBytes();
-			byte[] storedMac = ((AESDecryptor)this.decryptor).getStoredMac();
+	private static void checkMac(Decryptor decryptor) throws ZipException {
+		if (decryptor instanceof AESDecryptor) {
+			byte[] tempMacBytes = ((AESDecryptor)decryptor).calculateAuthenticationBytes();
+			byte[] storedMac = ((AESDecryptor)decryptor).getStoredMac();
 			byte[] calculateMac = new byte[ZipConstants.AES_AUTH_LENGTH];
 
-			if (storedMac == null) {
+			if (storedMac.length != ZipConstants.AES_AUTH_LENGTH) {
 				throw new ZipException("CRC check failed!");
 			}
 
@@ -1686,7 +2079,7 @@ public final class ZipFile implements Cloneable {
 			}
 			
 			if (generalFileHeader.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES) {
-				this.checkMac();
+				checkMac(inputStream.getDecryptor());
 			} else {
 				long calculatedCRC = inputStream.crcValue();
 				if (calculatedCRC != generalFileHeader.getCrc32()) {
@@ -1705,8 +2098,11 @@ public final class ZipFile implements Cloneable {
 	
 	private ZipInputStream openInputStream(GeneralFileHeader generalFileHeader) throws ZipException {
 		NervousyncRandomAccessFile input = null;
+		Decryptor decryptor = null;
+		//	Read only archive share the file handler, every stream using positional read
+		boolean closeInput = !this.readOnly || this.splitArchive;
 		try {
-			input = this.createFileHandler();
+			input = closeInput ? this.createFileHandler() : this.sharedInput();
 			
 			LocalFileHeader localFileHeader = 
 					this.readLocalFileHeader(input, generalFileHeader);
@@ -1720,23 +2116,23 @@ public final class ZipFile implements Cloneable {
 					byte[] salt = null;
 					if (localFileHeader.getAesExtraDataRecord() != null) {
 						salt = new byte[HeaderOperator.retrieveSaltLength(localFileHeader.getAesExtraDataRecord().getAesStrength())];
-						input.seek(localFileHeader.getOffsetStartOfData());
-						if (input.read(salt) == Globals.DEFAULT_VALUE_INT) {
+						if (input.read(localFileHeader.getOffsetStartOfData(), salt, 0, salt.length) == Globals.DEFAULT_VALUE_INT) {
 							salt = null;
 						}
 					}
 					
 					byte[] passwordBytes = new byte[2];
 
-					if (input.read(passwordBytes) > 0) {
-						this.decryptor = new AESDecryptor(localFileHeader, salt, passwordBytes);
+					if (input.read(localFileHeader.getOffsetStartOfData() + (salt == null ? 0 : salt.length),
+							passwordBytes, 0, passwordBytes.length) > 0) {
+						decryptor = new AESDecryptor(localFileHeader, salt, passwordBytes, this.aesKeyCache);
 					}
 				} else if (localFileHeader.getEncryptionMethod() == ZipConstants.ENC_METHOD_STANDARD) {
 					byte[] decryptorHeader = new byte[ZipConstants.STD_DEC_HDR_SIZE];
-					input.seek(localFileHeader.getOffsetStartOfData());
 
-					if (input.read(decryptorHeader) > 0) {
-						this.decryptor = new StandardDecryptor(localFileHeader, decryptorHeader);
+					if (input.read(localFileHeader.getOffsetStartOfData(),
+							decryptorHeader, 0, decryptorHeader.length) > 0) {
+						decryptor = new StandardDecryptor(localFileHeader, decryptorHeader);
 					}
 				} else {
 					throw new ZipException("Unsupported encryption method");
@@ -1748,10 +2144,10 @@ public final class ZipFile implements Cloneable {
 			
 			if (localFileHeader.isEncrypted()) {
 				if (localFileHeader.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES) {
-					if (this.decryptor instanceof AESDecryptor) {
-						compressedSize -= (((AESDecryptor)this.decryptor).getSaltLength() + 
+					if (decryptor instanceof AESDecryptor) {
+						compressedSize -= (((AESDecryptor)decryptor).getSaltLength() + 
 								ZipConstants.PASSWORD_VERIFIER_LENGTH + 10);
-						offsetStartOfData += (((AESDecryptor)this.decryptor).getSaltLength() + 
+						offsetStartOfData += (((AESDecryptor)decryptor).getSaltLength() + 
 								ZipConstants.PASSWORD_VERIFIER_LENGTH);
 					} else {
 						throw new ZipException("invalid decryptor when trying to calculate " +
@@ -1770,22 +2166,22 @@ public final class ZipFile implements Cloneable {
 				}
 				compressionMethod = generalFileHeader.getAesExtraDataRecord().getCompressionMethod();
 			}
-			input.seek(offsetStartOfData);
-
 			boolean isAESEncryptedFile = generalFileHeader.isEncrypted() 
 						&& generalFileHeader.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES;
 			switch (compressionMethod) {
 			case ZipConstants.COMP_STORE:
-				return new ZipInputStream(new PartInputStream(this, input,
-						compressedSize, this.decryptor, isAESEncryptedFile));
+				return new ZipInputStream(new PartInputStream(this, input, offsetStartOfData,
+						compressedSize, decryptor, isAESEncryptedFile, closeInput));
 			case ZipConstants.COMP_DEFLATE:
-				return new ZipInputStream(new InflaterInputStream(this, input,
-						compressedSize, generalFileHeader.getOriginalSize(), this.decryptor, isAESEncryptedFile));
+				return new ZipInputStream(new InflaterInputStream(this, input, offsetStartOfData, compressedSize,
+						generalFileHeader.getOriginalSize(), decryptor, isAESEncryptedFile, closeInput));
 				default:
 					throw new ZipException("Compression type not supported");
 			}
 		} catch (ZipException|IOException e) {
-			IOUtils.closeStream(input);
+			if (closeInput) {
+				IOUtils.closeStream(input);
+			}
 			if (e instanceof ZipException) {
 				throw (ZipException)e;
 			} else {
@@ -1965,24 +2361,52 @@ public final class ZipFile implements Cloneable {
 	}
 	
 	private void readHeaders() throws ZipException {
-		try (NervousyncRandomAccessFile input = new NervousyncRandomAccessFile(this.filePath, Globals.READ_MODE)) {
-			this.readEndOfCentralDirectoryRecord(input);
+		//	Each header region was loaded by positional read into heap buffer, the same path serves local and
+		//	SMB files, no region was memory mapped, so the file was released as soon as the handler closed
+		try (NervousyncRandomAccessFile input = this.createFileHandler()) {
+			this.readHeaders(input);
+		} catch (IOException e) {
+			throw new ZipException(e);
+		}
+	}
 
-			// Check and set zip64 format
-			this.readZip64EndCentralDirectoryLocator(input);
+	/**
+	 * Read headers, each header region was loaded by positional read and parsed in memory
+	 * @param input				Zip file handler
+	 * @throws IOException		Read region error
+	 * @throws ZipException		Headers not found or invalid headers
+	 */
+	private void readHeaders(NervousyncRandomAccessFile input) throws IOException, ZipException {
+		long fileSize = input.length();
+		//	Tail region contains end of central directory record, max comment length and zip64 locator
+		long tailOffset = Math.max(0L, fileSize - ZipConstants.ENDHDR
+				- ZipConstants.MAX_ALLOWED_ZIP_COMMENT_LENGTH - ZipConstants.ZIP64_LOCHDR);
+		ByteBuffer tailBuffer = readRegion(input, tailOffset, (int)(fileSize - tailOffset));
 
-			if (this.zip64Format) {
-				this.readZip64EndCentralDirectoryRecord(input);
-			}
+		int endPosition = this.readEndOfCentralDirectoryRecord(tailBuffer);
 
-			this.readCentralDirectory(input);
-		} catch (Exception e) {
-			if (e instanceof ZipException) {
-				throw (ZipException)e;
-			} else {
-				throw new ZipException(e);
+		// Check and set zip64 format
+		this.readZip64EndCentralDirectoryLocator(tailBuffer, endPosition);
+
+		long endOffset = tailOffset + endPosition;
+		if (this.zip64Format) {
+			long offsetZip64EndOfCentralDirectoryRecord =
+					this.zip64EndCentralDirectoryLocator.getOffsetZip64EndOfCentralDirectoryRecord();
+			if (offsetZip64EndOfCentralDirectoryRecord < 0L || offsetZip64EndOfCentralDirectoryRecord > endOffset
+					|| endOffset - offsetZip64EndOfCentralDirectoryRecord > ZipConstants.CENTRAL_DIRECTORY_SEGMENT_SIZE) {
+				throw new ZipException("Invalid offset for start of end of central directory record");
 			}
+			this.readZip64EndCentralDirectoryRecord(readRegion(input, offsetZip64EndOfCentralDirectoryRecord,
+					(int)(endOffset - offsetZip64EndOfCentralDirectoryRecord)));
+		}
+
+		long offsetOfStartOfCentralDirectory = this.zip64Format
+				? this.zip64EndCentralDirectoryRecord.getOffsetStartCenDirWRTStartDiskNo()
+				: this.endCentralDirectoryRecord.getOffsetOfStartOfCentralDirectory();
+		if (offsetOfStartOfCentralDirectory < 0L || offsetOfStartOfCentralDirectory > endOffset) {
+			throw new ZipException("Invalid offset for start of central directory");
 		}
+		this.readCentralDirectory(input, offsetOfStartOfCentralDirectory, endOffset);
 	}
 	
 	private LocalFileHeader readLocalFileHeader(NervousyncRandomAccessFile input,
@@ -2002,53 +2426,47 @@ public final class ZipFile implements Cloneable {
 				throw new ZipException("Invalid local header offset");
 			}
 			
-			input.seek(localHeaderOffset + 26);
-			byte[] tempBuffer = new byte[4];
-			if (input.read(tempBuffer) == Globals.DEFAULT_VALUE_INT) {
+			byte[] headerBuffer = new byte[ZipConstants.LOCHDR];
+			try {
+				readFully(input, localHeaderOffset, headerBuffer, 0, headerBuffer.length);
+			} catch (EOFException e) {
 				throw new ZipException("Invalid local header offset");
 			}
 
-			byte[] shortBuffer = new byte[2];
-			System.arraycopy(tempBuffer, 0, shortBuffer, 0, 2);
-			int fileNameLength = RawUtils.readShortFromLittleEndian(shortBuffer, 0);
-			System.arraycopy(tempBuffer, 2, shortBuffer, 0, 2);
-			int extraFieldLength = RawUtils.readShortFromLittleEndian(shortBuffer, 0);
+			ByteBuffer readBuffer = ByteBuffer.wrap(headerBuffer).order(ByteOrder.LITTLE_ENDIAN);
+			int fileNameLength = readUnsignedShort(readBuffer, 26);
+			int extraFieldLength = readUnsignedShort(readBuffer, 28);
 			
-			input.seek(localHeaderOffset);
+			if (fileNameLength + extraFieldLength > 0) {
+				byte[] readBytes = new byte[ZipConstants.LOCHDR + fileNameLength + extraFieldLength];
+				System.arraycopy(headerBuffer, 0, readBytes, 0, ZipConstants.LOCHDR);
+				//	Short read of file name or extra field was not accepted
+				try {
+					readFully(input, localHeaderOffset + ZipConstants.LOCHDR, readBytes, ZipConstants.LOCHDR,
+							fileNameLength + extraFieldLength);
+				} catch (EOFException e) {
+					throw new ZipException("Invalid local header offset");
+				}
+				readBuffer = ByteBuffer.wrap(readBytes).order(ByteOrder.LITTLE_ENDIAN);
+			}
 
-			int length = 0;
 			LocalFileHeader localFileHeader = new LocalFileHeader();
 			
-			byte[] readBuffer = new byte[30 + fileNameLength + extraFieldLength];
-
-			if (input.read(readBuffer) == Globals.DEFAULT_VALUE_INT) {
-				throw new ZipException("Invalid local header offset");
-			}
-			
-			byte[] intBuffer = new byte[4];
-
 			// Signature
-			System.arraycopy(readBuffer, 0, intBuffer, 0, 4);
-			int signature = RawUtils.readIntFromLittleEndian(intBuffer, 0);
+			int signature = readBuffer.getInt(0);
 			if (signature != ZipConstants.LOCSIG) {
 				throw new ZipException("invalid local header signature for file: " + generalFileHeader.getEntryPath());
 			}
 			localFileHeader.setSignature(signature);
-			length += 4;
 
 			// Extract needed
-			System.arraycopy(readBuffer, 4, shortBuffer, 0, 2);
-			localFileHeader.setExtractNeeded(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-			length += 2;
+			localFileHeader.setExtractNeeded(readUnsignedShort(readBuffer, 4));
 
 			// General purpose bit flag
-			System.arraycopy(readBuffer, 6, shortBuffer, 0, 2);
-			localFileHeader.setFileNameUTF8Encoded(
-					(RawUtils.readShortFromLittleEndian(shortBuffer, 0) & ZipConstants.UFT8_NAMES_FLAG) != 0);
-			localFileHeader.setGeneralPurposeFlag(shortBuffer.clone());
-			length += 2;
+			localFileHeader.setFileNameUTF8Encoded((readUnsignedShort(readBuffer, 6) & ZipConstants.UFT8_NAMES_FLAG) != 0);
+			localFileHeader.setGeneralPurposeFlag(readBytes(readBuffer, 6, 2));
 
-			int firstByte = shortBuffer[0];
+			int firstByte = readBuffer.get(6);
 
 			// Check if data descriptor exists for local file header
 			String binaryData = Integer.toBinaryString(firstByte);
@@ -2057,43 +2475,30 @@ public final class ZipFile implements Cloneable {
 			}
 
 			// Compression method
-			System.arraycopy(readBuffer, 8, shortBuffer, 0, 2);
-			localFileHeader.setCompressionMethod(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-			length += 2;
+			localFileHeader.setCompressionMethod(readUnsignedShort(readBuffer, 8));
 
 			// Lase modify time
-			System.arraycopy(readBuffer, 10, intBuffer, 0, 4);
-			localFileHeader.setLastModFileTime(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-			length += 4;
+			localFileHeader.setLastModFileTime(readBuffer.getInt(10));
 
 			// CRC
-			System.arraycopy(readBuffer, 14, intBuffer, 0, 4);
-			localFileHeader.setCrc32(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-			localFileHeader.setCrcBuffer(intBuffer.clone());
-			length += 4;
+			localFileHeader.setCrc32(readBuffer.getInt(14));
+			localFileHeader.setCrcBuffer(readBytes(readBuffer, 14, 4));
 
 			// Compressed size
-			System.arraycopy(readBuffer, 18, intBuffer, 0, 4);
-			localFileHeader.setCompressedSize(RawUtils.readLongFromLittleEndian(readLongByteFromIntByte(intBuffer), 0));
-			length += 4;
+			localFileHeader.setCompressedSize(readUnsignedInt(readBuffer, 18));
 
 			// Original size
-			System.arraycopy(readBuffer, 22, intBuffer, 0, 4);
-			localFileHeader.setOriginalSize(RawUtils.readLongFromLittleEndian(readLongByteFromIntByte(intBuffer), 0));
-			length += 4;
+			localFileHeader.setOriginalSize(readUnsignedInt(readBuffer, 22));
 
 			// File name length
 			localFileHeader.setFileNameLength(fileNameLength);
-			length += 2;
 
 			// Extra field length
 			localFileHeader.setExtraFieldLength(extraFieldLength);
-			length += 2;
 
 			// File name
 			if (fileNameLength > 0) {
-				byte[] fileNameBuffer = new byte[fileNameLength];
-				System.arraycopy(readBuffer, 30, fileNameBuffer, 0, fileNameLength);
+				byte[] fileNameBuffer = readBytes(readBuffer, ZipConstants.LOCHDR, fileNameLength);
 
 				String entryPath;
 
@@ -2113,20 +2518,17 @@ public final class ZipFile implements Cloneable {
 				}
 
 				localFileHeader.setEntryPath(entryPath);
-				length += fileNameLength;
 			} else {
 				localFileHeader.setEntryPath(null);
 			}
 			
 			// Extra field
 			if (localFileHeader.getExtraFieldLength() > 0) {
-				byte[] extraFieldBuffer = new byte[extraFieldLength];
-				System.arraycopy(readBuffer, 30 + fileNameLength, extraFieldBuffer, 0, extraFieldLength);
-				localFileHeader.setExtraDataRecords(readExtraDataRecords(extraFieldBuffer, extraFieldLength));
+				localFileHeader.setExtraDataRecords(readExtraDataRecords(readBuffer, 
+						ZipConstants.LOCHDR + fileNameLength, extraFieldLength));
 			}
-			length += extraFieldLength;
 
-			localFileHeader.setOffsetStartOfData(localHeaderOffset + length);
+			localFileHeader.setOffsetStartOfData(localHeaderOffset + ZipConstants.LOCHDR + fileNameLength + extraFieldLength);
 			
 			// Copy password
 			localFileHeader.setPassword(generalFileHeader.getPassword());
@@ -2532,11 +2934,13 @@ public final class ZipFile implements Cloneable {
 					numEntriesOnThisDisk = numEntries;
 				}
 			}
-			RawUtils.writeShortFromLittleEndian(shortBuffer, 0, (short) numEntriesOnThisDisk);
+			RawUtils.writeShortFromLittleEndian(shortBuffer, 0,
+					(short) Math.min(numEntriesOnThisDisk, ZipConstants.ZIP64_ENTRY_LIMIT));
 			HeaderOperator.copyByteArrayToArrayList(shortBuffer, headerBytesList);
 
 			// Total number of entries in central directory
-			RawUtils.writeShortFromLittleEndian(shortBuffer, 0, (short) numEntries);
+			RawUtils.writeShortFromLittleEndian(shortBuffer, 0,
+					(short) Math.min(numEntries, ZipConstants.ZIP64_ENTRY_LIMIT));
 			HeaderOperator.copyByteArrayToArrayList(shortBuffer, headerBytesList);
 
 			// Size of central directory
@@ -2588,435 +2992,321 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 	
-	private void readEndOfCentralDirectoryRecord(NervousyncRandomAccessFile input)
-			throws ZipException {
-		if (input == null) {
-			throw new ZipException("Random access file is null!");
+	/**
+	 * Read end of central directory record from the tail of zip file
+	 * @param tailBuffer		Data buffer of file tail
+	 * @return					Position of end of central directory record in given buffer
+	 * @throws ZipException		End of central directory record not found
+	 */
+	private int readEndOfCentralDirectoryRecord(ByteBuffer tailBuffer) throws ZipException {
+		int position = tailBuffer.limit() - ZipConstants.ENDHDR;
+		int minPosition = Math.max(0, position - ZipConstants.MAX_ALLOWED_ZIP_COMMENT_LENGTH);
+		while (position >= minPosition && tailBuffer.getInt(position) != (int)ZipConstants.ENDSIG) {
+			position--;
 		}
-		
-		try {
-			byte[] buffer = new byte[4];
-			long position;
-			try {
-				position = input.length();
-			} catch (IOException e) {
-				position = Globals.DEFAULT_VALUE_LONG;
-			}
-			
-			if (position == Globals.DEFAULT_VALUE_LONG) {
-				throw new ZipException("Read end of central directory record error! ");
-			}
-			position -= ZipConstants.ENDHDR;
-
-			this.endCentralDirectoryRecord = new EndCentralDirectoryRecord();
 
-			int count = 0;
-			do {
-				input.seek(position--);
-				count++;
-			} while ((readIntFromDataInput(input, buffer) != ZipConstants.ENDSIG)
-					&& count <= 3000);
-			
-			if (RawUtils.readIntFromLittleEndian(buffer, 0) != ZipConstants.ENDSIG) {
-				throw new ZipException("zip headers not found. probably not a zip file");
-			}
-			
-			byte[] readBuffer = new byte[18];
-
-			if (input.read(readBuffer) == Globals.DEFAULT_VALUE_INT) {
-				return;
-			}
-			
-			byte[] intBuffer = new byte[4];
-			byte[] shortBuffer = new byte[2];
-
-			this.endCentralDirectoryRecord.setSignature(ZipConstants.ENDSIG);
-
-			System.arraycopy(readBuffer, 0, shortBuffer, 0, 2);
-			this.endCentralDirectoryRecord.setIndexOfThisDisk(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-			System.arraycopy(readBuffer, 2, shortBuffer, 0, 2);
-			this.endCentralDirectoryRecord
-					.setIndexOfThisDiskStartOfCentralDirectory(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-			System.arraycopy(readBuffer, 4, shortBuffer, 0, 2);
-			this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectoryOnThisDisk(
-					RawUtils.readShortFromLittleEndian(shortBuffer, 0));
+		if (position < minPosition) {
+			throw new ZipException("zip headers not found. probably not a zip file");
+		}
 
-			System.arraycopy(readBuffer, 6, shortBuffer, 0, 2);
-			this.endCentralDirectoryRecord
-					.setTotalOfEntriesInCentralDirectory(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
+		this.endCentralDirectoryRecord = new EndCentralDirectoryRecord();
+		this.endCentralDirectoryRecord.setSignature(ZipConstants.ENDSIG);
+		this.endCentralDirectoryRecord.setIndexOfThisDisk(readUnsignedShort(tailBuffer, position + 4));
+		this.endCentralDirectoryRecord.setIndexOfThisDiskStartOfCentralDirectory(
+				readUnsignedShort(tailBuffer, position + 6));
+		this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectoryOnThisDisk(
+				readUnsignedShort(tailBuffer, position + 8));
+		this.endCentralDirectoryRecord.setTotalOfEntriesInCentralDirectory(readUnsignedShort(tailBuffer, position + 10));
+		this.endCentralDirectoryRecord.setSizeOfCentralDirectory(tailBuffer.getInt(position + 12));
+		this.endCentralDirectoryRecord.setOffsetOfStartOfCentralDirectory(readUnsignedInt(tailBuffer, position + 16));
+		this.endCentralDirectoryRecord.setCommentLength(readUnsignedShort(tailBuffer, position + 20));
 
-			System.arraycopy(readBuffer, 8, intBuffer, 0, 4);
-			this.endCentralDirectoryRecord.setSizeOfCentralDirectory(RawUtils.readIntFromLittleEndian(intBuffer, 0));
+		int commentLength = Math.min(this.endCentralDirectoryRecord.getCommentLength(),
+				tailBuffer.limit() - position - ZipConstants.ENDHDR);
+		if (commentLength > 0) {
+			this.endCentralDirectoryRecord.setCommentBytes(
+					readBytes(tailBuffer, position + ZipConstants.ENDHDR, commentLength));
+		}
 
-			System.arraycopy(readBuffer, 12, intBuffer, 0, 4);
-			this.endCentralDirectoryRecord.setOffsetOfStartOfCentralDirectory(
-					RawUtils.readLongFromLittleEndian(readLongByteFromIntByte(intBuffer), 0));
-			
-			System.arraycopy(readBuffer, 16, shortBuffer, 0, 2);
-			this.endCentralDirectoryRecord.setCommentLength(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-			
-			if (this.endCentralDirectoryRecord.getCommentLength() > 0) {
-				byte[] commentBuffer = new byte[endCentralDirectoryRecord.getCommentLength()];
-				input.read(commentBuffer);
-				endCentralDirectoryRecord.setCommentBytes(commentBuffer);
-			}
+		this.splitArchive = (this.endCentralDirectoryRecord.getIndexOfThisDisk() > 0);
+		return position;
+	}
 
-			this.splitArchive = (this.endCentralDirectoryRecord.getIndexOfThisDisk() > 0);
-		} catch (IOException e) {
-			throw new ZipException(e);
+	/**
+	 * Read zip64 end of central directory locator which located before end of central directory record
+	 * @param tailBuffer		Data buffer of file tail
+	 * @param endPosition		Position of end of central directory record in given buffer
+	 */
+	private void readZip64EndCentralDirectoryLocator(ByteBuffer tailBuffer, int endPosition) {
+		this.zip64EndCentralDirectoryLocator = new Zip64EndCentralDirectoryLocator();
+		int position = endPosition - ZipConstants.ZIP64_LOCHDR;
+		if (position < 0 || tailBuffer.getInt(position) != (int)ZipConstants.ZIP64ENDCENDIRLOC) {
+			this.zip64Format = false;
+			return;
 		}
-	}
 
-	private void readZip64EndCentralDirectoryLocator(NervousyncRandomAccessFile input)
-			throws ZipException {
-		try {
-			this.zip64EndCentralDirectoryLocator = new Zip64EndCentralDirectoryLocator();
-			byte[] buffer = new byte[4];
-			long position;
-			try {
-				position = input.length();
-			} catch (Exception e) {
-				position = Globals.DEFAULT_VALUE_LONG;
-			}
-			
-			if (position == Globals.DEFAULT_VALUE_LONG) {
-				throw new ZipException("Read end of central directory record error! ");
-			}
-			position -= ZipConstants.ENDHDR;
-			
-			do {
-				input.seek(position--);
-			} while (readIntFromDataInput(input, buffer) != ZipConstants.ENDSIG);
-			
-			// Now the file pointer is at the end of signature of Central Dir
-			// Rec
-			// Seek back with the following values
-			// 4 -> total number of disks
-			// 8 -> relative offset of the zip64 end of central directory record
-			// 4 -> number of the disk with the start of the zip64 end of
-			// central directory
-			// 4 -> zip64 end of central dir locator signature
-			// Refer to Appose for more information
-			input.seek(position - 4 - 8 - 4 - 4);
-
-			byte[] readBuffer = new byte[20];
-
-			if (input.read(readBuffer) == Globals.DEFAULT_VALUE_INT) {
-				return;
-			}
-			
-			byte[] intBuffer = new byte[4];
-			byte[] longBuffer = new byte[8];
-			
-			int signature = this.readSignature(readBuffer);
-			if (signature == ZipConstants.ZIP64ENDCENDIRLOC) {
-				this.zip64Format = true;
-				this.zip64EndCentralDirectoryLocator.setSignature(signature);
-			} else {
-				this.zip64Format = false;
-				return;
-			}
+		this.zip64Format = true;
+		this.zip64EndCentralDirectoryLocator.setSignature(tailBuffer.getInt(position));
+		this.zip64EndCentralDirectoryLocator.setIndexOfZip64EndOfCentralDirectoryRecord(tailBuffer.getInt(position + 4));
+		this.zip64EndCentralDirectoryLocator.setOffsetZip64EndOfCentralDirectoryRecord(tailBuffer.getLong(position + 8));
+		this.zip64EndCentralDirectoryLocator.setTotalNumberOfDiscs(tailBuffer.getInt(position + 16));
+	}
 
-			System.arraycopy(readBuffer, 4, intBuffer, 0, 4);
-			this.zip64EndCentralDirectoryLocator
-					.setIndexOfZip64EndOfCentralDirectoryRecord(RawUtils.readIntFromLittleEndian(intBuffer, 0));
+	/**
+	 * Read zip64 end of central directory record
+	 * @param dataBuffer		Data buffer begin with zip64 end of central directory record
+	 * @throws ZipException		Invalid record signature
+	 */
+	private void readZip64EndCentralDirectoryRecord(ByteBuffer dataBuffer) throws ZipException {
+		if (dataBuffer.limit() < ZipConstants.ZIP64_ENDHDR 
+				|| dataBuffer.getInt(0) != (int)ZipConstants.ZIP64ENDCENDIRREC) {
+			throw new ZipException("Invalid signature for zip64 end of central directory record");
+		}
 
-			System.arraycopy(readBuffer, 8, longBuffer, 0, 8);
-			this.zip64EndCentralDirectoryLocator
-					.setOffsetZip64EndOfCentralDirectoryRecord(RawUtils.readLongFromLittleEndian(longBuffer, 0));
+		this.zip64EndCentralDirectoryRecord = new Zip64EndCentralDirectoryRecord();
+		this.zip64EndCentralDirectoryRecord.setSignature(dataBuffer.getInt(0));
+		this.zip64EndCentralDirectoryRecord.setRecordSize(dataBuffer.getLong(4));
+		this.zip64EndCentralDirectoryRecord.setMadeVersion(readUnsignedShort(dataBuffer, 12));
+		this.zip64EndCentralDirectoryRecord.setExtractNeeded(readUnsignedShort(dataBuffer, 14));
+		this.zip64EndCentralDirectoryRecord.setIndex(dataBuffer.getInt(16));
+		this.zip64EndCentralDirectoryRecord.setStartOfCentralDirectory(dataBuffer.getInt(20));
+		this.zip64EndCentralDirectoryRecord.setTotalEntriesInCentralDirectoryOnThisDisk(dataBuffer.getLong(24));
+		this.zip64EndCentralDirectoryRecord.setTotalEntriesInCentralDirectory(dataBuffer.getLong(32));
+		this.zip64EndCentralDirectoryRecord.setSizeOfCentralDirectory(dataBuffer.getLong(40));
+		this.zip64EndCentralDirectoryRecord.setOffsetStartCenDirWRTStartDiskNo(dataBuffer.getLong(48));
 
-			System.arraycopy(readBuffer, 16, intBuffer, 0, 4);
-			this.zip64EndCentralDirectoryLocator.setTotalNumberOfDiscs(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-		} catch (Exception e) {
-			throw new ZipException(e);
+		// Zip64 extensible data sector
+		long extDataSize = Math.min(this.zip64EndCentralDirectoryRecord.getRecordSize() - 44L,
+				dataBuffer.limit() - ZipConstants.ZIP64_ENDHDR);
+		if (extDataSize > 0) {
+			this.zip64EndCentralDirectoryRecord.setExtensibleDataSector(
+					readBytes(dataBuffer, ZipConstants.ZIP64_ENDHDR, (int)extDataSize));
 		}
-	}
 
-	private int readSignature(byte[] dataBytes) {
-		byte[] intBuffer = new byte[4];
-		System.arraycopy(dataBytes, 0, intBuffer, 0, 4);
-		return RawUtils.readIntFromLittleEndian(intBuffer, 0);
+		this.splitArchive = (this.zip64EndCentralDirectoryRecord.getIndex() > 0);
 	}
 
-	private void readCentralDirectory(NervousyncRandomAccessFile input)
-			throws ZipException {
+	/**
+	 * Read central directory, the directory was loaded by bounded segments,
+	 * so central directory larger than 2 GiB can be read
+	 * @param input				Zip file handler
+	 * @param beginOffset		Offset of start of central directory
+	 * @param endOffset			Offset of end of central directory record
+	 * @throws IOException		Read segment error
+	 * @throws ZipException		Invalid central directory entry
+	 */
+	private void readCentralDirectory(NervousyncRandomAccessFile input, long beginOffset, long endOffset)
+			throws IOException, ZipException {
 		if (this.endCentralDirectoryRecord == null) {
 			throw new ZipException("End Central Record is null!");
 		}
 
-		try {
-			List<GeneralFileHeader> fileHeaderList = new ArrayList<>();
-
-			long offsetOfStartOfCentralDirectory = this.endCentralDirectoryRecord.getOffsetOfStartOfCentralDirectory();
-			int centralDirectoryEntryCount = this.endCentralDirectoryRecord.getTotalOfEntriesInCentralDirectory();
-
-			if (this.zip64Format) {
-				offsetOfStartOfCentralDirectory = this.zip64EndCentralDirectoryRecord.getOffsetStartCenDirWRTStartDiskNo();
-				centralDirectoryEntryCount = (int)this.zip64EndCentralDirectoryRecord.getTotalEntriesInCentralDirectory();
-			}
-			
-			input.seek(offsetOfStartOfCentralDirectory);
-			
-			long bufferSize = input.length() - offsetOfStartOfCentralDirectory;
-			byte[] readBuffer = new byte[(int)bufferSize];
-			if (input.read(readBuffer) == Globals.DEFAULT_VALUE_INT) {
-				return;
-			}
-			
-			byte[] shortBuffer = new byte[2];
-			byte[] intBuffer = new byte[4];
-			
+		long centralDirectoryEntryCount = this.zip64Format
+				? this.zip64EndCentralDirectoryRecord.getTotalEntriesInCentralDirectory()
+				: this.endCentralDirectoryRecord.getTotalOfEntriesInCentralDirectory();
+		if (centralDirectoryEntryCount < 0L || centralDirectoryEntryCount > Integer.MAX_VALUE
+				|| centralDirectoryEntryCount * ZipConstants.CENHDR > endOffset - beginOffset) {
+			throw new ZipException("Invalid entry count of central directory: " + centralDirectoryEntryCount);
+		}
+		Charset fileNameCharset = this.fileNameCharset == null ? null : Charset.forName(this.fileNameCharset);
+		boolean compactMode = centralDirectoryEntryCount >= ZipConstants.COMPACT_CENTRAL_DIRECTORY_LIMIT;
+
+		//	Locate each file header in segment, the compact mode only keeps segments and header positions
+		int[] headerPositions = new int[(int)centralDirectoryEntryCount];
+		List<ByteBuffer> segmentList = new ArrayList<>();
+		List<Integer> segmentFirstIndexes = new ArrayList<>();
+		List<GeneralFileHeader> fileHeaderList = compactMode ? null : new ArrayList<>(headerPositions.length);
+
+		long readOffset = beginOffset;
+		byte[] remainBytes = new byte[0];
+		int index = 0;
+		while (index < headerPositions.length) {
+			//	Bytes of incomplete header at the end of previous segment were carried to current segment
+			int segmentLength = (int)Math.min(ZipConstants.CENTRAL_DIRECTORY_SEGMENT_SIZE,
+					remainBytes.length + endOffset - readOffset);
+			byte[] segmentBytes = new byte[segmentLength];
+			System.arraycopy(remainBytes, 0, segmentBytes, 0, remainBytes.length);
+			readFully(input, readOffset, segmentBytes, remainBytes.length, segmentLength - remainBytes.length);
+			readOffset += segmentLength - remainBytes.length;
+
+			ByteBuffer segmentBuffer = ByteBuffer.wrap(segmentBytes).order(ByteOrder.LITTLE_ENDIAN);
+			int firstIndex = index;
 			int pos = 0;
-			for (int i = 0; i < centralDirectoryEntryCount; i++) {
-				GeneralFileHeader fileHeader = new GeneralFileHeader();
-				
-				System.arraycopy(readBuffer, pos, intBuffer, 0, 4);
-				int signature = RawUtils.readIntFromLittleEndian(intBuffer, 0);
-				if (signature != ZipConstants.CENSIG) {
-					throw new ZipException("Expected central directory entry not found! Index: " + i);
+			while (index < headerPositions.length && pos + ZipConstants.CENHDR <= segmentLength) {
+				if (segmentBuffer.getInt(pos) != (int)ZipConstants.CENSIG) {
+					throw new ZipException("Expected central directory entry not found! Index: " + index);
 				}
+				int headerLength = ZipConstants.CENHDR + readUnsignedShort(segmentBuffer, pos + 28)
+						+ readUnsignedShort(segmentBuffer, pos + 30) + readUnsignedShort(segmentBuffer, pos + 32);
+				if (pos + headerLength > segmentLength) {
+					break;
+				}
+				headerPositions[index++] = pos;
+				pos += headerLength;
+			}
 
-				fileHeader.setSignature(signature);
-				
-				// Made version
-				System.arraycopy(readBuffer, pos + 4, shortBuffer, 0, 2);
-				fileHeader.setMadeVersion(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-				
-				// Extract needed
-				System.arraycopy(readBuffer, pos + 6, shortBuffer, 0, 2);
-				fileHeader.setExtractNeeded(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-				// Purpose bit flag
-				System.arraycopy(readBuffer, pos + 8, shortBuffer, 0, 2);
-				fileHeader.setFileNameUTF8Encoded(
-						(RawUtils.readShortFromLittleEndian(shortBuffer, 0) & ZipConstants.UFT8_NAMES_FLAG) != 0);
-				int firstByte = shortBuffer[0];
-				fileHeader.setGeneralPurposeFlag(shortBuffer.clone());
-				fileHeader.setDataDescriptorExists((firstByte >> 3) == 1);
-
-				// Compression method
-				System.arraycopy(readBuffer, pos + 10, shortBuffer, 0, 2);
-				fileHeader.setCompressionMethod(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-				// Last modify file time
-				System.arraycopy(readBuffer, pos + 12, intBuffer, 0, 4);
-				fileHeader.setLastModFileTime(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-
-				// Crc32
-				System.arraycopy(readBuffer, pos + 16, intBuffer, 0, 4);
-				fileHeader.setCrc32(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-				fileHeader.setCrcBuffer(intBuffer.clone());
-
-				// Compressed size
-				System.arraycopy(readBuffer, pos + 20, intBuffer, 0, 4);
-				fileHeader.setCompressedSize(RawUtils.readLongFromLittleEndian(readLongByteFromIntByte(intBuffer), 0));
-
-				// Original size
-				System.arraycopy(readBuffer, pos + 24, intBuffer, 0, 4);
-				fileHeader.setOriginalSize(RawUtils.readLongFromLittleEndian(readLongByteFromIntByte(intBuffer), 0));
-
-				// File name length
-				System.arraycopy(readBuffer, pos + 28, shortBuffer, 0, 2);
-				fileHeader.setFileNameLength(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-				// Extra field length
-				System.arraycopy(readBuffer, pos + 30, shortBuffer, 0, 2);
-				fileHeader.setExtraFieldLength(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-				// Comment length
-				System.arraycopy(readBuffer, pos + 32, shortBuffer, 0, 2);
-				fileHeader.setFileCommentLength(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-				
-				// Disk number of start
-				System.arraycopy(readBuffer, pos + 34, shortBuffer, 0, 2);
-				fileHeader.setDiskNumberStart(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-				
-				// Internal file attributes
-				System.arraycopy(readBuffer, pos + 36, shortBuffer, 0, 2);
-				fileHeader.setInternalFileAttr(shortBuffer.clone());
-
-				// External file attributes
-				System.arraycopy(readBuffer, pos + 38, intBuffer, 0, 4);
-				fileHeader.setExternalFileAttr(intBuffer.clone());
-
-				// Relative offset of local header
-				System.arraycopy(readBuffer, pos + 42, intBuffer, 0, 4);
-				fileHeader.setOffsetLocalHeader(
-						RawUtils.readLongFromLittleEndian(readLongByteFromIntByte(intBuffer), 0) & 0xFFFFFFFFL);
-				
-				if (fileHeader.getFileNameLength() > 0) {
-					byte[] fileNameBuffer = new byte[fileHeader.getFileNameLength()];
-					System.arraycopy(readBuffer, pos + 46, fileNameBuffer, 0, fileHeader.getFileNameLength());
-
-					String entryPath;
-
-					if (this.fileNameCharset != null) {
-						entryPath = new String(fileNameBuffer, this.fileNameCharset);
-					} else {
-						if (fileHeader.isFileNameUTF8Encoded()) {
-							entryPath = new String(fileNameBuffer, Globals.DEFAULT_ENCODING);
-						} else {
-							entryPath = new String(fileNameBuffer, Charset.defaultCharset());
-						}
-					}
+			if (index == firstIndex) {
+				//	Segment size is larger than max header length, so only the truncated directory reaches here
+				throw new ZipException("Expected central directory entry not found! Index: " + index);
+			}
 
-					if (entryPath.contains(ZipConstants.ZIP_ENTRY_SEPARATOR)) {
-						entryPath = entryPath.substring(entryPath.indexOf(ZipConstants.ZIP_ENTRY_SEPARATOR) 
-								+ ZipConstants.ZIP_ENTRY_SEPARATOR.length());
-					}
-					
-					fileHeader.setEntryPath(entryPath);
-					if (entryPath.endsWith(ZipConstants.ZIP_FILE_SEPARATOR) 
-							|| entryPath.endsWith(Globals.DEFAULT_PAGE_SEPARATOR)) {
-						fileHeader.setDirectory(true);
-					} else {
-						fileHeader.setDirectory(Globals.DEFAULT_VALUE_BOOLEAN);
-					}
-				} else {
-					fileHeader.setEntryPath(null);
-				}
-				
-				// Extra field
-				if (fileHeader.getExtraFieldLength() > 0) {
-					byte[] extraFieldBuffer = new byte[fileHeader.getExtraFieldLength()];
-					System.arraycopy(readBuffer, pos + 46 + fileHeader.getFileNameLength(), extraFieldBuffer, 0, fileHeader.getExtraFieldLength());
-					fileHeader.setExtraDataRecords(readExtraDataRecords(extraFieldBuffer, fileHeader.getExtraFieldLength()));
-				}
-				
-				// Read zip64 extra data record if exists
-				readAndSaveZip64ExtendInfo(fileHeader);
-				
-				// Read AES Extra data record if exists
-				readAndSaveAESExtraDataRecord(fileHeader);
-				
-				if (fileHeader.getFileCommentLength() > 0) {
-					byte[] commentBuffer = new byte[fileHeader.getFileCommentLength()];
-					System.arraycopy(readBuffer, pos + 46 + fileHeader.getFileNameLength() + fileHeader.getExtraFieldLength(), commentBuffer, 0, fileHeader.getFileCommentLength());
-					fileHeader.setFileComment(new String(commentBuffer, Charset.forName(Globals.DEFAULT_ENCODING)));
+			if (compactMode) {
+				segmentList.add(segmentBuffer);
+				segmentFirstIndexes.add(firstIndex);
+			} else {
+				for (int i = firstIndex; i < index; i++) {
+					fileHeaderList.add(readGeneralFileHeader(segmentBuffer, headerPositions[i], fileNameCharset));
 				}
-				fileHeaderList.add(fileHeader);
-				pos += (46 + fileHeader.getFileNameLength() + fileHeader.getExtraFieldLength() + fileHeader.getFileCommentLength());
 			}
+			remainBytes = Arrays.copyOfRange(segmentBytes, pos, segmentLength);
+		}
 
-			this.centralDirectory = new CentralDirectory();
+		this.centralDirectory = new CentralDirectory();
 
+		if (compactMode) {
+			//	Keep packed central directory segments instead of header instances for very large archive
+			this.centralDirectory.setFileHeaders(
+					new CompactFileHeaders(segmentList.toArray(new ByteBuffer[0]),
+							segmentFirstIndexes.stream().mapToInt(Integer::intValue).toArray(), headerPositions,
+							fileNameCharset, (buffer, position) -> readGeneralFileHeader(buffer, position, fileNameCharset)));
+		} else {
 			this.centralDirectory.setFileHeaders(fileHeaderList);
-			
-			System.arraycopy(readBuffer, pos, intBuffer, 0, 4);
-			int signature = RawUtils.readIntFromLittleEndian(intBuffer, 0);
-			if (signature == ZipConstants.DIGSIG) {
+		}
+
+		//	Digital signature follows the last file header
+		long signatureOffset = readOffset - remainBytes.length;
+		if (endOffset - signatureOffset >= 6) {
+			ByteBuffer signatureBuffer = readRegion(input, signatureOffset,
+					(int)Math.min(endOffset - signatureOffset, 6 + 0xFFFF));
+			if (signatureBuffer.getInt(0) == (int)ZipConstants.DIGSIG) {
 				DigitalSignature digitalSignature = new DigitalSignature();
-				
-				digitalSignature.setSignature(signature);
 
-				System.arraycopy(readBuffer, pos + 4, shortBuffer, 0, 2);
-				digitalSignature.setDataSize(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-				
-				if (digitalSignature.getDataSize() > 0) {
-					byte[] signatureDataBuffer = new byte[digitalSignature.getDataSize()];
-					System.arraycopy(readBuffer, pos + 6, signatureDataBuffer, 0, digitalSignature.getDataSize());
-					digitalSignature.setSignatureData(new String(signatureDataBuffer, Charset.forName(Globals.DEFAULT_ENCODING)));
+				digitalSignature.setSignature(signatureBuffer.getInt(0));
+				digitalSignature.setDataSize(readUnsignedShort(signatureBuffer, 4));
+
+				if (digitalSignature.getDataSize() > 0
+						&& 6 + digitalSignature.getDataSize() <= signatureBuffer.limit()) {
+					digitalSignature.setSignatureData(new String(readBytes(signatureBuffer, 6, digitalSignature.getDataSize()),
+							Charset.forName(Globals.DEFAULT_ENCODING)));
 				}
-				
+
 				this.centralDirectory.setDigitalSignature(digitalSignature);
 			}
-		} catch (IOException e) {
-			throw new ZipException(e);
 		}
 	}
 
-	private void readZip64EndCentralDirectoryRecord(NervousyncRandomAccessFile input)
+	/**
+	 * Read general file header at given position
+	 * @param dataBuffer		Data buffer of central directory
+	 * @param pos				Position of file header
+	 * @param fileNameCharset	File name charset encoding
+	 * @return					General file header
+	 * @throws ZipException		Invalid extra data records
+	 */
+	private static GeneralFileHeader readGeneralFileHeader(ByteBuffer dataBuffer, int pos, Charset fileNameCharset)
 			throws ZipException {
-		if (this.zip64EndCentralDirectoryLocator == null) {
-			throw new ZipException("Invalid zip64 end of central directory locator");
-		}
+		GeneralFileHeader fileHeader = new GeneralFileHeader();
+		fileHeader.setSignature(dataBuffer.getInt(pos));
 
-		try {
-			long offsetZip64EndOfCentralDirectoryRecord = 
-					this.zip64EndCentralDirectoryLocator.getOffsetZip64EndOfCentralDirectoryRecord();
+		// Made version
+		fileHeader.setMadeVersion(readUnsignedShort(dataBuffer, pos + 4));
 
-			if (offsetZip64EndOfCentralDirectoryRecord < 0L) {
-				throw new ZipException("Invalid offset for start of end of central directory record");
-			}
-			
-			input.seek(offsetZip64EndOfCentralDirectoryRecord);
+		// Extract needed
+		fileHeader.setExtractNeeded(readUnsignedShort(dataBuffer, pos + 6));
 
-			this.zip64EndCentralDirectoryRecord = new Zip64EndCentralDirectoryRecord();
+		// Purpose bit flag
+		fileHeader.setFileNameUTF8Encoded((readUnsignedShort(dataBuffer, pos + 8) & ZipConstants.UFT8_NAMES_FLAG) != 0);
+		int firstByte = dataBuffer.get(pos + 8);
+		fileHeader.setGeneralPurposeFlag(readBytes(dataBuffer, pos + 8, 2));
+		fileHeader.setDataDescriptorExists((firstByte >> 3) == 1);
 
-			byte[] readBuffer = new byte[56];
-			if (input.read(readBuffer) == Globals.DEFAULT_VALUE_INT) {
-				return;
-			}
-			
-			byte[] shortBuffer = new byte[2];
-			byte[] intBuffer = new byte[4];
-			byte[] longBuffer = new byte[8];
+		// Compression method
+		fileHeader.setCompressionMethod(readUnsignedShort(dataBuffer, pos + 10));
 
-			int signature = this.readSignature(readBuffer);
-			if (signature != ZipConstants.ZIP64ENDCENDIRREC) {
-				throw new ZipException("Invalid signature for zip64 end of central directory record");
-			}
-			this.zip64EndCentralDirectoryRecord.setSignature(signature);
+		// Last modify file time
+		fileHeader.setLastModFileTime(dataBuffer.getInt(pos + 12));
 
-			// Read size of zip64 end of central directory record
-			System.arraycopy(readBuffer, 4, longBuffer, 0, 8);
-			this.zip64EndCentralDirectoryRecord.setRecordSize(RawUtils.readLongFromLittleEndian(longBuffer, 0));
+		// Crc32
+		fileHeader.setCrc32(dataBuffer.getInt(pos + 16));
+		fileHeader.setCrcBuffer(readBytes(dataBuffer, pos + 16, 4));
 
-			// Made version
-			System.arraycopy(readBuffer, 12, shortBuffer, 0, 2);
-			this.zip64EndCentralDirectoryRecord.setMadeVersion(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
+		// Compressed size
+		fileHeader.setCompressedSize(readUnsignedInt(dataBuffer, pos + 20));
 
-			// Extract needed
-			System.arraycopy(readBuffer, 14, shortBuffer, 0, 2);
-			this.zip64EndCentralDirectoryRecord.setExtractNeeded(RawUtils.readShortFromLittleEndian(shortBuffer, 0));
-
-			// Number of this disk
-			System.arraycopy(readBuffer, 16, intBuffer, 0, 4);
-			this.zip64EndCentralDirectoryRecord.setIndex(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-
-			// Start of central directory
-			System.arraycopy(readBuffer, 20, intBuffer, 0, 4);
-			this.zip64EndCentralDirectoryRecord
-					.setStartOfCentralDirectory(RawUtils.readIntFromLittleEndian(intBuffer, 0));
-
-			// Total of entries in the central directory on this disk
-			System.arraycopy(readBuffer, 24, longBuffer, 0, 8);
-			this.zip64EndCentralDirectoryRecord
-					.setTotalEntriesInCentralDirectoryOnThisDisk(RawUtils.readLongFromLittleEndian(longBuffer, 0));
-
-			// Total of entries in the central directory
-			System.arraycopy(readBuffer, 32, longBuffer, 0, 8);
-			this.zip64EndCentralDirectoryRecord
-					.setTotalEntriesInCentralDirectory(RawUtils.readLongFromLittleEndian(longBuffer, 0));
-
-			// Size of the central directory
-			System.arraycopy(readBuffer, 40, longBuffer, 0, 8);
-			this.zip64EndCentralDirectoryRecord
-					.setSizeOfCentralDirectory(RawUtils.readLongFromLittleEndian(longBuffer, 0));
-
-			// Offset of start of central directory with respect to the starting
-			// disk number
-			System.arraycopy(readBuffer, 48, longBuffer, 0, 8);
-			this.zip64EndCentralDirectoryRecord
-					.setOffsetStartCenDirWRTStartDiskNo(RawUtils.readLongFromLittleEndian(longBuffer, 0));
-
-			// Zip64 extensible data sector
-			long extDataSize = zip64EndCentralDirectoryRecord.getRecordSize() - 44L;
-			if (extDataSize > 0) {
-				byte[] extensibleDataSector = new byte[(int) extDataSize];
-				if (input.read(extensibleDataSector) > 0) {
-					this.zip64EndCentralDirectoryRecord.setExtensibleDataSector(extensibleDataSector);
+		// Original size
+		fileHeader.setOriginalSize(readUnsignedInt(dataBuffer, pos + 24));
+
+		// File name length
+		int fileNameLength = readUnsignedShort(dataBuffer, pos + 28);
+		fileHeader.setFileNameLength(fileNameLength);
+
+		// Extra field length
+		int extraFieldLength = readUnsignedShort(dataBuffer, pos + 30);
+		fileHeader.setExtraFieldLength(extraFieldLength);
+
+		// Comment length
+		int fileCommentLength = readUnsignedShort(dataBuffer, pos + 32);
+		fileHeader.setFileCommentLength(fileCommentLength);
+
+		// Disk number of start
+		fileHeader.setDiskNumberStart(readUnsignedShort(dataBuffer, pos + 34));
+
+		// Internal file attributes
+		fileHeader.setInternalFileAttr(readBytes(dataBuffer, pos + 36, 2));
+
+		// External file attributes
+		fileHeader.setExternalFileAttr(readBytes(dataBuffer, pos + 38, 4));
+
+		// Relative offset of local header
+		fileHeader.setOffsetLocalHeader(readUnsignedInt(dataBuffer, pos + 42));
+
+		if (fileNameLength > 0) {
+			byte[] fileNameBuffer = readBytes(dataBuffer, pos + ZipConstants.CENHDR, fileNameLength);
+
+			String entryPath;
+
+			if (fileNameCharset != null) {
+				entryPath = new String(fileNameBuffer, fileNameCharset);
+			} else {
+				if (fileHeader.isFileNameUTF8Encoded()) {
+					entryPath = new String(fileNameBuffer, Charset.forName(Globals.DEFAULT_ENCODING));
+				} else {
+					entryPath = new String(fileNameBuffer, Charset.defaultCharset());
 				}
 			}
 
-			this.splitArchive = (this.zip64EndCentralDirectoryRecord.getIndex() > 0);
-		} catch (IOException e) {
-			throw new ZipException(e);
+			if (entryPath.contains(ZipConstants.ZIP_ENTRY_SEPARATOR)) {
+				entryPath = entryPath.substring(entryPath.indexOf(ZipConstants.ZIP_ENTRY_SEPARATOR)
+						+ ZipConstants.ZIP_ENTRY_SEPARATOR.length());
+			}
+
+			fileHeader.setEntryPath(entryPath);
+			fileHeader.setDirectory(entryPath.endsWith(ZipConstants.ZIP_FILE_SEPARATOR)
+					|| entryPath.endsWith(Globals.DEFAULT_PAGE_SEPARATOR));
+		} else {
+			fileHeader.setEntryPath(null);
+		}
+
+		// Extra field
+		if (extraFieldLength > 0) {
+			fileHeader.setExtraDataRecords(readExtraDataRecords(dataBuffer,
+					pos + ZipConstants.CENHDR + fileNameLength, extraFieldLength));
+		}
+
+		// Read zip64 extra data record if exists
+		readAndSaveZip64ExtendInfo(fileHeader);
+
+		// Read AES Extra data record if exists
+		readAndSaveAESExtraDataRecord(fileHeader);
+
+		if (fileCommentLength > 0) {
+			fileHeader.setFileComment(new String(readBytes(dataBuffer, 
+					pos + ZipConstants.CENHDR + fileNameLength + extraFieldLength, fileCommentLength),
+					Charset.forName(Globals.DEFAULT_ENCODING)));
 		}
+		return fileHeader;
 	}
-	
+
 	private static void readAndSaveAESExtraDataRecord(FileHeader fileHeader) throws ZipException {
 		if (fileHeader == null) {
 			throw new ZipException("File header is null!");
@@ -3153,22 +3443,22 @@ public final class ZipFile implements Cloneable {
 		}
 	}
 
-	private static List<ExtraDataRecord> readExtraDataRecords(byte[] extraFieldBuffer, int extraFieldLength)
+	private static List<ExtraDataRecord> readExtraDataRecords(ByteBuffer dataBuffer, int offset, int extraFieldLength)
 			throws ZipException {
 		int count = 0;
 		List<ExtraDataRecord> extraDataRecords = new ArrayList<>();
 
-		while (count < extraFieldLength) {
+		while (count + 4 <= extraFieldLength) {
 			ExtraDataRecord extraDataRecord = new ExtraDataRecord();
 			
-			extraDataRecord.setHeader(RawUtils.readShortFromLittleEndian(extraFieldBuffer, count));
+			extraDataRecord.setHeader(readUnsignedShort(dataBuffer, offset + count));
 
 			count += 2;
 
-			int dataSize = RawUtils.readShortFromLittleEndian(extraFieldBuffer, count);
+			int dataSize = readUnsignedShort(dataBuffer, offset + count);
 
 			if ((dataSize + 2) > extraFieldLength) {
-				dataSize = RawUtils.readShortFromBigEndian(extraFieldBuffer, count);
+				dataSize = Short.toUnsignedInt(Short.reverseBytes(dataBuffer.getShort(offset + count)));
 				if ((dataSize + 2) > extraFieldLength) {
 					break;
 				}
@@ -3178,9 +3468,8 @@ public final class ZipFile implements Cloneable {
 			count += 2;
 
 			if (dataSize > 0) {
-				byte[] dataContent = new byte[dataSize];
-				System.arraycopy(extraFieldBuffer, count, dataContent, 0, dataSize);
-				extraDataRecord.setDataContent(dataContent);
+				extraDataRecord.setDataContent(readBytes(dataBuffer, offset + count, 
+						Math.min(dataSize, extraFieldLength - count)));
 			}
 
 			count += dataSize;
@@ -3194,6 +3483,49 @@ public final class ZipFile implements Cloneable {
 		return null;
 	}
 
+	private static int readUnsignedShort(ByteBuffer dataBuffer, int position) {
+		return dataBuffer.getShort(position) & 0xFFFF;
+	}
+
+	private static long readUnsignedInt(ByteBuffer dataBuffer, int position) {
+		return dataBuffer.getInt(position) & 0xFFFFFFFFL;
+	}
+
+	private static byte[] readBytes(ByteBuffer dataBuffer, int position, int length) {
+		byte[] dataBytes = new byte[length];
+		for (int i = 0 ; i < length ; i++) {
+			dataBytes[i] = dataBuffer.get(position + i);
+		}
+		return dataBytes;
+	}
+
+	/**
+	 * Read region data into heap buffer by positional read
+	 * @param input				Zip file handler
+	 * @param position			Region begin position
+	 * @param length			Region length
+	 * @return					Little endian byte buffer of region data
+	 * @throws IOException		Read data error
+	 */
+	private static ByteBuffer readRegion(NervousyncRandomAccessFile input, long position, int length)
+			throws IOException {
+		byte[] readBuffer = new byte[length];
+		readFully(input, position, readBuffer, 0, length);
+		return ByteBuffer.wrap(readBuffer).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static void readFully(NervousyncRandomAccessFile input, long position, byte[] buffer, int off, int len)
+			throws IOException {
+		int readLength = 0;
+		while (readLength < len) {
+			int count = input.read(position + readLength, buffer, off + readLength, len - readLength);
+			if (count < 0) {
+				throw new EOFException();
+			}
+			readLength += count;
+		}
+	}
+
 	private static int countNumberOfFileHeaderEntriesOnDisk(List<GeneralFileHeader> fileHeaders, int numOfDisk)
 			throws ZipException {
 		if (fileHeaders == null) {
@@ -3209,29 +3541,6 @@ public final class ZipFile implements Cloneable {
 		return noEntries;
 	}
 
-	private static byte[] readLongByteFromIntByte(byte[] intByte) throws ZipException {
-		if (intByte == null) {
-			throw new ZipException("int bytes is null");
-		}
-
-		if (intByte.length != 4) {
-			throw new ZipException("Invalid byte length");
-		}
-
-		return new byte[]{intByte[0], intByte[1], intByte[2], intByte[3], 0, 0, 0, 0};
-	}
-
-	private static int readIntFromDataInput(NervousyncRandomAccessFile input, byte[] bytes) throws ZipException {
-		try {
-			if (input.read(bytes, 0, 4) == 4) {
-				return RawUtils.readIntFromLittleEndian(bytes, 0);
-			}
-		} catch (IOException e) {
-			throw new ZipException(e);
-		}
-		throw new ZipException("Invalid binary data");
-	}
-
 	private static void setFileReadOnly(File file) throws ZipException {
 		if (file == null) {
 			throw new ZipException("input file is null. cannot set read only file attribute");
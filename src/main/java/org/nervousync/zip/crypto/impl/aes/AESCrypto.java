@@ -16,9 +16,15 @@
  */
 package org.nervousync.zip.crypto.impl.aes;
 
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Random;
 
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
 import org.nervousync.commons.core.Globals;
 import org.nervousync.commons.core.zip.ZipConstants;
 import org.nervousync.zip.crypto.engine.MacBasedPRF;
@@ -26,7 +32,6 @@ import org.nervousync.zip.crypto.engine.PBKDF2Options;
 import org.nervousync.zip.engine.AESEngine;
 import org.nervousync.zip.engine.PBKDF2Engine;
 import org.nervousync.exceptions.zip.ZipException;
-import org.nervousync.utils.RawUtils;
 
 /**
  * AES Crypto
@@ -35,10 +40,33 @@ import org.nervousync.utils.RawUtils;
  */
 public class AESCrypto {
 
+	/**
+	 * Count of counter blocks encrypted by each cipher call
+	 */
+	private static final int BATCH_BLOCK_COUNT = 64;
+	/**
+	 * Generate key stream by JCE cipher, the JVM AES intrinsics will be used if supported.
+	 * Checked once when class initialized, AESEngine was used if JCE cipher not available
+	 */
+	private static final boolean JCE_CIPHER_AVAILABLE = AESCrypto.checkJCECipher();
+
+	/**
+	 * Iteration count of PBKDF2 for WinZip AES
+	 */
+	private static final int PBKDF2_ITERATIONS = 1000;
+
 	/**
 	 * Salt data array
 	 */
 	private byte[] saltBytes;
+	/**
+	 * AES key strength
+	 */
+	private int aesStrength;
+	/**
+	 * Derived key cache, key derivation was not cached if null
+	 */
+	AESKeyCache keyCache = null;
 	
 	/**
 	 * key length
@@ -62,10 +90,6 @@ public class AESCrypto {
 	 * nonce
 	 */
 	int nonce = 1;
-	/**
-	 * loop count
-	 */
-	int loopCount = 0;
 	
 	/**
 	 * iv bytes
@@ -75,9 +99,29 @@ public class AESCrypto {
 	 * count block bytes
 	 */
 	byte[] countBlock = null;
+	/**
+	 * Batched counter blocks
+	 */
+	private byte[] counterBlocks = null;
+	/**
+	 * Key stream of batched counter blocks
+	 */
+	private byte[] keyStream = null;
+	/**
+	 * Position of next unused key stream byte
+	 */
+	private int keyStreamPosition = 0;
+	/**
+	 * Length of generated key stream
+	 */
+	private int keyStreamLength = 0;
 
 	/**
-	 * AES engine
+	 * JCE cipher of AES/ECB/NoPadding
+	 */
+	private Cipher aesCipher = null;
+	/**
+	 * AES engine, using when JCE cipher was disabled or not available
 	 */
 	AESEngine aesEngine = null;
 	/**
@@ -95,10 +139,25 @@ public class AESCrypto {
 	 */
 	public static boolean verifyPassword(int aesStrength, byte[] salt, 
 			char[] password, byte[] passwordBytes) {
+		return AESCrypto.verifyPassword(aesStrength, salt, password, passwordBytes, null);
+	}
+
+	/**
+	 * Verify given password, using cached derived key if exists
+	 * @param aesStrength		AES key strength
+	 * @param salt				salt bytes
+	 * @param password			password 
+	 * @param passwordBytes		password bytes
+	 * @param keyCache			Derived key cache
+	 * @return	verify result
+	 */
+	public static boolean verifyPassword(int aesStrength, byte[] salt, 
+			char[] password, byte[] passwordBytes, AESKeyCache keyCache) {
 		if (password == null || password.length == 0 || passwordBytes == null || passwordBytes.length == 0) {
 			return Globals.DEFAULT_VALUE_BOOLEAN;
 		}
 		AESCrypto aesCrypto = new AESCrypto();
+		aesCrypto.keyCache = keyCache;
 		aesCrypto.preInit(aesStrength);
 		aesCrypto.init(salt, password);
 		return aesCrypto.verifyPassword(passwordBytes);
@@ -122,6 +181,7 @@ public class AESCrypto {
 			throw new ZipException("Invalid key strength in AES encryptor constructor");
 		}
 		
+		this.aesStrength = aesStrength;
 		this.iv = new byte[ZipConstants.AES_BLOCK_SIZE];
 		this.countBlock = new byte[ZipConstants.AES_BLOCK_SIZE];
 		
@@ -171,27 +231,142 @@ public class AESCrypto {
 		this.initCrypto(password);
 	}
 
-	void processData(byte[] buff, int index) {
-		this.iv = RawUtils.prepareAESBuffer(this.nonce);
-		this.aesEngine.processBlock(this.iv, this.countBlock);
+	/**
+	 * Check crypto was initialized
+	 * @return	initialize status
+	 */
+	boolean initialized() {
+		return this.aesCipher != null || this.aesEngine != null;
+	}
 
-		for (int j = 0 ; j < this.loopCount ; j++) {
-			buff[index + j] = (byte)(buff[index + j] ^ this.countBlock[j]);
+	/**
+	 * Process data by AES-CTR mode, counter blocks were encrypted in batch.
+	 * Unused key stream bytes were kept for next call, so data can be processed at any length
+	 * @param buff		data bytes
+	 * @param start		begin index
+	 * @param len		data length
+	 * @throws ZipException		Process key stream error
+	 */
+	void processData(byte[] buff, int start, int len) throws ZipException {
+		int offset = start;
+		int end = start + len;
+		while (offset < end) {
+			if (this.keyStreamPosition == this.keyStreamLength) {
+				this.generateKeyStream(Math.min(BATCH_BLOCK_COUNT,
+						(end - offset + ZipConstants.AES_BLOCK_SIZE - 1) / ZipConstants.AES_BLOCK_SIZE));
+			}
+
+			int length = Math.min(end - offset, this.keyStreamLength - this.keyStreamPosition);
+			for (int j = 0 ; j < length ; j++) {
+				buff[offset + j] ^= this.keyStream[this.keyStreamPosition + j];
+			}
+			this.keyStreamPosition += length;
+			offset += length;
+		}
+	}
+
+	/**
+	 * Move key stream to given position of data
+	 * @param position		data position
+	 * @throws ZipException		Process key stream error
+	 */
+	void seekKeyStream(long position) throws ZipException {
+		this.nonce = (int)(position / ZipConstants.AES_BLOCK_SIZE) + 1;
+		this.keyStreamPosition = 0;
+		this.keyStreamLength = 0;
+		int blockOffset = (int)(position % ZipConstants.AES_BLOCK_SIZE);
+		if (blockOffset > 0) {
+			this.generateKeyStream(1);
+			this.keyStreamPosition = blockOffset;
+		}
+	}
+
+	private void generateKeyStream(int blockCount) throws ZipException {
+		for (int i = 0 ; i < blockCount ; i++) {
+			int position = i * ZipConstants.AES_BLOCK_SIZE;
+			this.counterBlocks[position] = (byte)this.nonce;
+			this.counterBlocks[position + 1] = (byte)(this.nonce >> 8);
+			this.counterBlocks[position + 2] = (byte)(this.nonce >> 16);
+			this.counterBlocks[position + 3] = (byte)(this.nonce >> 24);
+			this.nonce++;
+		}
+
+		this.processCounterBlocks(blockCount * ZipConstants.AES_BLOCK_SIZE);
+		this.keyStreamPosition = 0;
+		this.keyStreamLength = blockCount * ZipConstants.AES_BLOCK_SIZE;
+	}
+
+	private void processCounterBlocks(int length) throws ZipException {
+		if (this.aesCipher != null) {
+			try {
+				this.aesCipher.update(this.counterBlocks, 0, length, this.keyStream, 0);
+			} catch (GeneralSecurityException e) {
+				throw new ZipException(e);
+			}
+		} else {
+			for (int position = 0 ; position < length ; position += ZipConstants.AES_BLOCK_SIZE) {
+				System.arraycopy(this.counterBlocks, position, this.iv, 0, ZipConstants.AES_BLOCK_SIZE);
+				this.aesEngine.processBlock(this.iv, this.countBlock);
+				System.arraycopy(this.countBlock, 0, this.keyStream, position, ZipConstants.AES_BLOCK_SIZE);
+			}
 		}
-		this.nonce++;
 	}
 	
 	/**
-	 * Derive key
+	 * Derive key, cached derived key was used if exists
 	 * @param salt			salt bytes
 	 * @param password		password
 	 * @param dkLen			length
 	 * @return				processed data bytes
 	 */
 	private byte[] deriveKey(byte[] salt, char[] password, int dkLen) {
-		PBKDF2Options options = new PBKDF2Options("HmacSHA1", "ISO-8859-1", salt, 1000);
-		PBKDF2Engine engine = new PBKDF2Engine(options);
-		return engine.deriveKey(password, dkLen);
+		if (this.keyCache != null) {
+			byte[] derivedKey = this.keyCache.retrieve(password, salt, this.aesStrength);
+			if (derivedKey != null && derivedKey.length == dkLen) {
+				return derivedKey;
+			}
+		}
+
+		byte[] derivedKey = deriveKeyByJCE(salt, password, dkLen);
+		if (derivedKey == null) {
+			PBKDF2Options options = new PBKDF2Options("HmacSHA1", "ISO-8859-1", salt, PBKDF2_ITERATIONS);
+			PBKDF2Engine engine = new PBKDF2Engine(options);
+			derivedKey = engine.deriveKey(password, dkLen);
+		}
+
+		if (this.keyCache != null) {
+			this.keyCache.cache(password, salt, this.aesStrength, derivedKey);
+		}
+		return derivedKey;
+	}
+
+	/**
+	 * Derive key by JCE PBKDF2WithHmacSHA1.
+	 * JCE encodes password as UTF-8 but PBKDF2Engine using the low byte of each char,
+	 * so only ASCII password was derived by JCE
+	 * @param salt			salt bytes
+	 * @param password		password
+	 * @param dkLen			length
+	 * @return				derived key bytes or null if JCE was not available
+	 */
+	private static byte[] deriveKeyByJCE(byte[] salt, char[] password, int dkLen) {
+		if (salt == null || salt.length == 0) {
+			return null;
+		}
+		for (char c : password) {
+			if (c > 0x7F) {
+				return null;
+			}
+		}
+
+		PBEKeySpec keySpec = new PBEKeySpec(password, salt, PBKDF2_ITERATIONS, dkLen * 8);
+		try {
+			return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA1").generateSecret(keySpec).getEncoded();
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			return null;
+		} finally {
+			keySpec.clearPassword();
+		}
 	}
 	
 	/**
@@ -227,12 +402,51 @@ public class AESCrypto {
 		System.arraycopy(keyBytes, this.keyLength, macKey, 0, this.macLength);
 		System.arraycopy(keyBytes, (this.keyLength + this.macLength), 
 				this.derivedPasswordVerifier, 0, ZipConstants.PASSWORD_VERIFIER_LENGTH);
+		Arrays.fill(keyBytes, (byte)0);
 		
-		this.aesEngine = new AESEngine(aesKey);
+		this.counterBlocks = new byte[BATCH_BLOCK_COUNT * ZipConstants.AES_BLOCK_SIZE];
+		this.keyStream = new byte[BATCH_BLOCK_COUNT * ZipConstants.AES_BLOCK_SIZE];
+		if (JCE_CIPHER_AVAILABLE) {
+			try {
+				Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+				cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(aesKey, "AES"));
+				this.aesCipher = cipher;
+			} catch (GeneralSecurityException e) {
+				this.aesCipher = null;
+			}
+		}
+		if (this.aesCipher == null) {
+			this.aesEngine = new AESEngine(aesKey);
+		}
 		this.macBasedPRF = new MacBasedPRF("HmacSHA1");
 		this.macBasedPRF.init(macKey);
+		Arrays.fill(aesKey, (byte)0);
+		Arrays.fill(macKey, (byte)0);
 	}
 	
+	/**
+	 * Check JCE cipher of AES/ECB/NoPadding by known answer of FIPS-197
+	 * @return	<code>true</code> if JCE cipher available and result was correct
+	 */
+	private static boolean checkJCECipher() {
+		byte[] keyBytes = new byte[16];
+		byte[] plainBytes = new byte[16];
+		for (int i = 0 ; i < 16 ; i++) {
+			keyBytes[i] = (byte)i;
+			plainBytes[i] = (byte)(i * 0x11);
+		}
+		byte[] expectedBytes = new byte[]{
+				(byte)0x69, (byte)0xC4, (byte)0xE0, (byte)0xD8, (byte)0x6A, (byte)0x7B, (byte)0x04, (byte)0x30,
+				(byte)0xD8, (byte)0xCD, (byte)0xB7, (byte)0x80, (byte)0x70, (byte)0xB4, (byte)0xC5, (byte)0x5A};
+		try {
+			Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(keyBytes, "AES"));
+			return Arrays.equals(expectedBytes, cipher.doFinal(plainBytes));
+		} catch (GeneralSecurityException e) {
+			return Globals.DEFAULT_VALUE_BOOLEAN;
+		}
+	}
+
 	/**
 	 * Generate salt data
 	 * @throws ZipException if salt length was invalid
@@ -16,7 +16,6 @@
  */
 package org.nervousync.zip.crypto.impl.aes;
 
-import org.nervousync.commons.core.zip.ZipConstants;
 import org.nervousync.zip.models.header.LocalFileHeader;
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.zip.crypto.Decryptor;
@@ -32,6 +31,11 @@ public class AESDecryptor extends AESCrypto implements Decryptor {
 
 	public AESDecryptor(LocalFileHeader localFileHeader,
 	                    byte[] salt, byte[] passwordBytes) throws ZipException {
+		this(localFileHeader, salt, passwordBytes, null);
+	}
+
+	public AESDecryptor(LocalFileHeader localFileHeader,
+	                    byte[] salt, byte[] passwordBytes, AESKeyCache keyCache) throws ZipException {
 		if (localFileHeader == null) {
 			throw new ZipException("Local file header is null!");
 		}
@@ -40,6 +44,7 @@ public class AESDecryptor extends AESCrypto implements Decryptor {
 			throw new ZipException("Invalid aes extra data record!");
 		}
 
+		this.keyCache = keyCache;
 		super.preInit(localFileHeader.getAesExtraDataRecord().getAesStrength());
 		this.init(salt, localFileHeader.getPassword());
 		
@@ -55,18 +60,13 @@ public class AESDecryptor extends AESCrypto implements Decryptor {
 
 	@Override
 	public int decryptData(byte[] buff, int start, int len) throws ZipException {
-		if (this.aesEngine == null) {
+		if (!this.initialized()) {
 			throw new ZipException("Please initialize first!");
 		}
   
 		try {
-			for (int i = start ; i < (start + len) ; i += ZipConstants.AES_BLOCK_SIZE) {
-				this.loopCount = (i + ZipConstants.AES_BLOCK_SIZE <= (start + len)) ? 
-						ZipConstants.AES_BLOCK_SIZE : ((start + len) - i);
-				
-				this.macBasedPRF.update(buff, i, this.loopCount);
-				super.processData(buff, i);
-			}
+			this.macBasedPRF.update(buff, start, len);
+			super.processData(buff, start, len);
 			
 			return len;
 		} catch (Exception e) {
@@ -78,6 +78,19 @@ public class AESDecryptor extends AESCrypto implements Decryptor {
 		}
 	}
 	
+	/**
+	 * Move decrypt position to given position of entry data,
+	 * authentication code only matches when all data was decrypted in order
+	 * @param position		Position of entry data
+	 * @throws ZipException	Process key stream error
+	 */
+	public void seek(long position) throws ZipException {
+		if (!this.initialized()) {
+			throw new ZipException("Please initialize first!");
+		}
+		super.seekKeyStream(position);
+	}
+
 	public byte[] calculateAuthenticationBytes() {
 		return this.macBasedPRF.doFinal();
 	}
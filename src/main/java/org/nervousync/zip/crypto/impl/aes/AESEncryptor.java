@@ -17,7 +17,6 @@
 package org.nervousync.zip.crypto.impl.aes;
 
 import org.nervousync.commons.core.Globals;
-import org.nervousync.commons.core.zip.ZipConstants;
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.zip.crypto.Encryptor;
 
@@ -53,12 +52,8 @@ public class AESEncryptor extends AESCrypto implements Encryptor {
 			this.finished = true;
 		}
 		
-		for (int i = start ; i < (start + len) ; i += ZipConstants.AES_BLOCK_SIZE) {
-			this.loopCount = (i + ZipConstants.AES_BLOCK_SIZE <= (start + len)) ? 
-					ZipConstants.AES_BLOCK_SIZE : ((start + len) - i);
-			super.processData(buff, i);
-			this.macBasedPRF.update(buff, i, this.loopCount);
-		}
+		super.processData(buff, start, len);
+		this.macBasedPRF.update(buff, start, len);
 		
 		return len;
 	}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.zip.crypto.impl.aes;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size bounded cache of AES derived key material, keyed by password, salt and key strength.
+ * Cached password, salt and key bytes were wiped when evicted or cleared
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 3:26:08 PM $
+ */
+public final class AESKeyCache {
+
+	/**
+	 * Maximum count of cached derived keys
+	 */
+	private final int maxSize;
+	/**
+	 * Derived keys, ordered by access
+	 */
+	private final LinkedHashMap<CacheKey, byte[]> derivedKeys;
+
+	/**
+	 * Constructor
+	 * @param maxSize	Maximum count of cached derived keys
+	 */
+	public AESKeyCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.derivedKeys = new LinkedHashMap<CacheKey, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, byte[]> eldest) {
+				if (this.size() > AESKeyCache.this.maxSize) {
+					eldest.getKey().wipe();
+					Arrays.fill(eldest.getValue(), (byte)0);
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Wipe and remove all cached derived keys
+	 */
+	public synchronized void clear() {
+		Iterator<Map.Entry<CacheKey, byte[]>> iterator = this.derivedKeys.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<CacheKey, byte[]> entry = iterator.next();
+			entry.getKey().wipe();
+			Arrays.fill(entry.getValue(), (byte)0);
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Read cached derived key
+	 * @param password			password
+	 * @param salt				salt bytes
+	 * @param aesStrength		AES key strength
+	 * @return					Copy of cached derived key or null if not cached
+	 */
+	synchronized byte[] retrieve(char[] password, byte[] salt, int aesStrength) {
+		byte[] derivedKey = this.derivedKeys.get(new CacheKey(password, salt, aesStrength));
+		return derivedKey == null ? null : derivedKey.clone();
+	}
+
+	/**
+	 * Cache derived key
+	 * @param password			password
+	 * @param salt				salt bytes
+	 * @param aesStrength		AES key strength
+	 * @param derivedKey		derived key
+	 */
+	synchronized void cache(char[] password, byte[] salt, int aesStrength, byte[] derivedKey) {
+		if (this.maxSize > 0) {
+			byte[] previousKey = this.derivedKeys.put(new CacheKey(password.clone(), salt.clone(), aesStrength),
+					derivedKey.clone());
+			if (previousKey != null) {
+				Arrays.fill(previousKey, (byte)0);
+			}
+		}
+	}
+
+	private static final class CacheKey {
+
+		private final char[] password;
+		private final byte[] salt;
+		private final int aesStrength;
+		private final int hashCode;
+
+		CacheKey(char[] password, byte[] salt, int aesStrength) {
+			this.password = password;
+			this.salt = salt;
+			this.aesStrength = aesStrength;
+			this.hashCode = 31 * (31 * Arrays.hashCode(password) + Arrays.hashCode(salt)) + aesStrength;
+		}
+
+		void wipe() {
+			Arrays.fill(this.password, Character.MIN_VALUE);
+			Arrays.fill(this.salt, (byte)0);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey cacheKey = (CacheKey) o;
+			return this.aesStrength == cacheKey.aesStrength
+					&& Arrays.equals(this.password, cacheKey.password)
+					&& Arrays.equals(this.salt, cacheKey.salt);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+}
@@ -89,6 +89,66 @@ public class CipherOutputStream extends OutputStream {
 	}
 
 	public void putNextEntry(File file, ZipOptions zipOptions) throws ZipException {
+		try {
+			this.beginEntry(file, zipOptions);
+			
+			if (this.zipOptions.isEncryptFiles()) {
+				this.initEncryptor();
+				if (this.encryptor != null) {
+					if (this.zipOptions.getEncryptionMethod() == ZipConstants.ENC_METHOD_STANDARD) {
+						byte[] headerBytes = ((StandardEncryptor) this.encryptor).getHeaderBytes();
+						this.outputStream.write(headerBytes);
+						this.totalWriteBytes += headerBytes.length;
+						this.bytesWrittenForThisFile += headerBytes.length;
+					} else if (this.zipOptions.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES) {
+						byte[] saltBytes = ((AESEncryptor) this.encryptor).getSaltBytes();
+						byte[] passwordVerifier = ((AESEncryptor) this.encryptor).getDerivedPasswordVerifier();
+						this.outputStream.write(saltBytes);
+						this.outputStream.write(passwordVerifier);
+						this.totalWriteBytes += saltBytes.length + passwordVerifier.length;
+						this.bytesWrittenForThisFile += saltBytes.length + passwordVerifier.length;
+					}
+				}
+			}
+
+			this.crc.reset();
+		} catch (ZipException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ZipException(e);
+		}
+	}
+
+	/**
+	 * Write entry which data was already compressed and encrypted
+	 * @param file					Source file
+	 * @param zipOptions			Zip options
+	 * @param compressedEntry		Compressed entry data
+	 * @throws IOException			Write data error
+	 * @throws ZipException			Write entry header error
+	 */
+	public void writeCompressedEntry(File file, ZipOptions zipOptions,
+	                                 CompressedEntry compressedEntry) throws IOException, ZipException {
+		if (compressedEntry == null) {
+			throw new ZipException("Compressed entry is null!");
+		}
+
+		this.beginEntry(file, zipOptions);
+
+		for (byte[] dataBytes : new byte[][]{compressedEntry.getHeaderBytes(),
+				compressedEntry.getDataBytes(), compressedEntry.getMacBytes()}) {
+			if (dataBytes.length > 0) {
+				this.outputStream.write(dataBytes);
+				this.totalWriteBytes += dataBytes.length;
+				this.bytesWrittenForThisFile += dataBytes.length;
+			}
+		}
+
+		this.totalReadBytes = compressedEntry.getOriginalSize();
+		this.completeEntry(compressedEntry.getCrc());
+	}
+
+	private void beginEntry(File file, ZipOptions zipOptions) throws ZipException {
 		if (!zipOptions.isSourceExternalStream() && file == null) {
 			throw new ZipException("Input file is null!");
 		}
@@ -148,27 +208,6 @@ public class CipherOutputStream extends OutputStream {
 			}
 			
 			this.totalWriteBytes += this.writeLocalFileHeader(this.localFileHeader, this.outputStream);
-			
-			if (this.zipOptions.isEncryptFiles()) {
-				this.initEncryptor();
-				if (this.encryptor != null) {
-					if (this.zipOptions.getEncryptionMethod() == ZipConstants.ENC_METHOD_STANDARD) {
-						byte[] headerBytes = ((StandardEncryptor) this.encryptor).getHeaderBytes();
-						this.outputStream.write(headerBytes);
-						this.totalWriteBytes += headerBytes.length;
-						this.bytesWrittenForThisFile += headerBytes.length;
-					} else if (this.zipOptions.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES) {
-						byte[] saltBytes = ((AESEncryptor) this.encryptor).getSaltBytes();
-						byte[] passwordVerifier = ((AESEncryptor) this.encryptor).getDerivedPasswordVerifier();
-						this.outputStream.write(saltBytes);
-						this.outputStream.write(passwordVerifier);
-						this.totalWriteBytes += saltBytes.length + passwordVerifier.length;
-						this.bytesWrittenForThisFile += saltBytes.length + passwordVerifier.length;
-					}
-				}
-			}
-
-			this.crc.reset();
 		} catch (ZipException e) {
 			throw e;
 		} catch (Exception e) {
@@ -242,6 +281,10 @@ public class CipherOutputStream extends OutputStream {
 			}
 		}
 
+		this.completeEntry(this.crc.getValue());
+	}
+
+	private void completeEntry(long crc32) throws IOException, ZipException {
 		this.generalFileHeader.setCompressedSize(this.bytesWrittenForThisFile);
 		this.localFileHeader.setCompressedSize(this.bytesWrittenForThisFile);
 
@@ -252,8 +295,6 @@ public class CipherOutputStream extends OutputStream {
 			}
 		}
 
-		long crc32 = this.crc.getValue();
-
 		if (this.generalFileHeader.isEncrypted()) {
 			if (this.generalFileHeader.getEncryptionMethod() == ZipConstants.ENC_METHOD_AES) {
 				crc32 = 0;
@@ -268,8 +309,11 @@ public class CipherOutputStream extends OutputStream {
 			this.localFileHeader.setCrc32(crc32);
 		}
 
-		this.zipFile.getLocalFileHeaderList().add(this.localFileHeader);
-		this.zipFile.getCentralDirectory().getFileHeaders().add(this.generalFileHeader);
+		if (this.outputStream instanceof SplitOutputStream) {
+			//	Streaming archive only keep central directory, memory usage is bounded by entry count
+			this.zipFile.getLocalFileHeaderList().add(this.localFileHeader);
+		}
+		this.zipFile.getCentralDirectory().addFileHeader(this.generalFileHeader);
 
 		this.totalWriteBytes += 
 				HeaderOperator.writeExtendedLocalHeader(this.localFileHeader, this.outputStream);
@@ -583,6 +627,17 @@ public class CipherOutputStream extends OutputStream {
 			RawUtils.writeIntFromLittleEndian(intBuffer, 0, localFileHeader.getSignature());
 			HeaderOperator.copyByteArrayToArrayList(intBuffer, headerBytesList);
 
+			//	Size of external stream entry was unknown until data descriptor was written,
+			//	so zip64 extra field was always declared and data descriptor was written as 8 bytes sizes
+			boolean writingZip64Record =
+					(this.zipOptions.isSourceExternalStream() && !this.generalFileHeader.isDirectory())
+					|| localFileHeader.getOriginalSize() + ZipConstants.ZIP64_EXTRA_BUFFER_SIZE
+					>= ZipConstants.ZIP_64_LIMIT;
+			if (writingZip64Record && localFileHeader.getExtractNeeded() < ZipConstants.ZIP64_EXTRACT_NEEDED) {
+				localFileHeader.setExtractNeeded(ZipConstants.ZIP64_EXTRACT_NEEDED);
+				this.generalFileHeader.setExtractNeeded(ZipConstants.ZIP64_EXTRACT_NEEDED);
+			}
+
 			RawUtils.writeShortFromLittleEndian(shortBuffer, 0, (short) localFileHeader.getExtractNeeded());
 			HeaderOperator.copyByteArrayToArrayList(shortBuffer, headerBytesList);
 
@@ -597,10 +652,7 @@ public class CipherOutputStream extends OutputStream {
 			RawUtils.writeIntFromLittleEndian(intBuffer, 0, (int) localFileHeader.getCrc32());
 			HeaderOperator.copyByteArrayToArrayList(intBuffer, headerBytesList);
 
-			boolean writingZip64Record = Globals.DEFAULT_VALUE_BOOLEAN;
-
-			long originalSize = localFileHeader.getOriginalSize();
-			if (originalSize + ZipConstants.ZIP64_EXTRA_BUFFER_SIZE >= ZipConstants.ZIP_64_LIMIT) {
+			if (writingZip64Record) {
 				RawUtils.writeLongFromLittleEndian(longBuffer, 0, ZipConstants.ZIP_64_LIMIT);
 				System.arraycopy(longBuffer, 0, intBuffer, 0, 4);
 
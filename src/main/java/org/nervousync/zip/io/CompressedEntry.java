@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.zip.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.nervousync.commons.core.Globals;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.commons.core.zip.ZipOptions;
+import org.nervousync.exceptions.zip.ZipException;
+import org.nervousync.utils.DateTimeUtils;
+import org.nervousync.utils.FileUtils;
+import org.nervousync.utils.IOUtils;
+import org.nervousync.zip.crypto.Encryptor;
+import org.nervousync.zip.crypto.impl.aes.AESEncryptor;
+import org.nervousync.zip.crypto.impl.standard.StandardEncryptor;
+
+/**
+ * Entry data which was compressed and encrypted in memory,
+ * using for compress entries in worker threads and write them in order by single writer
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 10:12:43 AM $
+ */
+public final class CompressedEntry {
+
+	/**
+	 * Encrypt header bytes, standard encrypt header or AES salt and password verifier
+	 */
+	private final byte[] headerBytes;
+	/**
+	 * Compressed and encrypted data bytes
+	 */
+	private final byte[] dataBytes;
+	/**
+	 * AES authentication code bytes
+	 */
+	private final byte[] macBytes;
+	/**
+	 * CRC value of original data
+	 */
+	private final long crc;
+	/**
+	 * Original data size
+	 */
+	private final long originalSize;
+
+	private CompressedEntry(byte[] headerBytes, byte[] dataBytes, byte[] macBytes, long crc, long originalSize) {
+		this.headerBytes = headerBytes;
+		this.dataBytes = dataBytes;
+		this.macBytes = macBytes;
+		this.crc = crc;
+		this.originalSize = originalSize;
+	}
+
+	/**
+	 * Compress and encrypt given file by zip options.
+	 * Compression method and encryption method are same as ZipOutputStream, so the data can be written
+	 * by CipherOutputStream#writeCompressedEntry directly
+	 * @param filePath		Source file path
+	 * @param zipOptions	Zip options
+	 * @return				Compressed entry
+	 * @throws ZipException	Read file error or compress/encrypt data error
+	 */
+	public static CompressedEntry compress(String filePath, ZipOptions zipOptions) throws ZipException {
+		if (zipOptions == null) {
+			throw new ZipException("Zip options is null!");
+		}
+
+		InputStream inputStream = null;
+		Deflater deflater = null;
+		byte[] readBuffer = CompressorPool.borrowBuffer();
+		byte[] deflateBuffer = CompressorPool.borrowBuffer();
+		try {
+			inputStream = FileUtils.loadFile(filePath);
+			if (inputStream == null) {
+				throw new ZipException("Load file error!");
+			}
+
+			long fileSize = FileUtils.getFileSize(filePath);
+			ByteArrayOutputStream outputStream =
+					new ByteArrayOutputStream((int)Math.min(fileSize + 64L, Integer.MAX_VALUE));
+			CRC32 crc32 = new CRC32();
+			long originalSize = 0L;
+			int readLength;
+
+			if (zipOptions.getCompressionMethod() == ZipConstants.COMP_DEFLATE) {
+				deflater = CompressorPool.borrowDeflater(zipOptions.getCompressionLevel());
+			}
+
+			while ((readLength = inputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
+				crc32.update(readBuffer, 0, readLength);
+				originalSize += readLength;
+				if (deflater == null) {
+					outputStream.write(readBuffer, 0, readLength);
+				} else {
+					deflater.setInput(readBuffer, 0, readLength);
+					while (!deflater.needsInput()) {
+						int length = deflater.deflate(deflateBuffer, 0, deflateBuffer.length);
+						outputStream.write(deflateBuffer, 0, length);
+					}
+				}
+			}
+
+			if (deflater != null) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					int length = deflater.deflate(deflateBuffer, 0, deflateBuffer.length);
+					outputStream.write(deflateBuffer, 0, length);
+				}
+			}
+
+			byte[] dataBytes = outputStream.toByteArray();
+			byte[] headerBytes = new byte[0];
+			byte[] macBytes = new byte[0];
+
+			if (zipOptions.isEncryptFiles()) {
+				Encryptor encryptor;
+				switch (zipOptions.getEncryptionMethod()) {
+					case ZipConstants.ENC_METHOD_STANDARD:
+						int lastModFileTime = (int) DateTimeUtils.toDosTime(FileUtils.lastModify(filePath));
+						encryptor = new StandardEncryptor(zipOptions.getPassword(),
+								(lastModFileTime & 0x0000FFFF) << 16);
+						headerBytes = ((StandardEncryptor) encryptor).getHeaderBytes();
+						break;
+					case ZipConstants.ENC_METHOD_AES:
+						encryptor = new AESEncryptor(zipOptions.getPassword(), zipOptions.getAesKeyStrength());
+						byte[] saltBytes = ((AESEncryptor) encryptor).getSaltBytes();
+						byte[] passwordVerifier = ((AESEncryptor) encryptor).getDerivedPasswordVerifier();
+						headerBytes = new byte[saltBytes.length + passwordVerifier.length];
+						System.arraycopy(saltBytes, 0, headerBytes, 0, saltBytes.length);
+						System.arraycopy(passwordVerifier, 0, headerBytes, saltBytes.length, passwordVerifier.length);
+						break;
+					default:
+						throw new ZipException("invalid encryption method");
+				}
+
+				if (dataBytes.length > 0) {
+					encryptor.encryptData(dataBytes, 0, dataBytes.length);
+				}
+
+				if (encryptor instanceof AESEncryptor) {
+					macBytes = ((AESEncryptor) encryptor).getFinalMac();
+				}
+			}
+
+			return new CompressedEntry(headerBytes, dataBytes, macBytes, crc32.getValue(), originalSize);
+		} catch (IOException e) {
+			throw new ZipException(e);
+		} finally {
+			CompressorPool.releaseDeflater(deflater);
+			CompressorPool.releaseBuffer(readBuffer);
+			CompressorPool.releaseBuffer(deflateBuffer);
+			IOUtils.closeStream(inputStream);
+		}
+	}
+
+	/**
+	 * @return the headerBytes
+	 */
+	public byte[] getHeaderBytes() {
+		return headerBytes;
+	}
+
+	/**
+	 * @return the dataBytes
+	 */
+	public byte[] getDataBytes() {
+		return dataBytes;
+	}
+
+	/**
+	 * @return the macBytes
+	 */
+	public byte[] getMacBytes() {
+		return macBytes;
+	}
+
+	/**
+	 * @return the crc
+	 */
+	public long getCrc() {
+		return crc;
+	}
+
+	/**
+	 * @return the originalSize
+	 */
+	public long getOriginalSize() {
+		return originalSize;
+	}
+}
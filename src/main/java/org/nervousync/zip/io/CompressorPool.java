@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.zip.io;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.nervousync.commons.core.Globals;
+import org.nervousync.commons.core.zip.ZipConstants;
+
+/**
+ * Bounded thread-safe pool of Inflater, Deflater instances and data buffers shared by zip streams.
+ * Instances were reset and buffers were wiped when released, the instances released to a full pool were ended immediately,
+ * so native zlib memory was not left to the finalizer
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 4:02:37 PM $
+ */
+public final class CompressorPool {
+
+	private static final ArrayBlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(ZipConstants.COMPRESSOR_POOL_SIZE);
+	private static final ArrayBlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(ZipConstants.COMPRESSOR_POOL_SIZE);
+	private static final ArrayBlockingQueue<byte[]> BUFFERS = new ArrayBlockingQueue<>(ZipConstants.COMPRESSOR_POOL_SIZE * 2);
+
+	private static final LongAdder INFLATER_HITS = new LongAdder();
+	private static final LongAdder INFLATER_MISSES = new LongAdder();
+	private static final LongAdder DEFLATER_HITS = new LongAdder();
+	private static final LongAdder DEFLATER_MISSES = new LongAdder();
+	private static final LongAdder BUFFER_HITS = new LongAdder();
+	private static final LongAdder BUFFER_MISSES = new LongAdder();
+
+	private CompressorPool() {
+	}
+
+	/**
+	 * Borrow inflater for raw deflate data (nowrap)
+	 * @return	Inflater instance
+	 */
+	public static Inflater borrowInflater() {
+		Inflater inflater = INFLATERS.poll();
+		if (inflater == null) {
+			INFLATER_MISSES.increment();
+			return new Inflater(true);
+		}
+		INFLATER_HITS.increment();
+		return inflater;
+	}
+
+	/**
+	 * Release inflater to pool
+	 * @param inflater	Inflater instance
+	 */
+	public static void releaseInflater(Inflater inflater) {
+		if (inflater == null) {
+			return;
+		}
+		inflater.reset();
+		if (!INFLATERS.offer(inflater)) {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Borrow deflater for raw deflate data (nowrap)
+	 * @param compressionLevel	Compression level, 0-9 or -1 for default level
+	 * @return	Deflater instance
+	 */
+	public static Deflater borrowDeflater(int compressionLevel) {
+		Deflater deflater = DEFLATERS.poll();
+		if (deflater == null) {
+			DEFLATER_MISSES.increment();
+			return new Deflater(compressionLevel, true);
+		}
+		DEFLATER_HITS.increment();
+		deflater.setLevel(compressionLevel);
+		return deflater;
+	}
+
+	/**
+	 * Release deflater to pool
+	 * @param deflater	Deflater instance
+	 */
+	public static void releaseDeflater(Deflater deflater) {
+		if (deflater == null) {
+			return;
+		}
+		deflater.reset();
+		deflater.setLevel(Deflater.DEFAULT_COMPRESSION);
+		deflater.setStrategy(Deflater.DEFAULT_STRATEGY);
+		if (!DEFLATERS.offer(deflater)) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Borrow data buffer, the buffer length is Globals.DEFAULT_BUFFER_SIZE
+	 * @return	Data buffer
+	 */
+	public static byte[] borrowBuffer() {
+		byte[] buffer = BUFFERS.poll();
+		if (buffer == null) {
+			BUFFER_MISSES.increment();
+			return new byte[Globals.DEFAULT_BUFFER_SIZE];
+		}
+		BUFFER_HITS.increment();
+		return buffer;
+	}
+
+	/**
+	 * Release data buffer to pool, buffer was wiped first because it may hold plain data
+	 * @param buffer	Data buffer
+	 */
+	public static void releaseBuffer(byte[] buffer) {
+		if (buffer == null) {
+			return;
+		}
+		Arrays.fill(buffer, (byte)0);
+		if (buffer.length == Globals.DEFAULT_BUFFER_SIZE) {
+			BUFFERS.offer(buffer);
+		}
+	}
+
+	/**
+	 * @return the count of inflater borrowed from pool
+	 */
+	public static long getInflaterHits() {
+		return INFLATER_HITS.sum();
+	}
+
+	/**
+	 * @return the count of inflater created because pool was empty
+	 */
+	public static long getInflaterMisses() {
+		return INFLATER_MISSES.sum();
+	}
+
+	/**
+	 * @return the count of deflater borrowed from pool
+	 */
+	public static long getDeflaterHits() {
+		return DEFLATER_HITS.sum();
+	}
+
+	/**
+	 * @return the count of deflater created because pool was empty
+	 */
+	public static long getDeflaterMisses() {
+		return DEFLATER_MISSES.sum();
+	}
+
+	/**
+	 * @return the count of buffer borrowed from pool
+	 */
+	public static long getBufferHits() {
+		return BUFFER_HITS.sum();
+	}
+
+	/**
+	 * @return the count of buffer created because pool was empty
+	 */
+	public static long getBufferMisses() {
+		return BUFFER_MISSES.sum();
+	}
+}
@@ -34,13 +34,14 @@ import org.nervousync.zip.ZipFile;
  */
 public class DeflaterOutputStream extends CipherOutputStream {
 
-	private final Deflater deflater;
-	private final byte[] buffer = new byte[ZipConstants.BUFFER_SIZE];
-	private boolean firstBytesRead = Globals.DEFAULT_VALUE_BOOLEAN;
+	/**
+	 * Deflater and buffer were borrowed from CompressorPool by first deflate entry, and released when closed
+	 */
+	private Deflater deflater = null;
+	private byte[] buffer = null;
 	
 	DeflaterOutputStream(OutputStream outputStream, ZipFile zipFile) {
 		super(outputStream, zipFile);
-		this.deflater = new Deflater();
 	}
 
 	@Override
@@ -71,12 +72,17 @@ public class DeflaterOutputStream extends CipherOutputStream {
 		super.putNextEntry(file, zipOptions);
 		
 		if (zipOptions.getCompressionMethod() == ZipConstants.COMP_DEFLATE) {
-			this.deflater.reset();
 			if ((zipOptions.getCompressionLevel() < 0 || zipOptions.getCompressionLevel() > 9) 
 					&& zipOptions.getCompressionLevel() != Globals.DEFAULT_VALUE_INT) {
 				throw new ZipException("invalid compression level for deflater. compression level should be in the range of 0-9");
 			}
-			this.deflater.setLevel(zipOptions.getCompressionLevel());
+			if (this.deflater == null) {
+				this.deflater = CompressorPool.borrowDeflater(zipOptions.getCompressionLevel());
+				this.buffer = CompressorPool.borrowBuffer();
+			} else {
+				this.deflater.reset();
+				this.deflater.setLevel(zipOptions.getCompressionLevel());
+			}
 		}
 	}
 	
@@ -88,38 +94,26 @@ public class DeflaterOutputStream extends CipherOutputStream {
 					this.deflate();
 				}
 			}
-			this.firstBytesRead = Globals.DEFAULT_VALUE_BOOLEAN;
 		}
 		super.closeEntry();
 	}
 	
-	private void deflate() throws IOException {
-		int length = this.deflater.deflate(this.buffer, 0, this.buffer.length);
-		if (length > 0) {
-			if (this.deflater.finished()) {
-				if (length == 4) {
-					return;
-				}
-				
-				if (length < 4) {
-					this.decrementCompressedFileSize(4 - length);
-					return;
-				}
-				length -= 4;
-			}
-			
-			if (!this.firstBytesRead) {
-				super.write(this.buffer, 2, length - 2);
-				this.firstBytesRead = true;
-			} else {
-				super.write(this.buffer, 0, length);
-			}
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		} finally {
+			CompressorPool.releaseDeflater(this.deflater);
+			CompressorPool.releaseBuffer(this.buffer);
+			this.deflater = null;
+			this.buffer = null;
 		}
 	}
 	
-	private void decrementCompressedFileSize(int value) {
-		if (value > 0 && value <= this.bytesWrittenForThisFile) {
-			this.bytesWrittenForThisFile -= value;
+	private void deflate() throws IOException {
+		int length = this.deflater.deflate(this.buffer, 0, this.buffer.length);
+		if (length > 0) {
+			super.write(this.buffer, 0, length);
 		}
 	}
 }
@@ -57,6 +57,12 @@ public class SplitOutputStream extends OutputStream {
 	private final long splitLength;
 	private int currentSplitFileIndex;
 	private long bytesWrittenForThisPart;
+	/**
+	 * Write buffer, data was flushed to current split file before seek, reaching split boundary and close
+	 */
+	private final byte[] writeBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
+	private int bufferedLength = 0;
+	private final byte[] singleByte = new byte[1];
 	
 	public SplitOutputStream(String filePath) throws FileNotFoundException, ZipException {
 		this(filePath, Globals.DEFAULT_VALUE_LONG);
@@ -83,9 +89,8 @@ public class SplitOutputStream extends OutputStream {
 	
 	@Override
 	public void write(int b) throws IOException {
-		byte[] buffer = new byte[1];
-		buffer[0] = (byte)b;
-		this.write(buffer, 0, 1);
+		this.singleByte[0] = (byte)b;
+		this.write(this.singleByte, 0, 1);
 	}
 	
 	@Override
@@ -105,30 +110,60 @@ public class SplitOutputStream extends OutputStream {
 			
 			if (this.bytesWrittenForThisPart >= this.splitLength) {
 				this.startNextSplitFile();
-				this.dataOutput.write(b, off, len);
+				this.writeData(b, off, len);
 				this.bytesWrittenForThisPart = len;
 			} else if (this.bytesWrittenForThisPart + len > this.splitLength) {
 				if (this.isHeaderData(b)) {
 					this.startNextSplitFile();
-					this.dataOutput.write(b, off, len);
+					this.writeData(b, off, len);
 					this.bytesWrittenForThisPart = len;
 				} else {
-					this.dataOutput.write(b, off, (int)(this.splitLength - this.bytesWrittenForThisPart));
+					int partLength = (int)(this.splitLength - this.bytesWrittenForThisPart);
+					this.writeData(b, off, partLength);
 					this.startNextSplitFile();
-					this.dataOutput.write(b, (int)(this.splitLength - this.bytesWrittenForThisPart), 
-							(int)(len - (this.splitLength - this.bytesWrittenForThisPart)));
-					this.bytesWrittenForThisPart = len - (this.splitLength - this.bytesWrittenForThisPart);
+					this.writeData(b, off + partLength, len - partLength);
+					this.bytesWrittenForThisPart = len - partLength;
 				}
 			} else {
-				this.dataOutput.write(b, off, len);
+				this.writeData(b, off, len);
 				this.bytesWrittenForThisPart += len;
 			}
 		} else {
-			this.dataOutput.write(b, off, len);
+			this.writeData(b, off, len);
 			this.bytesWrittenForThisPart += len;
 		}
 	}
 	
+	/**
+	 * Transfer data from given file into current split file,
+	 * the data was copied by FileChannel when split length was not set
+	 * @param input			Input file
+	 * @param position		Begin position of input file
+	 * @param count			Transfer length
+	 * @throws IOException	Transfer data error
+	 */
+	public void transferFrom(NervousyncRandomAccessFile input, long position, long count) throws IOException {
+		if (this.isSplitZipFile()) {
+			byte[] readBuffer = new byte[(int)Math.min(count, Globals.DEFAULT_BUFFER_SIZE)];
+			long totalWrite = 0L;
+			while (totalWrite < count) {
+				int readLength = input.read(position + totalWrite, readBuffer, 0,
+						(int)Math.min(count - totalWrite, readBuffer.length));
+				if (readLength <= 0) {
+					throw new IOException("Unexpected end of input file");
+				}
+				this.write(readBuffer, 0, readLength);
+				totalWrite += readLength;
+			}
+		} else {
+			this.flushBuffer();
+			if (input.transferTo(position, count, this.dataOutput) != count) {
+				throw new IOException("Unexpected end of input file");
+			}
+			this.bytesWrittenForThisPart += count;
+		}
+	}
+	
 	public boolean checkBufferSizeAndStartNextSplitFile(int bufferSize) throws ZipException {
 		if (bufferSize < 0) {
 			throw new ZipException("negative buffer size for checkBuffSizeAndStartNextSplitFile");
@@ -159,15 +194,26 @@ public class SplitOutputStream extends OutputStream {
 	}
 
 	public void seek(long pos) throws IOException {
+		this.flushBuffer();
 		this.dataOutput.seek(pos);
 	}
 
 	public long getFilePointer() throws IOException {
-		return this.dataOutput.getFilePointer();
+		return this.dataOutput.getFilePointer() + this.bufferedLength;
 	}
 	
-	public void flush() {
-		
+	@Override
+	public void flush() throws IOException {
+		this.flushBuffer();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		try {
+			this.flushBuffer();
+		} finally {
+			this.dataOutput.close();
+		}
 	}
 
 	public boolean isSplitZipFile() {
@@ -205,6 +251,7 @@ public class SplitOutputStream extends OutputStream {
 				currentSplitFile = folderPath + fileName + ".zip." + (this.currentSplitFileIndex + 1);
 			}
 
+			this.flushBuffer();
 			this.dataOutput.close();
 			
 			if (FileUtils.isExists(currentSplitFile)) {
@@ -223,6 +270,34 @@ public class SplitOutputStream extends OutputStream {
 		}
 	}
 	
+	/**
+	 * Copy data into write buffer, large data was written to current split file directly
+	 * @param b		Data bytes
+	 * @param off	Data offset
+	 * @param len	Data length
+	 * @throws IOException	Write data error
+	 */
+	private void writeData(byte[] b, int off, int len) throws IOException {
+		if (len >= this.writeBuffer.length) {
+			this.flushBuffer();
+			this.dataOutput.write(b, off, len);
+			return;
+		}
+		
+		if (this.bufferedLength + len > this.writeBuffer.length) {
+			this.flushBuffer();
+		}
+		System.arraycopy(b, off, this.writeBuffer, this.bufferedLength, len);
+		this.bufferedLength += len;
+	}
+	
+	private void flushBuffer() throws IOException {
+		if (this.bufferedLength > 0) {
+			this.dataOutput.write(this.writeBuffer, 0, this.bufferedLength);
+			this.bufferedLength = 0;
+		}
+	}
+	
 	private boolean isHeaderData(byte[] buffer) {
 		if (buffer != null && buffer.length >= 4) {
 			int signature = RawUtils.readIntFromLittleEndian(buffer, 0);
@@ -25,6 +25,7 @@ import org.nervousync.commons.core.Globals;
 import org.nervousync.zip.crypto.Decryptor;
 import org.nervousync.commons.io.NervousyncRandomAccessFile;
 import org.nervousync.zip.ZipFile;
+import org.nervousync.zip.io.CompressorPool;
 
 /**
  * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
@@ -32,17 +33,20 @@ import org.nervousync.zip.ZipFile;
  */
 public class InflaterInputStream extends PartInputStream {
 
-	private final Inflater inflater;
-	private final byte[] buffer;
+	/**
+	 * Inflater and buffer were borrowed from CompressorPool, and released when closed
+	 */
+	private Inflater inflater;
+	private byte[] buffer;
 	private final byte[] oneByteBuffer = new byte[1];
 	private long writeBytes;
 	private final long originalSize;
 	
-	public InflaterInputStream(ZipFile zipFile, NervousyncRandomAccessFile input,
-	                           long length, long originalSize, Decryptor decryptor, boolean isAESEncryptedFile) {
-		super(zipFile, input, length, decryptor, isAESEncryptedFile);
-		this.inflater = new Inflater(true);
-		this.buffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
+	public InflaterInputStream(ZipFile zipFile, NervousyncRandomAccessFile input, long position, long length,
+	                           long originalSize, Decryptor decryptor, boolean isAESEncryptedFile, boolean closeInput) {
+		super(zipFile, input, position, length, decryptor, isAESEncryptedFile, closeInput);
+		this.inflater = CompressorPool.borrowInflater();
+		this.buffer = CompressorPool.borrowBuffer();
 		this.writeBytes = 0L;
 		this.originalSize = originalSize;
 	}
@@ -61,7 +65,7 @@ public class InflaterInputStream extends PartInputStream {
 	public int read(byte[] b, int off, int len) throws IOException {
 		if (off < 0 || len < 0 || off + len > b.length) {
 			throw new IndexOutOfBoundsException();
-		} else if (b.length == 0) {
+		} else if (len == 0) {
 			return 0;
 		}
 		
@@ -113,15 +117,52 @@ public class InflaterInputStream extends PartInputStream {
 		return total;
 	}
 
+	/**
+	 * Seek to given position of original data.
+	 * Deflate data has no random access point, so seek forward inflates and discards data,
+	 * and seek backward restarts inflating from begin of entry
+	 * @param entryPosition		Position of original data
+	 * @throws IOException		Invalid position or read data error
+	 */
+	@Override
+	public void seekEntry(long entryPosition) throws IOException {
+		if (entryPosition < 0L || entryPosition > this.originalSize) {
+			throw new IOException("Invalid entry position: " + entryPosition);
+		}
+		
+		if (entryPosition < this.writeBytes) {
+			super.seekEntry(0L);
+			this.inflater.reset();
+			this.writeBytes = 0L;
+		}
+		
+		while (this.writeBytes < entryPosition) {
+			if (this.skip(entryPosition - this.writeBytes) == 0L) {
+				throw new EOFException("Unexpected end of input stream");
+			}
+		}
+	}
+
+	@Override
+	public long entryPosition() {
+		return this.writeBytes;
+	}
+
 	@Override
 	public int available() {
-		return this.inflater.finished() ? 0 : 1;
+		return (this.inflater == null || this.inflater.finished()) ? 0 : 1;
 	}
 	
 	@Override
 	public void close() throws IOException {
-		this.inflater.end();
-		super.close();
+		try {
+			super.close();
+		} finally {
+			CompressorPool.releaseInflater(this.inflater);
+			CompressorPool.releaseBuffer(this.buffer);
+			this.inflater = null;
+			this.buffer = null;
+		}
 	}
 	
 	private void finishInflating() throws IOException {
@@ -35,6 +35,9 @@ public class PartInputStream extends InputStream {
 
 	private final ZipFile zipFile;
 	private NervousyncRandomAccessFile input;
+	private final boolean closeInput;
+	private long position;
+	private final long startPosition;
 	private long readBytes;
 	private final long length;
 	private final Decryptor decryptor;
@@ -43,10 +46,13 @@ public class PartInputStream extends InputStream {
 	private int aesBytesReturned = 0;
 	private final boolean isAESEncryptedFile;
 
-	public PartInputStream(ZipFile zipFile, NervousyncRandomAccessFile input, 
-			long length, Decryptor decryptor, boolean isAESEncryptedFile) {
+	public PartInputStream(ZipFile zipFile, NervousyncRandomAccessFile input, long position,
+			long length, Decryptor decryptor, boolean isAESEncryptedFile, boolean closeInput) {
 		this.zipFile = zipFile;
 		this.input = input;
+		this.closeInput = closeInput;
+		this.position = position;
+		this.startPosition = position;
 		this.readBytes = 0L;
 		this.length = length;
 		this.decryptor = decryptor;
@@ -74,7 +80,7 @@ public class PartInputStream extends InputStream {
 	}
 
 	@Override
-	public synchronized int read(byte[] b, int off, int len) throws IOException {
+	public int read(byte[] b, int off, int len) throws IOException {
 		if (len > (this.length - this.readBytes)) {
 			len = (int)(this.length - this.readBytes);
 			
@@ -84,24 +90,22 @@ public class PartInputStream extends InputStream {
 			}
 		}
 		
-		if (this.decryptor instanceof AESDecryptor) {
-			if ((this.readBytes + len) < this.length
-					&& (len % 16 != 0)) {
-				len -= (len % 16);
-			}
+		int count = this.input.read(this.position, b, off, len);
+		if (count > 0) {
+			this.position += count;
 		}
-
-		int count = this.input.read(b, off, len);
 		if ((count < len) && this.zipFile.isSplitArchive()) {
 			this.input.close();
 			this.input = this.zipFile.startNextSplitFile();
+			this.position = 0L;
 
 			if (count < 0) {
 				count = 0;
 			}
 
-			int readCount = this.input.read(b, count, len - count);
+			int readCount = this.input.read(this.position, b, off + count, len - count);
 			if (readCount > 0) {
+				this.position += readCount;
 				count += readCount;
 			}
 		}
@@ -142,41 +146,104 @@ public class PartInputStream extends InputStream {
 			length = this.length - this.readBytes;
 		}
 		
-		this.readBytes += length;
-		return length;
+		if (this.positionable()) {
+			this.seekEntry(this.readBytes + length);
+			return length;
+		}
+		
+		long skipLength = 0L;
+		byte[] skipBuffer = new byte[(int)Math.min(length, Globals.DEFAULT_BUFFER_SIZE)];
+		while (skipLength < length) {
+			int readLength = this.read(skipBuffer, 0, (int)Math.min(length - skipLength, skipBuffer.length));
+			if (readLength == Globals.DEFAULT_VALUE_INT) {
+				break;
+			}
+			skipLength += readLength;
+		}
+		return skipLength;
 	}
 	
-	public void seek(long pos) throws IOException {
-		this.input.seek(pos);
+	/**
+	 * Seek to given position of entry data.
+	 * Stored entry jumps to the position in archive directly and AES encrypted entry moves the key stream,
+	 * standard encrypted entry and split archive can only move forward by reading data
+	 * @param entryPosition		Position of entry data
+	 * @throws IOException		Invalid position or read data error
+	 */
+	public void seekEntry(long entryPosition) throws IOException {
+		if (entryPosition < 0L || entryPosition > this.length) {
+			throw new IOException("Invalid entry position: " + entryPosition);
+		}
+		
+		if (this.positionable()) {
+			if (this.decryptor instanceof AESDecryptor) {
+				((AESDecryptor) this.decryptor).seek(entryPosition);
+			}
+			this.position = this.startPosition + entryPosition;
+			this.readBytes = entryPosition;
+			this.aesBytesReturned = 0;
+		} else if (entryPosition >= this.readBytes) {
+			this.skip(entryPosition - this.readBytes);
+		} else {
+			throw new IOException("Current entry can not seek backward");
+		}
+	}
+	
+	/**
+	 * @return	Current position of entry data
+	 */
+	public long entryPosition() {
+		return this.readBytes;
+	}
+	
+	public Decryptor getDecryptor() {
+		return this.decryptor;
+	}
+	
+	public void seek(long pos) {
+		this.position = pos;
 	}
 	
 	public void close() throws IOException {
-		this.input.close();
+		if (this.closeInput) {
+			this.input.close();
+		}
 	}
 	
-	protected void seekToEnd() throws IOException {
-		this.seek(this.length);
+	private boolean positionable() {
+		return !this.zipFile.isSplitArchive() && (this.decryptor == null || this.decryptor instanceof AESDecryptor);
+	}
+	
+	protected void seekToEnd() {
+		if (!this.zipFile.isSplitArchive()) {
+			this.seek(this.startPosition + this.length);
+		}
 	}
 	
 	protected void checkAndReadAESMacBytes() throws IOException {
 		if (this.isAESEncryptedFile
 				&& (this.decryptor instanceof AESDecryptor)) {
-			if (((AESDecryptor)this.decryptor).getStoredMac() != null) {
+			if (((AESDecryptor)this.decryptor).getStoredMac().length > 0) {
 				//	Store mac already set
 				return;
 			}
 			
 			byte[] storedMac = new byte[ZipConstants.AES_AUTH_LENGTH];
-			int readLength = this.input.read(storedMac);
+			int readLength = Math.max(this.input.read(this.position, storedMac, 0, storedMac.length), 0);
+			this.position += readLength;
 			
 			if (readLength != ZipConstants.AES_AUTH_LENGTH) {
 				if (this.zipFile.isSplitArchive()) {
 					this.input.close();
 					this.input = this.zipFile.startNextSplitFile();
-					int newReadLength = this.input.read(storedMac, 
+					this.position = 0L;
+					int newReadLength = this.input.read(this.position, storedMac, 
 							readLength, ZipConstants.AES_AUTH_LENGTH - readLength);
 					
-					readLength += newReadLength;
+					if (newReadLength > 0) {
+						this.position += newReadLength;
+						readLength += newReadLength;
+					}
 				} else {
 					throw new ZipException("Error occurred while reading stored AES authentication bytes");
 				}
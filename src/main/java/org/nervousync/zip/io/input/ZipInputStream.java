@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.util.zip.CRC32;
 
 import org.nervousync.commons.core.Globals;
+import org.nervousync.zip.crypto.Decryptor;
 
 /**
  * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
@@ -29,9 +30,9 @@ import org.nervousync.commons.core.Globals;
 public class ZipInputStream extends InputStream {
 
 	private final CRC32 crc;
-	private final InputStream inputStream;
+	private final PartInputStream inputStream;
 	
-	public ZipInputStream(InputStream inputStream) {
+	public ZipInputStream(PartInputStream inputStream) {
 		this.inputStream = inputStream;
 		this.crc = new CRC32();
 	}
@@ -59,6 +60,34 @@ public class ZipInputStream extends InputStream {
 		return readLength;
 	}
 	
+	/**
+	 * Skip data without update CRC value
+	 * @param length		Skip length
+	 * @return				Skipped length
+	 * @throws IOException	Read data error
+	 */
+	@Override
+	public long skip(long length) throws IOException {
+		return this.inputStream.skip(length);
+	}
+	
+	/**
+	 * Seek to given position of entry data, CRC value only matches when all data was read in order
+	 * @param entryPosition		Position of entry data
+	 * @throws IOException		Invalid position or read data error
+	 * @see PartInputStream#seekEntry(long)
+	 */
+	public void seek(long entryPosition) throws IOException {
+		this.inputStream.seekEntry(entryPosition);
+	}
+	
+	/**
+	 * @return	Current position of entry data
+	 */
+	public long position() {
+		return this.inputStream.entryPosition();
+	}
+	
 	@Override
 	public void close() throws IOException {
 		this.inputStream.close();
@@ -67,4 +96,8 @@ public class ZipInputStream extends InputStream {
 	public long crcValue() {
 		return this.crc.getValue();
 	}
+	
+	public Decryptor getDecryptor() {
+		return this.inputStream.getDecryptor();
+	}
 }
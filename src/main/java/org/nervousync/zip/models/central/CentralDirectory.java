@@ -17,7 +17,12 @@
 package org.nervousync.zip.models.central;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.nervousync.commons.core.Globals;
 import org.nervousync.zip.models.header.GeneralFileHeader;
@@ -29,21 +34,72 @@ import org.nervousync.utils.FileUtils;
  */
 public final class CentralDirectory {
 
+	/**
+	 * Separator of normalized entry path
+	 */
+	private static final String INDEX_SEPARATOR = "|";
+
 	private List<GeneralFileHeader> fileHeaders = null;
 	private DigitalSignature digitalSignature = null;
+	/**
+	 * Normalized entry path mapping to index of file header list, the first header was indexed if path duplicated
+	 */
+	private final Map<String, Integer> headerIndex = new HashMap<>();
+	/**
+	 * Case folded normalized entry path mapping to the first indexed normalized entry path,
+	 * using for case-insensitive lookup when the exact path was not found
+	 */
+	private final Map<String, String> ignoreCaseIndex = new HashMap<>();
+	/**
+	 * Case folded normalized entry path mapping to normalized entry paths which only differ in case,
+	 * only exists when more than one entry path was folded to the same key
+	 */
+	private final Map<String, Set<String>> ignoreCaseCollisions = new HashMap<>();
+	/**
+	 * Normalized folder path mapping to normalized path of direct children
+	 */
+	private final Map<String, Set<String>> folderIndex = new HashMap<>();
+	/**
+	 * Index of compact file headers, the index maps above were not used for compact file headers
+	 */
+	private volatile CompactHeaderIndex compactIndex = null;
 	
 	/**
+	 * File header list could not be modified directly,
+	 * using addFileHeader, removeFileHeader or setFileHeaders to keep the index up to date
 	 * @return the fileHeaders
 	 */
 	public List<GeneralFileHeader> getFileHeaders() {
-		return fileHeaders;
+		if (this.fileHeaders == null || this.fileHeaders instanceof CompactFileHeaders) {
+			return this.fileHeaders;
+		}
+		return Collections.unmodifiableList(this.fileHeaders);
 	}
 
 	/**
 	 * @param fileHeaders the fileHeaders to set
 	 */
 	public void setFileHeaders(List<GeneralFileHeader> fileHeaders) {
-		this.fileHeaders = fileHeaders;
+		if (fileHeaders == null || fileHeaders instanceof CompactFileHeaders) {
+			this.fileHeaders = fileHeaders;
+		} else {
+			this.fileHeaders = new ArrayList<>(fileHeaders);
+		}
+		//	Index was built before the central directory was shared, lookup never modifies the index
+		this.headerIndex.clear();
+		this.ignoreCaseIndex.clear();
+		this.ignoreCaseCollisions.clear();
+		this.folderIndex.clear();
+		if (this.fileHeaders instanceof CompactFileHeaders) {
+			this.compactIndex = new CompactHeaderIndex((CompactFileHeaders) this.fileHeaders);
+		} else {
+			this.compactIndex = null;
+			if (this.fileHeaders != null) {
+				for (int i = 0 ; i < this.fileHeaders.size() ; i++) {
+					this.indexHeader(this.fileHeaders.get(i), i);
+				}
+			}
+		}
 	}
 
 	/**
@@ -59,45 +115,185 @@ public final class CentralDirectory {
 	public void setDigitalSignature(DigitalSignature digitalSignature) {
 		this.digitalSignature = digitalSignature;
 	}
+
+	/**
+	 * Append file header to central directory and update index
+	 * @param generalFileHeader		General file header
+	 */
+	public void addFileHeader(GeneralFileHeader generalFileHeader) {
+		if (this.fileHeaders == null) {
+			this.fileHeaders = new ArrayList<>();
+		} else if (this.fileHeaders instanceof CompactFileHeaders) {
+			this.setFileHeaders(new ArrayList<>(this.fileHeaders));
+		}
+		this.fileHeaders.add(generalFileHeader);
+		this.indexHeader(generalFileHeader, this.fileHeaders.size() - 1);
+	}
+
+	/**
+	 * Remove file header at given index, index of following file headers were shifted
+	 * @param index		Index of file header
+	 * @return			Removed file header
+	 */
+	public GeneralFileHeader removeFileHeader(int index) {
+		if (this.fileHeaders instanceof CompactFileHeaders) {
+			this.setFileHeaders(new ArrayList<>(this.fileHeaders));
+		}
+		GeneralFileHeader generalFileHeader = this.fileHeaders.remove(index);
+		String removedKey = indexKey(generalFileHeader);
+		if (removedKey != null) {
+			Integer removedIndex = this.headerIndex.get(removedKey);
+			if (removedIndex != null && removedIndex == index) {
+				this.headerIndex.remove(removedKey);
+			}
+		}
+		for (int i = index ; i < this.fileHeaders.size() ; i++) {
+			String entryKey = indexKey(this.fileHeaders.get(i));
+			if (entryKey != null) {
+				//	Duplicated path of removed header was indexed by the next one
+				Integer currentIndex = this.headerIndex.get(entryKey);
+				if (currentIndex == null || currentIndex == i + 1) {
+					this.headerIndex.put(entryKey, i);
+				}
+			}
+		}
+		if (removedKey != null && !this.headerIndex.containsKey(removedKey)) {
+			this.removeIndex(removedKey);
+		}
+		return generalFileHeader;
+	}
 	
 	public List<String> listFolderGeneralFileHeaders(String folderPath) {
 		List<String> headerList = new ArrayList<>();
 		GeneralFileHeader folderFileHeader = this.retrieveGeneralFileHeader(folderPath);
 		if (folderFileHeader != null && folderFileHeader.isDirectory()) {
-			for (GeneralFileHeader generalFileHeader : this.fileHeaders) {
-				if (FileUtils.matchFolder(generalFileHeader.getEntryPath(), folderPath)) {
-					if (generalFileHeader.isDirectory()) {
-						headerList.addAll(this.listFolderGeneralFileHeaders(generalFileHeader.getEntryPath()));
-					} else {
-						headerList.add(generalFileHeader.getEntryPath());
-					}
-				}
+			CompactHeaderIndex headerIndex = this.compactIndex;
+			if (headerIndex == null) {
+				this.listFolder(indexKey(folderFileHeader), headerList);
+			} else {
+				headerIndex.listFolder(indexKey(folderFileHeader), headerList);
 			}
 			headerList.add(folderFileHeader.getEntryPath());
 		}
 		return headerList;
 	}
 
+	/**
+	 * Retrieve file header by given entry path, the exact path was matched first,
+	 * and then the path which only differs in case
+	 * @param entryPath		Entry path
+	 * @return				Found file header or <code>null</code> if not found
+	 */
 	public GeneralFileHeader retrieveGeneralFileHeader(String entryPath) {
-		if (this.fileHeaders != null && this.fileHeaders.size() > 0) {
-			for (GeneralFileHeader generalFileHeader : this.fileHeaders) {
-				if (FileUtils.matchFilePath(generalFileHeader.getEntryPath(), entryPath, true)) {
-					return generalFileHeader;
-				}
-			}
-		}
-		return null;
+		Integer index = this.retrieveIndex(entryPath);
+		return index == null ? null : this.fileHeaders.get(index);
 	}
 	
 	public int retrieveIndexOfGeneralFileHeader(GeneralFileHeader generalFileHeader) {
-		if (this.fileHeaders != null && this.fileHeaders.size() > 0) {
-			for (int index = 0 ; index < this.fileHeaders.size() ; index++) {
-				if (FileUtils.matchFilePath(generalFileHeader.getEntryPath(), 
-						this.fileHeaders.get(index).getEntryPath(), true)) {
-					return index;
-				}
+		Integer index = this.retrieveIndex(generalFileHeader.getEntryPath());
+		return index == null ? Globals.DEFAULT_VALUE_INT : index;
+	}
+
+	private Integer retrieveIndex(String entryPath) {
+		if (entryPath == null || this.fileHeaders == null || this.fileHeaders.isEmpty()) {
+			return null;
+		}
+		String entryKey = FileUtils.replacePageSeparator(entryPath);
+		CompactHeaderIndex headerIndex = this.compactIndex;
+		if (headerIndex != null) {
+			int index = headerIndex.retrieveIndex(entryKey);
+			return index == Globals.DEFAULT_VALUE_INT ? null : index;
+		}
+		Integer index = this.headerIndex.get(entryKey);
+		if (index == null) {
+			String ignoreCaseKey = this.ignoreCaseIndex.get(ignoreCaseKey(entryKey));
+			if (ignoreCaseKey != null) {
+				index = this.headerIndex.get(ignoreCaseKey);
 			}
 		}
-		return Globals.DEFAULT_VALUE_INT;
+		return index;
+	}
+
+	private void listFolder(String folderKey, List<String> headerList) {
+		Set<String> children = this.folderIndex.get(folderKey);
+		if (children == null) {
+			return;
+		}
+		for (String childKey : children) {
+			this.listFolder(childKey, headerList);
+			Integer index = this.headerIndex.get(childKey);
+			if (index != null) {
+				headerList.add(this.fileHeaders.get(index).getEntryPath());
+			}
+		}
+	}
+
+	private void indexHeader(GeneralFileHeader generalFileHeader, int index) {
+		String entryKey = indexKey(generalFileHeader);
+		if (entryKey == null || this.headerIndex.putIfAbsent(entryKey, index) != null) {
+			return;
+		}
+		String ignoreCaseKey = ignoreCaseKey(entryKey);
+		String existsKey = this.ignoreCaseIndex.putIfAbsent(ignoreCaseKey, entryKey);
+		if (existsKey != null) {
+			//	Case collision is rare, entry paths were kept in a set only when collision found
+			this.ignoreCaseCollisions.computeIfAbsent(ignoreCaseKey, key -> {
+				Set<String> entryKeys = new LinkedHashSet<>();
+				entryKeys.add(existsKey);
+				return entryKeys;
+			}).add(entryKey);
+		}
+		String childKey = entryKey;
+		int position;
+		while ((position = childKey.lastIndexOf(INDEX_SEPARATOR)) > 0) {
+			String parentKey = childKey.substring(0, position);
+			boolean exists = this.folderIndex.containsKey(parentKey);
+			this.folderIndex.computeIfAbsent(parentKey, key -> new LinkedHashSet<>()).add(childKey);
+			if (exists) {
+				break;
+			}
+			childKey = parentKey;
+		}
+	}
+
+	private void removeIndex(String entryKey) {
+		String ignoreCaseKey = ignoreCaseKey(entryKey);
+		Set<String> entryKeys = this.ignoreCaseCollisions.get(ignoreCaseKey);
+		if (entryKeys == null) {
+			this.ignoreCaseIndex.remove(ignoreCaseKey, entryKey);
+		} else {
+			entryKeys.remove(entryKey);
+			this.ignoreCaseIndex.put(ignoreCaseKey, entryKeys.iterator().next());
+			if (entryKeys.size() == 1) {
+				this.ignoreCaseCollisions.remove(ignoreCaseKey);
+			}
+		}
+		int position = entryKey.lastIndexOf(INDEX_SEPARATOR);
+		if (position > 0) {
+			Set<String> children = this.folderIndex.get(entryKey.substring(0, position));
+			if (children != null) {
+				children.remove(entryKey);
+			}
+		}
+	}
+
+	/**
+	 * Fold the case of each character the same way as String.equalsIgnoreCase, independent of default locale
+	 * @param entryKey		Normalized entry path
+	 * @return				Case folded entry path
+	 */
+	static String ignoreCaseKey(String entryKey) {
+		char[] characters = entryKey.toCharArray();
+		for (int i = 0 ; i < characters.length ; i++) {
+			characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+		}
+		return new String(characters);
+	}
+
+	static String indexKey(GeneralFileHeader generalFileHeader) {
+		if (generalFileHeader == null || generalFileHeader.getEntryPath() == null) {
+			return null;
+		}
+		return FileUtils.replacePageSeparator(generalFileHeader.getEntryPath());
 	}
 }
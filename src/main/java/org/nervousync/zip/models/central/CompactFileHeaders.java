@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.zip.models.central;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.nervousync.exceptions.zip.ZipException;
+import org.nervousync.zip.models.header.GeneralFileHeader;
+
+/**
+ * Read only file header list of large archive, central directory was kept as packed byte segments
+ * and general file header instance was created when entry accessed
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 4:26:18 PM $
+ */
+public final class CompactFileHeaders extends AbstractList<GeneralFileHeader> implements RandomAccess {
+
+	/**
+	 * Central directory data segments
+	 */
+	private final ByteBuffer[] dataSegments;
+	/**
+	 * Index of first file header in each data segment
+	 */
+	private final int[] segmentFirstIndexes;
+	/**
+	 * Position of each file header in its data segment
+	 */
+	private final int[] headerPositions;
+	/**
+	 * File name charset encoding, <code>null</code> if charset was decided by UTF-8 flag of each entry
+	 */
+	private final Charset fileNameCharset;
+	/**
+	 * File header reader
+	 */
+	private final HeaderReader headerReader;
+	/**
+	 * Password of encrypted entries, set to each created file header
+	 */
+	private char[] password = null;
+
+	public CompactFileHeaders(ByteBuffer[] dataSegments, int[] segmentFirstIndexes,
+			int[] headerPositions, Charset fileNameCharset, HeaderReader headerReader) {
+		this.dataSegments = dataSegments;
+		this.segmentFirstIndexes = segmentFirstIndexes;
+		this.headerPositions = headerPositions;
+		this.fileNameCharset = fileNameCharset;
+		this.headerReader = headerReader;
+	}
+
+	@Override
+	public GeneralFileHeader get(int index) {
+		if (index < 0 || index >= this.headerPositions.length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.headerPositions.length);
+		}
+		int segmentIndex = Arrays.binarySearch(this.segmentFirstIndexes, index);
+		if (segmentIndex < 0) {
+			segmentIndex = -segmentIndex - 2;
+		}
+		GeneralFileHeader generalFileHeader =
+				this.headerReader.read(this.dataSegments[segmentIndex], this.headerPositions[index]);
+		if (this.password != null && generalFileHeader.isEncrypted()) {
+			generalFileHeader.setPassword(this.password);
+		}
+		return generalFileHeader;
+	}
+
+	@Override
+	public int size() {
+		return this.headerPositions.length;
+	}
+
+	/**
+	 * @return the fileNameCharset
+	 */
+	Charset getFileNameCharset() {
+		return this.fileNameCharset;
+	}
+
+	/**
+	 * @return the data segments of central directory
+	 */
+	ByteBuffer[] getDataSegments() {
+		return this.dataSegments;
+	}
+
+	/**
+	 * @return the index of first file header in each data segment
+	 */
+	int[] getSegmentFirstIndexes() {
+		return this.segmentFirstIndexes;
+	}
+
+	/**
+	 * @return the position of each file header in its data segment
+	 */
+	int[] getHeaderPositions() {
+		return this.headerPositions;
+	}
+
+	/**
+	 * @param password the password to set
+	 */
+	public void setPassword(char[] password) {
+		this.password = password;
+	}
+
+	/**
+	 * Read general file header at given position of central directory data
+	 */
+	@FunctionalInterface
+	public interface HeaderReader {
+
+		GeneralFileHeader read(ByteBuffer dataBuffer, int position) throws ZipException;
+	}
+}
@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.zip.models.central;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.List;
+
+import org.nervousync.commons.core.Globals;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.zip.models.header.GeneralFileHeader;
+
+/**
+ * Read only entry path index of compact file headers.
+ * Entry paths were hashed from the packed file names and only the header ordinals were kept
+ * in open addressing tables, so no file header or path string was created for each entry.
+ * The file header was created to compare the entry path only when hash matched.
+ * Folders were kept as path strings, children of folder were linked by ordinals,
+ * sub folders were listed before the files of folder, and each folder was listed after its children.
+ * The index was not modified after created, so it can be used by multiple threads
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 18, 2026 10:24:36 AM $
+ */
+final class CompactHeaderIndex {
+
+	/**
+	 * Separator of normalized entry path
+	 */
+	private static final char INDEX_SEPARATOR = '|';
+	/**
+	 * Prefix separator of entry path, the entry path begins after it
+	 */
+	private static final String ENTRY_SEPARATOR = ZipConstants.ZIP_ENTRY_SEPARATOR;
+	/**
+	 * Value of empty slot and end of linked list
+	 */
+	private static final int NOT_FOUND = Globals.DEFAULT_VALUE_INT;
+
+	private final CompactFileHeaders fileHeaders;
+	/**
+	 * Hash of normalized entry path of each file header
+	 */
+	private final int[] entryHashes;
+	/**
+	 * Hash of case folded normalized entry path of each file header
+	 */
+	private final int[] ignoreCaseHashes;
+	/**
+	 * Ordinal of file headers, slot was located by entry hash, empty slot is -1
+	 */
+	private final int[] entrySlots;
+	/**
+	 * Ordinal of file headers, slot was located by case folded entry hash, empty slot is -1
+	 */
+	private final int[] ignoreCaseSlots;
+	/**
+	 * Ordinal of next file header in the same folder
+	 */
+	private final int[] nextEntries;
+
+	/**
+	 * Normalized path of folders
+	 */
+	private String[] folderKeys;
+	/**
+	 * Index of folders, slot was located by hash of folder path, empty slot is -1
+	 */
+	private int[] folderSlots;
+	/**
+	 * First sub folder, last sub folder, next sibling folder, first file header ordinal
+	 * and last file header ordinal of folders
+	 */
+	private int[] firstFolders;
+	private int[] lastFolders;
+	private int[] nextFolders;
+	private int[] firstEntries;
+	private int[] lastEntries;
+	private int folderCount = 0;
+
+	/**
+	 * Reader of normalized entry path
+	 */
+	private char[] keyCharacters = new char[256];
+	private int keyLength = 0;
+	/**
+	 * Separator position and path hash before separator of current entry path
+	 */
+	private int[] separatorPositions = new int[16];
+	private int[] separatorHashes = new int[16];
+	private int separatorCount = 0;
+
+	CompactHeaderIndex(CompactFileHeaders fileHeaders) {
+		int headerCount = fileHeaders.size();
+		this.fileHeaders = fileHeaders;
+		this.entryHashes = new int[headerCount];
+		this.ignoreCaseHashes = new int[headerCount];
+		this.entrySlots = emptySlots(headerCount);
+		this.ignoreCaseSlots = emptySlots(headerCount);
+		this.nextEntries = new int[headerCount];
+		Arrays.fill(this.nextEntries, NOT_FOUND);
+
+		this.folderKeys = new String[16];
+		this.folderSlots = emptySlots(16);
+		this.firstFolders = new int[16];
+		this.lastFolders = new int[16];
+		this.nextFolders = new int[16];
+		this.firstEntries = new int[16];
+		this.lastEntries = new int[16];
+
+		Charset fileNameCharset = fileHeaders.getFileNameCharset();
+		CharsetDecoder charsetDecoder = fileNameCharset == null ? null : newDecoder(fileNameCharset);
+		CharsetDecoder utf8Decoder = newDecoder(Charset.forName(Globals.DEFAULT_ENCODING));
+		CharsetDecoder defaultDecoder = newDecoder(Charset.defaultCharset());
+
+		ByteBuffer[] dataSegments = fileHeaders.getDataSegments();
+		int[] segmentFirstIndexes = fileHeaders.getSegmentFirstIndexes();
+		int[] headerPositions = fileHeaders.getHeaderPositions();
+		int segmentIndex = Globals.DEFAULT_VALUE_INT;
+		ByteBuffer dataBuffer = null;
+		for (int i = 0 ; i < headerCount ; i++) {
+			while (segmentIndex + 1 < segmentFirstIndexes.length && segmentFirstIndexes[segmentIndex + 1] <= i) {
+				segmentIndex++;
+				dataBuffer = dataSegments[segmentIndex].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			}
+			int position = headerPositions[i];
+			int fileNameLength = dataBuffer.getShort(position + 28) & 0xFFFF;
+			if (fileNameLength == 0) {
+				//	Entry path is null, file header was not indexed
+				continue;
+			}
+			CharsetDecoder decoder = charsetDecoder;
+			if (decoder == null) {
+				decoder = ((dataBuffer.getShort(position + 8) & ZipConstants.UFT8_NAMES_FLAG) != 0)
+						? utf8Decoder : defaultDecoder;
+			}
+			this.readKey(dataBuffer, position + ZipConstants.CENHDR, fileNameLength, decoder);
+			this.indexEntry(i);
+		}
+
+		this.keyCharacters = null;
+		this.separatorPositions = null;
+		this.separatorHashes = null;
+	}
+
+	/**
+	 * Retrieve ordinal of file header by normalized entry path, the exact path was matched first,
+	 * and then the path which only differs in case. The first file header was returned if path duplicated
+	 * @param entryKey		Normalized entry path
+	 * @return				Ordinal of file header or -1 if not found
+	 */
+	int retrieveIndex(String entryKey) {
+		int index = this.exactIndex(entryKey);
+		if (index == NOT_FOUND) {
+			String ignoreCaseKey = CentralDirectory.ignoreCaseKey(entryKey);
+			int mask = this.ignoreCaseSlots.length - 1;
+			int hash = ignoreCaseKey.hashCode();
+			for (int slot = spread(hash) & mask ; this.ignoreCaseSlots[slot] != NOT_FOUND ; slot = (slot + 1) & mask) {
+				int ordinal = this.ignoreCaseSlots[slot];
+				if (this.ignoreCaseHashes[ordinal] == hash) {
+					String indexKey = CentralDirectory.indexKey(this.fileHeaders.get(ordinal));
+					if (indexKey != null && ignoreCaseKey.equals(CentralDirectory.ignoreCaseKey(indexKey))) {
+						return ordinal;
+					}
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * List entry path of all file headers in given folder
+	 * @param folderKey		Normalized folder path
+	 * @param headerList	Entry path list
+	 */
+	void listFolder(String folderKey, List<String> headerList) {
+		int folderIndex = this.folderIndex(folderKey);
+		if (folderIndex != NOT_FOUND) {
+			this.listFolder(folderIndex, headerList);
+		}
+	}
+
+	private void listFolder(int folderIndex, List<String> headerList) {
+		for (int childIndex = this.firstFolders[folderIndex] ; childIndex != NOT_FOUND ;
+		     childIndex = this.nextFolders[childIndex]) {
+			this.listFolder(childIndex, headerList);
+			int index = this.exactIndex(this.folderKeys[childIndex]);
+			if (index != NOT_FOUND) {
+				headerList.add(this.fileHeaders.get(index).getEntryPath());
+			}
+		}
+		for (int index = this.firstEntries[folderIndex] ; index != NOT_FOUND ; index = this.nextEntries[index]) {
+			GeneralFileHeader generalFileHeader = this.fileHeaders.get(index);
+			String entryKey = CentralDirectory.indexKey(generalFileHeader);
+			//	Folder entry was listed after its children, and duplicated entry path was listed once
+			if (entryKey != null && this.folderIndex(entryKey) == NOT_FOUND && this.exactIndex(entryKey) == index) {
+				headerList.add(generalFileHeader.getEntryPath());
+			}
+		}
+	}
+
+	private int exactIndex(String entryKey) {
+		int mask = this.entrySlots.length - 1;
+		int hash = entryKey.hashCode();
+		for (int slot = spread(hash) & mask ; this.entrySlots[slot] != NOT_FOUND ; slot = (slot + 1) & mask) {
+			int ordinal = this.entrySlots[slot];
+			if (this.entryHashes[ordinal] == hash
+					&& entryKey.equals(CentralDirectory.indexKey(this.fileHeaders.get(ordinal)))) {
+				return ordinal;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	private int folderIndex(String folderKey) {
+		int mask = this.folderSlots.length - 1;
+		for (int slot = spread(folderKey.hashCode()) & mask ; this.folderSlots[slot] != NOT_FOUND ;
+		     slot = (slot + 1) & mask) {
+			if (this.folderKeys[this.folderSlots[slot]].equals(folderKey)) {
+				return this.folderSlots[slot];
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Decode file name and normalize to entry path key, same as the path of created file header
+	 * @param dataBuffer		Data buffer of central directory
+	 * @param position			Position of file name
+	 * @param fileNameLength	Length of file name
+	 * @param decoder			Charset decoder of file name
+	 */
+	private void readKey(ByteBuffer dataBuffer, int position, int fileNameLength, CharsetDecoder decoder) {
+		int maxLength = (int) Math.ceil(fileNameLength * (double) decoder.maxCharsPerByte()) + 1;
+		if (this.keyCharacters.length < maxLength) {
+			this.keyCharacters = new char[maxLength];
+		}
+		dataBuffer.limit(position + fileNameLength).position(position);
+		CharBuffer charBuffer = CharBuffer.wrap(this.keyCharacters);
+		decoder.reset();
+		decoder.decode(dataBuffer, charBuffer, Boolean.TRUE);
+		decoder.flush(charBuffer);
+		dataBuffer.clear();
+		int length = charBuffer.position();
+
+		//	Remove the prefix which ends with entry separator
+		int beginIndex = 0;
+		for (int i = 0 ; i + ENTRY_SEPARATOR.length() <= length ; i++) {
+			if (this.regionMatches(i, ENTRY_SEPARATOR)) {
+				beginIndex = i + ENTRY_SEPARATOR.length();
+				break;
+			}
+		}
+		if (beginIndex > 0) {
+			System.arraycopy(this.keyCharacters, beginIndex, this.keyCharacters, 0, length - beginIndex);
+			length -= beginIndex;
+		}
+
+		for (int i = 0 ; i < length ; i++) {
+			char character = this.keyCharacters[i];
+			if (character == '/' || character == '\\' || character == Globals.DEFAULT_PAGE_SEPARATOR.charAt(0)) {
+				this.keyCharacters[i] = INDEX_SEPARATOR;
+			}
+		}
+		if (length > 0 && this.keyCharacters[length - 1] == INDEX_SEPARATOR) {
+			length--;
+		}
+		this.keyLength = length;
+	}
+
+	private boolean regionMatches(int offset, String string) {
+		for (int i = 0 ; i < string.length() ; i++) {
+			if (this.keyCharacters[offset + i] != string.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Index current entry path key by given ordinal
+	 * @param ordinal	Ordinal of file header
+	 */
+	private void indexEntry(int ordinal) {
+		int hash = 0;
+		int ignoreCaseHash = 0;
+		this.separatorCount = 0;
+		for (int i = 0 ; i < this.keyLength ; i++) {
+			char character = this.keyCharacters[i];
+			if (character == INDEX_SEPARATOR && i > 0) {
+				if (this.separatorCount == this.separatorPositions.length) {
+					this.separatorPositions = Arrays.copyOf(this.separatorPositions, this.separatorCount * 2);
+					this.separatorHashes = Arrays.copyOf(this.separatorHashes, this.separatorCount * 2);
+				}
+				this.separatorPositions[this.separatorCount] = i;
+				this.separatorHashes[this.separatorCount] = hash;
+				this.separatorCount++;
+			}
+			hash = 31 * hash + character;
+			ignoreCaseHash = 31 * ignoreCaseHash + Character.toLowerCase(Character.toUpperCase(character));
+		}
+		this.entryHashes[ordinal] = hash;
+		this.ignoreCaseHashes[ordinal] = ignoreCaseHash;
+		insertSlot(this.entrySlots, hash, ordinal);
+		insertSlot(this.ignoreCaseSlots, ignoreCaseHash, ordinal);
+
+		if (this.separatorCount > 0) {
+			int folderIndex = this.folderIndex(this.separatorCount - 1);
+			if (this.firstEntries[folderIndex] == NOT_FOUND) {
+				this.firstEntries[folderIndex] = ordinal;
+			} else {
+				this.nextEntries[this.lastEntries[folderIndex]] = ordinal;
+			}
+			this.lastEntries[folderIndex] = ordinal;
+		}
+	}
+
+	/**
+	 * Retrieve index of folder which path is the prefix of current entry path before given separator,
+	 * the folder and its parent folders were created if not exists
+	 * @param separatorIndex	Index of separator
+	 * @return					Folder index
+	 */
+	private int folderIndex(int separatorIndex) {
+		int length = this.separatorPositions[separatorIndex];
+		int hash = this.separatorHashes[separatorIndex];
+		int mask = this.folderSlots.length - 1;
+		int slot = spread(hash) & mask;
+		while (this.folderSlots[slot] != NOT_FOUND) {
+			String folderKey = this.folderKeys[this.folderSlots[slot]];
+			if (folderKey.length() == length && this.regionMatches(0, folderKey)) {
+				return this.folderSlots[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		int folderIndex = this.folderCount++;
+		if (folderIndex == this.folderKeys.length) {
+			int capacity = folderIndex * 2;
+			this.folderKeys = Arrays.copyOf(this.folderKeys, capacity);
+			this.firstFolders = Arrays.copyOf(this.firstFolders, capacity);
+			this.lastFolders = Arrays.copyOf(this.lastFolders, capacity);
+			this.nextFolders = Arrays.copyOf(this.nextFolders, capacity);
+			this.firstEntries = Arrays.copyOf(this.firstEntries, capacity);
+			this.lastEntries = Arrays.copyOf(this.lastEntries, capacity);
+		}
+		this.folderKeys[folderIndex] = new String(this.keyCharacters, 0, length);
+		this.firstFolders[folderIndex] = NOT_FOUND;
+		this.lastFolders[folderIndex] = NOT_FOUND;
+		this.nextFolders[folderIndex] = NOT_FOUND;
+		this.firstEntries[folderIndex] = NOT_FOUND;
+		this.lastEntries[folderIndex] = NOT_FOUND;
+		if (this.folderCount * 2 > this.folderSlots.length) {
+			this.folderSlots = emptySlots(this.folderCount);
+			for (int i = 0 ; i < this.folderCount ; i++) {
+				insertSlot(this.folderSlots, this.folderKeys[i].hashCode(), i);
+			}
+		} else {
+			this.folderSlots[slot] = folderIndex;
+		}
+
+		if (separatorIndex > 0) {
+			int parentIndex = this.folderIndex(separatorIndex - 1);
+			//	Append to the end of sub folders, keep the order of first appearance
+			if (this.firstFolders[parentIndex] == NOT_FOUND) {
+				this.firstFolders[parentIndex] = folderIndex;
+			} else {
+				this.nextFolders[this.lastFolders[parentIndex]] = folderIndex;
+			}
+			this.lastFolders[parentIndex] = folderIndex;
+		}
+		return folderIndex;
+	}
+
+	private static CharsetDecoder newDecoder(Charset charset) {
+		return charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	/**
+	 * Create empty slots, the capacity is power of two and load factor is not greater than 0.5
+	 * @param count		Count of indexed values
+	 * @return			Empty slots
+	 */
+	private static int[] emptySlots(int count) {
+		int capacity = Integer.highestOneBit(Math.max(count, 8) * 2 - 1) << 1;
+		int[] slots = new int[capacity];
+		Arrays.fill(slots, NOT_FOUND);
+		return slots;
+	}
+
+	private static void insertSlot(int[] slots, int hash, int value) {
+		int mask = slots.length - 1;
+		int slot = spread(hash) & mask;
+		while (slots[slot] != NOT_FOUND) {
+			slot = (slot + 1) & mask;
+		}
+		slots[slot] = value;
+	}
+
+	/**
+	 * Mix bits of hash code, so the similar entry paths were not placed in adjacent slots
+	 * @param hash	Hash code
+	 * @return		Mixed hash code
+	 */
+	private static int spread(int hash) {
+		int mixed = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+		mixed = (mixed ^ (mixed >>> 13)) * 0xC2B2AE35;
+		return mixed ^ (mixed >>> 16);
+	}
+}
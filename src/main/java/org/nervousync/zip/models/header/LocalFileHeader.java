@@ -22,8 +22,10 @@ import java.io.RandomAccessFile;
 
 import org.nervousync.commons.core.Globals;
 import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.commons.io.NervousyncRandomAccessFile;
 import org.nervousync.exceptions.zip.ZipException;
 import org.nervousync.zip.crypto.impl.aes.AESCrypto;
+import org.nervousync.zip.crypto.impl.aes.AESKeyCache;
 import org.nervousync.zip.models.header.utils.HeaderOperator;
 
 /**
@@ -79,6 +81,10 @@ public class LocalFileHeader extends FileHeader {
 	}
 	
 	public boolean verifyPassword(DataInput input) throws ZipException {
+		return this.verifyPassword(input, null);
+	}
+	
+	public boolean verifyPassword(DataInput input, AESKeyCache keyCache) throws ZipException {
 		if (!this.isEncrypted()) {
 			return true;
 		}
@@ -91,6 +97,9 @@ public class LocalFileHeader extends FileHeader {
 					if (input instanceof RandomAccessFile) {
 						((RandomAccessFile) input).seek(this.getOffsetStartOfData());
 						readLength = ((RandomAccessFile) input).read(salt);
+					} else if (input instanceof NervousyncRandomAccessFile) {
+						((NervousyncRandomAccessFile) input).seek(this.getOffsetStartOfData());
+						readLength = ((NervousyncRandomAccessFile) input).read(salt);
 					} else if (input instanceof InputStream) {
 						long skipLength = ((InputStream) input).skip(this.getOffsetStartOfData());
 						if (skipLength == this.getOffsetStartOfData()) {
@@ -105,13 +114,15 @@ public class LocalFileHeader extends FileHeader {
 					byte[] passwordBytes = new byte[2];
 					if (input instanceof RandomAccessFile) {
 						readLength = ((RandomAccessFile) input).read(passwordBytes);
+					} else if (input instanceof NervousyncRandomAccessFile) {
+						readLength = ((NervousyncRandomAccessFile) input).read(passwordBytes);
 					} else {
 						readLength = ((InputStream) input).read(passwordBytes);
 					}
 
 					if (readLength == 2) {
 						return AESCrypto.verifyPassword(this.getAesExtraDataRecord().getAesStrength(),
-								salt, this.getPassword(), passwordBytes);
+								salt, this.getPassword(), passwordBytes, keyCache);
 					}
 				}
 				return Globals.DEFAULT_VALUE_BOOLEAN;
@@ -71,21 +71,23 @@ public final class HeaderOperator {
 		RawUtils.writeIntFromLittleEndian(intBuffer, 0, (int) localFileHeader.getCrc32());
 		copyByteArrayToArrayList(intBuffer, byteArrayList);
 
-		// Compressed size
-		long compressedSize = localFileHeader.getCompressedSize();
-		if (compressedSize > Integer.MAX_VALUE) {
-			compressedSize = Integer.MAX_VALUE;
+		if (localFileHeader.isWriteCompressSizeInZip64ExtraRecord()) {
+			// Local file header declared zip64 extra field, compressed size and original size were written as 8 bytes
+			appendLongToArrayList(localFileHeader.getCompressedSize(), byteArrayList);
+			appendLongToArrayList(localFileHeader.getOriginalSize(), byteArrayList);
+		} else if (localFileHeader.getCompressedSize() >= ZipConstants.ZIP_64_LIMIT
+				|| localFileHeader.getOriginalSize() >= ZipConstants.ZIP_64_LIMIT) {
+			throw new ZipException("Entry size exceeds 4 GiB but local file header does not declare zip64 extra field: "
+					+ localFileHeader.getEntryPath());
+		} else {
+			// Compressed size
+			RawUtils.writeIntFromLittleEndian(intBuffer, 0, (int) localFileHeader.getCompressedSize());
+			copyByteArrayToArrayList(intBuffer, byteArrayList);
+
+			// Original size
+			RawUtils.writeIntFromLittleEndian(intBuffer, 0, (int) localFileHeader.getOriginalSize());
+			copyByteArrayToArrayList(intBuffer, byteArrayList);
 		}
-		RawUtils.writeIntFromLittleEndian(intBuffer, 0, (int) compressedSize);
-		copyByteArrayToArrayList(intBuffer, byteArrayList);
-
-		// Original size
-		long originalSize = localFileHeader.getOriginalSize();
-		if (originalSize > Integer.MAX_VALUE) {
-			originalSize = Integer.MAX_VALUE;
-		}
-		RawUtils.writeIntFromLittleEndian(intBuffer, 0, (int) originalSize);
-		copyByteArrayToArrayList(intBuffer, byteArrayList);
 
 		byte[] extendLocationHdrBytes = convertByteArrayListToByteArray(byteArrayList);
 		outputStream.write(extendLocationHdrBytes);
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.crypto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.security.Security;
+import java.util.Map;
+import java.util.Random;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.nervousync.crypto.Cryptor;
+import org.nervousync.crypto.impl.AESCryptor;
+import org.nervousync.utils.SecurityUtils;
+
+/**
+ * Clear cached Cipher instances, process buffers and key material
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 9:40:15 PM $
+ */
+public final class CipherCacheTest {
+
+    @BeforeAll
+    public static void registerProvider() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @Test
+    public void clearCache() throws Exception {
+        AESCryptor cryptor = SecurityUtils.AES256(AESCryptor.AESMode.CBC_PKCS5Padding, Cryptor.RandomAlgorithm.NONE);
+        byte[] keyBytes = new byte[32];
+        byte[] dataBytes = new byte[64 * 1024 + 5];
+        Random random = new Random(20261017L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        byte[] encBytes = cryptor.encrypt(dataBytes, keyBytes);
+        ByteArrayOutputStream encStream = new ByteArrayOutputStream();
+        cryptor.encrypt(new ByteArrayInputStream(dataBytes), encStream, keyBytes);
+        Assertions.assertArrayEquals(encBytes, encStream.toByteArray());
+        Assertions.assertFalse(cachedCiphers().isEmpty());
+        Assertions.assertNotNull(keyMaterial(cryptor));
+
+        Cryptor.clearCache();
+        cryptor.clearKey();
+        Assertions.assertTrue(cachedCiphers().isEmpty());
+        Assertions.assertNull(keyMaterial(cryptor));
+
+        //  Cipher instance, buffers and key material were created again
+        Assertions.assertArrayEquals(dataBytes, cryptor.decrypt(encBytes, keyBytes));
+        ByteArrayOutputStream decStream = new ByteArrayOutputStream();
+        cryptor.decrypt(new ByteArrayInputStream(encBytes), decStream, keyBytes);
+        Assertions.assertArrayEquals(dataBytes, decStream.toByteArray());
+        Cryptor.clearCache();
+    }
+
+    @Test
+    public void parallelProcess() throws Exception {
+        AESCryptor cryptor = SecurityUtils.AES256(AESCryptor.AESMode.CTR_NoPadding, Cryptor.RandomAlgorithm.NONE);
+        byte[] keyBytes = new byte[32];
+        byte[] dataBytes = new byte[9 * 1024 * 1024 + 7];
+        Random random = new Random(20261018L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        Cryptor.clearCache();
+        byte[] encBytes = cryptor.parallelEncrypt(dataBytes, keyBytes);
+        Assertions.assertArrayEquals(cryptor.encrypt(dataBytes, keyBytes), encBytes);
+        Assertions.assertArrayEquals(dataBytes, cryptor.parallelDecrypt(encBytes, keyBytes));
+        Cryptor.clearCache();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> cachedCiphers() throws Exception {
+        Field field = Cryptor.class.getDeclaredField("CIPHER_CACHE");
+        field.setAccessible(true);
+        return ((ThreadLocal<Map<String, ?>>) field.get(null)).get();
+    }
+
+    private static Object keyMaterial(Cryptor cryptor) throws Exception {
+        Field field = Cryptor.class.getDeclaredField("keyMaterial");
+        field.setAccessible(true);
+        return field.get(cryptor);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.crypto;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.Security;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.crypto.Cryptor;
+import org.nervousync.crypto.core.AsymmetricCryptor;
+import org.nervousync.crypto.impl.RSACryptor;
+import org.nervousync.crypto.impl.SM2Cryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
+import org.nervousync.utils.SecurityUtils;
+
+/**
+ * Envelope encryption of asymmetric cryptors
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 6:48:20 PM $
+ */
+public final class EnvelopeTest {
+
+    private static final int HEADER_LENGTH = 8;
+    private static final int NONCE_LENGTH = 12;
+
+    @BeforeAll
+    public static void registerProvider() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void envelopeFile() throws Exception {
+        KeyPair keyPair = RSACryptor.generateKeyPair().orElseThrow();
+        AsymmetricCryptor cryptor =
+                SecurityUtils.RSA(RSACryptor.RSAMode.PKCS1Padding, keyPair.getPublic(), keyPair.getPrivate());
+        byte[] dataBytes = new byte[1024 * 1024 + 3];
+        new Random(20261019L).nextBytes(dataBytes);
+        Path dataPath = this.tempDir.resolve("data.bin");
+        Path envelopePath = this.tempDir.resolve("data.env");
+        Path targetPath = this.tempDir.resolve("target.bin");
+        Files.write(dataPath, dataBytes);
+        cryptor.envelopeEncrypt(dataPath, envelopePath);
+        cryptor.envelopeDecrypt(envelopePath, targetPath);
+        Assertions.assertArrayEquals(dataBytes, Files.readAllBytes(targetPath));
+
+        //  Unauthenticated data was not written to target file
+        byte[] tamperedBytes = Files.readAllBytes(envelopePath);
+        tamperedBytes[tamperedBytes.length - 1] ^= 0x01;
+        Files.write(envelopePath, tamperedBytes);
+        Path failedPath = this.tempDir.resolve("failed.bin");
+        Assertions.assertThrows(CryptoException.class, () -> cryptor.envelopeDecrypt(envelopePath, failedPath));
+        Assertions.assertFalse(Files.exists(failedPath));
+        Assertions.assertThrows(CryptoException.class, () -> cryptor.envelopeDecrypt(envelopePath, targetPath));
+        Assertions.assertArrayEquals(dataBytes, Files.readAllBytes(targetPath));
+        try (Stream<Path> fileList = Files.list(this.tempDir)) {
+            Assertions.assertEquals(3L, fileList.count());
+        }
+    }
+
+    @Test
+    public void rsaEnvelope() throws Exception {
+        KeyPair keyPair = RSACryptor.generateKeyPair().orElseThrow();
+        verifyEnvelope(SecurityUtils.RSA(RSACryptor.RSAMode.PKCS1Padding, keyPair.getPublic(), keyPair.getPrivate()),
+                "RSA/ECB/PKCS1Padding", "AES");
+    }
+
+    @Test
+    public void sm2Envelope() throws Exception {
+        KeyPair keyPair = SM2Cryptor.generateKeyPair().orElseThrow();
+        for (SM2Cryptor.SM2Mode sm2Mode : SM2Cryptor.SM2Mode.values()) {
+            verifyEnvelope(SecurityUtils.SM2(sm2Mode, keyPair.getPublic(), keyPair.getPrivate()), "SM2", "SM4");
+        }
+    }
+
+    private static void verifyEnvelope(AsymmetricCryptor cryptor, String wrapAlgorithm, String dataAlgorithm)
+            throws Exception {
+        byte[] dataBytes = new byte[3 * 1024 * 1024 + 17];
+        new Random(20261017L).nextBytes(dataBytes);
+        //  Cipher instances cached by other tests of current thread
+        Cryptor.clearCache();
+
+        byte[] envelopeBytes = cryptor.envelopeEncrypt(dataBytes);
+        Assertions.assertArrayEquals(dataBytes, cryptor.envelopeDecrypt(envelopeBytes));
+        Assertions.assertArrayEquals(new byte[0], cryptor.envelopeDecrypt(cryptor.envelopeEncrypt(new byte[0])));
+
+        //  One-time data key was not cached by cryptor or by thread cached Cipher instance
+        Assertions.assertFalse(String.valueOf(keyAlgorithm(cryptor)).contains("/GCM/"));
+        Assertions.assertTrue(cachedCiphers().keySet().stream().noneMatch(cacheKey -> cacheKey.contains("/GCM/")));
+
+        //  Wrapped key was kept in provider layout and data key was used as raw key bytes
+        int wrappedLength = ByteBuffer.wrap(envelopeBytes, HEADER_LENGTH - 2, 2).getShort() & 0xFFFF;
+        Cipher wrapCipher = Cipher.getInstance(wrapAlgorithm, "BC");
+        wrapCipher.init(Cipher.DECRYPT_MODE, cryptor.getPrivateKey());
+        byte[] dataKey = wrapCipher.doFinal(envelopeBytes, HEADER_LENGTH, wrappedLength);
+        int dataOffset = HEADER_LENGTH + wrappedLength;
+        Cipher dataCipher = Cipher.getInstance(dataAlgorithm + "/GCM/NoPadding", "BC");
+        dataCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(dataKey, dataAlgorithm),
+                new GCMParameterSpec(128, Arrays.copyOfRange(envelopeBytes, dataOffset, dataOffset + NONCE_LENGTH)));
+        dataCipher.updateAAD(envelopeBytes, 0, dataOffset);
+        Assertions.assertArrayEquals(dataBytes, dataCipher.doFinal(envelopeBytes, dataOffset + NONCE_LENGTH,
+                envelopeBytes.length - dataOffset - NONCE_LENGTH));
+
+        //  Tampered cipher text, tag, header or wrapped key must fail authentication
+        for (int position : new int[]{dataOffset + NONCE_LENGTH + 1024, envelopeBytes.length - 1,
+                HEADER_LENGTH - 3, HEADER_LENGTH + 5}) {
+            byte[] tamperedBytes = envelopeBytes.clone();
+            tamperedBytes[position] ^= 0x01;
+            Assertions.assertThrows(CryptoException.class, () -> cryptor.envelopeDecrypt(tamperedBytes));
+        }
+        Assertions.assertThrows(CryptoException.class,
+                () -> cryptor.envelopeDecrypt(Arrays.copyOf(envelopeBytes, envelopeBytes.length - 1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> cachedCiphers() throws Exception {
+        Field field = Cryptor.class.getDeclaredField("CIPHER_CACHE");
+        field.setAccessible(true);
+        return ((ThreadLocal<Map<String, ?>>) field.get(null)).get();
+    }
+
+    private static Object keyAlgorithm(Cryptor cryptor) throws Exception {
+        Field field = Cryptor.class.getDeclaredField("keyMaterial");
+        field.setAccessible(true);
+        Object keyMaterial = field.get(cryptor);
+        if (keyMaterial == null) {
+            return null;
+        }
+        Field algorithmField = keyMaterial.getClass().getDeclaredField("algorithm");
+        algorithmField.setAccessible(true);
+        return algorithmField.get(keyMaterial);
+    }
+}
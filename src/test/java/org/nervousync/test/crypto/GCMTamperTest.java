@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.crypto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Security;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.crypto.Cryptor;
+import org.nervousync.crypto.impl.AESCryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
+import org.nervousync.utils.SecurityUtils;
+
+/**
+ * Tampered cipher text of GCM mode and cached Cipher instance eviction
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 9:12:40 PM $
+ */
+public final class GCMTamperTest {
+
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final String JDK_CACHE_KEY = ALGORITHM + "@JDK";
+
+    @BeforeAll
+    public static void registerProvider() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @Test
+    public void tamperedBytes() throws Exception {
+        AESCryptor cryptor = SecurityUtils.AES256(AESCryptor.AESMode.GCM_NoPadding, Cryptor.RandomAlgorithm.NONE);
+        byte[] keyBytes = new byte[32];
+        byte[] dataBytes = new byte[100 * 1024 + 3];
+        Random random = new Random(20261017L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        byte[] encBytes = cryptor.encrypt(dataBytes, keyBytes);
+        Assertions.assertArrayEquals(dataBytes, cryptor.decrypt(encBytes, keyBytes));
+        Assertions.assertTrue(cachedCiphers().containsKey(JDK_CACHE_KEY));
+
+        for (int position : new int[]{0, 12, encBytes.length / 2, encBytes.length - 1}) {
+            byte[] tampered = encBytes.clone();
+            tampered[position] ^= 0x01;
+            Assertions.assertArrayEquals(new byte[0], cryptor.decrypt(tampered, keyBytes));
+            Assertions.assertFalse(cachedCiphers().containsKey(JDK_CACHE_KEY));
+            Assertions.assertArrayEquals(dataBytes, cryptor.decrypt(encBytes, keyBytes));
+        }
+
+        byte[] associatedData = "Associated data".getBytes();
+        encBytes = cryptor.encrypt(dataBytes, keyBytes, associatedData);
+        Assertions.assertArrayEquals(new byte[0], cryptor.decrypt(encBytes, keyBytes, "Other data".getBytes()));
+        Assertions.assertArrayEquals(dataBytes, cryptor.decrypt(encBytes, keyBytes, associatedData));
+    }
+
+    @Test
+    public void tamperedStream() throws Exception {
+        AESCryptor cryptor = SecurityUtils.AES256(AESCryptor.AESMode.GCM_NoPadding, Cryptor.RandomAlgorithm.NONE);
+        byte[] keyBytes = new byte[32];
+        byte[] dataBytes = new byte[100 * 1024 + 3];
+        Random random = new Random(20261018L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        ByteArrayOutputStream encStream = new ByteArrayOutputStream();
+        cryptor.encrypt(new ByteArrayInputStream(dataBytes), encStream, keyBytes);
+        byte[] encBytes = encStream.toByteArray();
+
+        //  Stream decrypt was processed by BC provider and cached by algorithm
+        byte[] tampered = encBytes.clone();
+        tampered[tampered.length / 2] ^= 0x01;
+        Assertions.assertThrows(CryptoException.class,
+                () -> cryptor.decrypt(new ByteArrayInputStream(tampered), new ByteArrayOutputStream(), keyBytes));
+        Assertions.assertFalse(cachedCiphers().containsKey(ALGORITHM));
+
+        ByteArrayOutputStream decStream = new ByteArrayOutputStream();
+        cryptor.decrypt(new ByteArrayInputStream(encBytes), decStream, keyBytes);
+        Assertions.assertArrayEquals(dataBytes, decStream.toByteArray());
+
+        //  Stream encrypt was processed by JDK provider and cached by suffixed key
+        OutputStream failedStream = new OutputStream() {
+            private int count = 0;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (++this.count > 1024) {
+                    throw new IOException("Write failed");
+                }
+            }
+        };
+        Assertions.assertTrue(cachedCiphers().containsKey(JDK_CACHE_KEY));
+        Assertions.assertThrows(CryptoException.class,
+                () -> cryptor.encrypt(new ByteArrayInputStream(dataBytes), failedStream, keyBytes));
+        Assertions.assertFalse(cachedCiphers().containsKey(JDK_CACHE_KEY));
+
+        encStream = new ByteArrayOutputStream();
+        cryptor.encrypt(new ByteArrayInputStream(dataBytes), encStream, keyBytes);
+        decStream = new ByteArrayOutputStream();
+        cryptor.decrypt(new ByteArrayInputStream(encStream.toByteArray()), decStream, keyBytes);
+        Assertions.assertArrayEquals(dataBytes, decStream.toByteArray());
+    }
+
+    @Test
+    public void tamperedFile(@TempDir Path tempDir) throws Exception {
+        AESCryptor cryptor = SecurityUtils.AES256(AESCryptor.AESMode.GCM_NoPadding, Cryptor.RandomAlgorithm.NONE);
+        byte[] keyBytes = new byte[32];
+        byte[] dataBytes = new byte[300 * 1024 + 3];
+        Random random = new Random(20261019L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        Path dataPath = tempDir.resolve("data.bin");
+        Path encPath = tempDir.resolve("data.enc");
+        Path decPath = tempDir.resolve("data.dec");
+        Files.write(dataPath, dataBytes);
+        cryptor.encrypt(dataPath, encPath, keyBytes);
+        cryptor.decrypt(encPath, decPath, keyBytes);
+        Assertions.assertArrayEquals(dataBytes, Files.readAllBytes(decPath));
+
+        //  Unauthenticated plain text was not written to target file
+        byte[] tampered = Files.readAllBytes(encPath);
+        tampered[tampered.length / 2] ^= 0x01;
+        Path tamperedPath = tempDir.resolve("tampered.enc");
+        Files.write(tamperedPath, tampered);
+        Path failedPath = tempDir.resolve("failed.dec");
+        Assertions.assertThrows(CryptoException.class, () -> cryptor.decrypt(tamperedPath, failedPath, keyBytes));
+        Assertions.assertFalse(Files.exists(failedPath));
+        Assertions.assertThrows(CryptoException.class, () -> cryptor.decrypt(tamperedPath, decPath, keyBytes));
+        Assertions.assertArrayEquals(dataBytes, Files.readAllBytes(decPath));
+        try (Stream<Path> fileList = Files.list(tempDir)) {
+            Assertions.assertEquals(4L, fileList.count());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> cachedCiphers() throws Exception {
+        Field field = Cryptor.class.getDeclaredField("CIPHER_CACHE");
+        field.setAccessible(true);
+        return ((ThreadLocal<Map<String, ?>>) field.get(null)).get();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.crypto;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Security;
+import java.util.Random;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.crypto.Cryptor;
+import org.nervousync.crypto.core.SymmetricCryptor;
+import org.nervousync.crypto.impl.AESCryptor;
+import org.nervousync.crypto.impl.SM4Cryptor;
+import org.nervousync.exceptions.crypto.CryptoException;
+import org.nervousync.utils.SecurityUtils;
+
+/**
+ * Parallel process of CTR mode, compared with sequential process
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 18, 2026 2:26:40 PM $
+ */
+public final class ParallelCTRTest {
+
+    //  Two full segments and a partial segment
+    private static final int DATA_LENGTH = 9 * 1024 * 1024 + 7;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void registerProvider() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @Test
+    public void sm4Counter() throws Exception {
+        //  SM4 counter block was initialized by 8 bytes IV
+        verifyBytes(SecurityUtils.SM4(SM4Cryptor.SM4Mode.CTR_NoPadding, Cryptor.RandomAlgorithm.NONE), 16);
+        verifyBytes(SecurityUtils.SM4(SM4Cryptor.SM4Mode.CTR_PKCS5Padding, Cryptor.RandomAlgorithm.NONE), 16);
+    }
+
+    @Test
+    public void paddedCounter() throws Exception {
+        verifyBytes(SecurityUtils.AES256(AESCryptor.AESMode.CTR_PKCS5Padding, Cryptor.RandomAlgorithm.NONE), 32);
+    }
+
+    @Test
+    public void parallelFile() throws Exception {
+        SymmetricCryptor cryptor =
+                SecurityUtils.AES256(AESCryptor.AESMode.CTR_PKCS5Padding, Cryptor.RandomAlgorithm.NONE);
+        byte[] keyBytes = new byte[32];
+        byte[] dataBytes = new byte[DATA_LENGTH];
+        Random random = new Random(20261020L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        Path dataPath = this.tempDir.resolve("data.bin");
+        Path encPath = this.tempDir.resolve("data.enc");
+        Path parallelPath = this.tempDir.resolve("parallel.enc");
+        Path decPath = this.tempDir.resolve("data.dec");
+        Files.write(dataPath, dataBytes);
+        cryptor.encrypt(dataPath, encPath, keyBytes);
+        cryptor.parallelEncrypt(dataPath, parallelPath, keyBytes);
+        Assertions.assertArrayEquals(Files.readAllBytes(encPath), Files.readAllBytes(parallelPath));
+        //  Existing target file was truncated
+        Files.write(decPath, new byte[DATA_LENGTH + 1024]);
+        cryptor.parallelDecrypt(parallelPath, decPath, keyBytes);
+        Assertions.assertArrayEquals(dataBytes, Files.readAllBytes(decPath));
+
+        //  Source file was not destroyed when target is the same file
+        Assertions.assertThrows(CryptoException.class, () -> cryptor.parallelEncrypt(dataPath, dataPath, keyBytes));
+        Assertions.assertThrows(CryptoException.class,
+                () -> cryptor.parallelEncrypt(dataPath, this.tempDir.resolve(".").resolve("data.bin"), keyBytes));
+        Assertions.assertArrayEquals(dataBytes, Files.readAllBytes(dataPath));
+    }
+
+    private static void verifyBytes(SymmetricCryptor cryptor, int keyLength) throws Exception {
+        byte[] keyBytes = new byte[keyLength];
+        byte[] dataBytes = new byte[DATA_LENGTH];
+        Random random = new Random(20261020L);
+        random.nextBytes(keyBytes);
+        random.nextBytes(dataBytes);
+
+        byte[] encBytes = cryptor.encrypt(dataBytes, keyBytes);
+        Assertions.assertArrayEquals(encBytes, cryptor.parallelEncrypt(dataBytes, keyBytes));
+        Assertions.assertArrayEquals(dataBytes, cryptor.parallelDecrypt(encBytes, keyBytes));
+        Assertions.assertArrayEquals(dataBytes, cryptor.decrypt(encBytes, keyBytes));
+    }
+}
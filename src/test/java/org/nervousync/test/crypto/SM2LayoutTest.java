@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.Security;
+
+import org.bouncycastle.crypto.engines.SM2Engine;
+import org.bouncycastle.jcajce.provider.asymmetric.util.ECUtil;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.nervousync.crypto.impl.SM2Cryptor;
+import org.nervousync.utils.SecurityUtils;
+
+/**
+ * Cipher text layout of SM2 cryptor
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 7:10:42 PM $
+ */
+public final class SM2LayoutTest {
+
+    private static final byte[] DATA_BYTES = "SM2 cipher text layout".getBytes(StandardCharsets.UTF_8);
+
+    @BeforeAll
+    public static void registerProvider() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @Test
+    public void cipherTextLayout() throws Exception {
+        KeyPair keyPair = SM2Cryptor.generateKeyPair().orElseThrow();
+        for (SM2Cryptor.SM2Mode sm2Mode : SM2Cryptor.SM2Mode.values()) {
+            SM2Cryptor sm2Cryptor = SecurityUtils.SM2(sm2Mode, keyPair.getPublic(), keyPair.getPrivate());
+            byte[] encrypted = sm2Cryptor.encrypt(DATA_BYTES);
+            Assertions.assertArrayEquals(DATA_BYTES, sm2Cryptor.decrypt(encrypted));
+
+            //  Cipher text can be decrypted by other implementation of the same mode
+            SM2Engine sm2Engine = new SM2Engine(SM2Cryptor.SM2Mode.C1C3C2.equals(sm2Mode)
+                    ? SM2Engine.Mode.C1C3C2 : SM2Engine.Mode.C1C2C3);
+            sm2Engine.init(Boolean.FALSE, ECUtil.generatePrivateKeyParameter(keyPair.getPrivate()));
+            Assertions.assertArrayEquals(DATA_BYTES, sm2Engine.processBlock(encrypted, 0, encrypted.length));
+        }
+    }
+
+    @Test
+    public void legacyLayout() {
+        KeyPair keyPair = SM2Cryptor.generateKeyPair().orElseThrow();
+        //  Earlier version wrote C1C2C3 layout in C1C3C2 mode
+        byte[] legacyBytes = SecurityUtils.SM2(SM2Cryptor.SM2Mode.C1C2C3, keyPair.getPublic(), keyPair.getPrivate())
+                .encrypt(DATA_BYTES);
+        Assertions.assertArrayEquals(DATA_BYTES,
+                SecurityUtils.SM2(SM2Cryptor.SM2Mode.C1C3C2, keyPair.getPublic(), keyPair.getPrivate())
+                        .decrypt(legacyBytes));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.exceptions.crc.CRCException;
+import org.nervousync.utils.CRCUtils;
+
+/**
+ * Check values of registered CRC algorithms
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 18, 2026 3:42:08 PM $
+ */
+public final class CRCUtilsTest {
+
+	private static final byte[] CHECK_BYTES = "123456789".getBytes(StandardCharsets.US_ASCII);
+	//	Check value of "123456789" in catalog of parametrised CRC algorithms
+	private static final Map<String, Long> CHECK_VALUES = new HashMap<>();
+
+	static {
+		CHECK_VALUES.put("CRC-3/GSM", 0x4L);
+		CHECK_VALUES.put("CRC-3/ROHC", 0x6L);
+		CHECK_VALUES.put("CRC-4/G-704", 0x7L);
+		CHECK_VALUES.put("CRC-4/INTERLAKEN", 0xBL);
+		CHECK_VALUES.put("CRC-5/EPC-C1G2", 0x0L);
+		CHECK_VALUES.put("CRC-5/G-704", 0x7L);
+		CHECK_VALUES.put("CRC-5/USB", 0x19L);
+		CHECK_VALUES.put("CRC-6/CDMA2000-A", 0xDL);
+		CHECK_VALUES.put("CRC-6/CDMA2000-B", 0x3BL);
+		CHECK_VALUES.put("CRC-6/DARC", 0x26L);
+		CHECK_VALUES.put("CRC-6/G-704", 0x6L);
+		CHECK_VALUES.put("CRC-6/GSM", 0x13L);
+		CHECK_VALUES.put("CRC-7/MMC", 0x75L);
+		CHECK_VALUES.put("CRC-7/ROHC", 0x53L);
+		CHECK_VALUES.put("CRC-7/UMTS", 0x61L);
+		CHECK_VALUES.put("CRC-8/AUTOSAR", 0xDFL);
+		CHECK_VALUES.put("CRC-8/BLUETOOTH", 0x26L);
+		CHECK_VALUES.put("CRC-8/CDMA2000", 0xDAL);
+		CHECK_VALUES.put("CRC-8/DARC", 0x15L);
+		CHECK_VALUES.put("CRC-8/DVB-S2", 0xBCL);
+		CHECK_VALUES.put("CRC-8/GSM-A", 0x37L);
+		CHECK_VALUES.put("CRC-8/GSM-B", 0x94L);
+		CHECK_VALUES.put("CRC-8/I-432-1", 0xA1L);
+		CHECK_VALUES.put("CRC-8/I-CODE", 0x7EL);
+		CHECK_VALUES.put("CRC-8/LTE", 0xEAL);
+		CHECK_VALUES.put("CRC-8/MAXIM-DOW", 0xA1L);
+		CHECK_VALUES.put("CRC-8/MIFARE-MAD", 0x99L);
+		CHECK_VALUES.put("CRC-8/NRSC-5", 0xF7L);
+		CHECK_VALUES.put("CRC-8/OPENSAFETY", 0x3EL);
+		CHECK_VALUES.put("CRC-8/ROHC", 0xD0L);
+		CHECK_VALUES.put("CRC-8/SAE-J1850", 0x4BL);
+		CHECK_VALUES.put("CRC-8/SMBUS", 0xF4L);
+		CHECK_VALUES.put("CRC-8/TECH-3250", 0x97L);
+		CHECK_VALUES.put("CRC-8/WCDMA", 0x25L);
+		CHECK_VALUES.put("CRC-10/ATM", 0x199L);
+		CHECK_VALUES.put("CRC-10/CDMA2000", 0x233L);
+		CHECK_VALUES.put("CRC-10/GSM", 0x12AL);
+		CHECK_VALUES.put("CRC-11/FLEXRAY", 0x5A3L);
+		CHECK_VALUES.put("CRC-11/UMTS", 0x61L);
+		CHECK_VALUES.put("CRC-12/CDMA2000", 0xD4DL);
+		CHECK_VALUES.put("CRC-12/DECT", 0xF5BL);
+		CHECK_VALUES.put("CRC-12/GSM", 0xB34L);
+		CHECK_VALUES.put("CRC-12/UMTS", 0xDAFL);
+		CHECK_VALUES.put("CRC-13/BBC", 0x4FAL);
+		CHECK_VALUES.put("CRC-14/DARC", 0x82DL);
+		CHECK_VALUES.put("CRC-14/GSM", 0x30AEL);
+		CHECK_VALUES.put("CRC-15/CAN", 0x59EL);
+		CHECK_VALUES.put("CRC-15/MPT1327", 0x2566L);
+		CHECK_VALUES.put("CRC-16/ARC", 0xBB3DL);
+		CHECK_VALUES.put("CRC-16/CDMA2000", 0x4C06L);
+		CHECK_VALUES.put("CRC-16/CMS", 0xAEE7L);
+		CHECK_VALUES.put("CRC-16/DDS-110", 0x9ECFL);
+		CHECK_VALUES.put("CRC-16/DECT-R", 0x7EL);
+		CHECK_VALUES.put("CRC-16/DECT-X", 0x7FL);
+		CHECK_VALUES.put("CRC-16/DNP", 0xEA82L);
+		CHECK_VALUES.put("CRC-16/EN-13757", 0xC2B7L);
+		CHECK_VALUES.put("CRC-16/GENIBUS", 0xD64EL);
+		CHECK_VALUES.put("CRC-16/GSM", 0xCE3CL);
+		CHECK_VALUES.put("CRC-16/IBM-3740", 0x29B1L);
+		CHECK_VALUES.put("CRC-16/IBM-SDLC", 0x906EL);
+		CHECK_VALUES.put("CRC-16/ISO-IEC-14443-3-A", 0xBF05L);
+		CHECK_VALUES.put("CRC-16/KERMIT", 0x2189L);
+		CHECK_VALUES.put("CRC-16/LJ1200", 0xBDF4L);
+		CHECK_VALUES.put("CRC-16/MAXIM-DOW", 0x44C2L);
+		CHECK_VALUES.put("CRC-16/MCRF4XX", 0x6F91L);
+		CHECK_VALUES.put("CRC-16/MODBUS", 0x4B37L);
+		CHECK_VALUES.put("CRC-16/NRSC-5", 0xA066L);
+		CHECK_VALUES.put("CRC-16/OPENSAFETY-A", 0x5D38L);
+		CHECK_VALUES.put("CRC-16/OPENSAFETY-B", 0x20FEL);
+		CHECK_VALUES.put("CRC-16/PROFIBUS", 0xA819L);
+		CHECK_VALUES.put("CRC-16/RIELLO", 0x63D0L);
+		CHECK_VALUES.put("CRC-16/SPI-FUJITSU", 0xE5CCL);
+		CHECK_VALUES.put("CRC-16/T10-DIF", 0xD0DBL);
+		CHECK_VALUES.put("CRC-16/TELEDISK", 0xFB3L);
+		CHECK_VALUES.put("CRC-16/TMS37157", 0x26B1L);
+		CHECK_VALUES.put("CRC-16/UMTS", 0xFEE8L);
+		CHECK_VALUES.put("CRC-16/USB", 0xB4C8L);
+		CHECK_VALUES.put("CRC-16/XMODEM", 0x31C3L);
+		CHECK_VALUES.put("CRC-17/CAN-FD", 0x4F03L);
+		CHECK_VALUES.put("CRC-21/CAN-FD", 0xED841L);
+		CHECK_VALUES.put("CRC-24/BLE", 0xC25A56L);
+		CHECK_VALUES.put("CRC-24/FLEXRAY-A", 0x7979BDL);
+		CHECK_VALUES.put("CRC-24/FLEXRAY-B", 0x1F23B8L);
+		CHECK_VALUES.put("CRC-24/INTERLAKEN", 0xB4F3E6L);
+		CHECK_VALUES.put("CRC-24/LTE-A", 0xCDE703L);
+		CHECK_VALUES.put("CRC-24/LTE-B", 0x23EF52L);
+		CHECK_VALUES.put("CRC-24/OPENPGP", 0x21CF02L);
+		CHECK_VALUES.put("CRC-24/OS-9", 0x200FA5L);
+		CHECK_VALUES.put("CRC-30/CDMA", 0x4C34ABFL);
+		CHECK_VALUES.put("CRC-31/PHILIPS", 0xCE9E46CL);
+		CHECK_VALUES.put("CRC-32/AIXM", 0x3010BF7FL);
+		CHECK_VALUES.put("CRC-32/AUTOSAR", 0x1697D06AL);
+		CHECK_VALUES.put("CRC-32/BASE91-D", 0x87315576L);
+		CHECK_VALUES.put("CRC-32/BZIP2", 0xFC891918L);
+		CHECK_VALUES.put("CRC-32/CD-ROM-EDC", 0x6EC2EDC4L);
+		CHECK_VALUES.put("CRC-32/CKSUM", 0x765E7680L);
+		CHECK_VALUES.put("CRC-32/ISCSI", 0xE3069283L);
+		CHECK_VALUES.put("CRC-32/ISO-HDLC", 0xCBF43926L);
+		CHECK_VALUES.put("CRC-32/JAMCRC", 0x340BC6D9L);
+		CHECK_VALUES.put("CRC-32/MPEG-2", 0x376E6E7L);
+		CHECK_VALUES.put("CRC-32/XFER", 0xBD0BE338L);
+		CHECK_VALUES.put("CRC-40/GSM", 0xD4164FC646L);
+		CHECK_VALUES.put("CRC-64/ECMA-182", 0x6C40DF5F0B497347L);
+		CHECK_VALUES.put("CRC-64/GO-ISO", 0xB90956C775A41001L);
+		CHECK_VALUES.put("CRC-64/MS", 0x75D4B74F024ECEEAL);
+		CHECK_VALUES.put("CRC-64/REDIS", 0xE9C6D914C4B8D9CAL);
+		CHECK_VALUES.put("CRC-64/WE", 0x62EC59E3F1A4F00AL);
+		CHECK_VALUES.put("CRC-64/XZ", 0x995DC9BBDF1939FAL);
+	}
+
+	@Test
+	public void checkValues() throws Exception {
+		Assertions.assertEquals(new TreeSet<>(CHECK_VALUES.keySet()), new TreeSet<>(CRCUtils.registeredAlgorithms()));
+		for (String algorithm : CRCUtils.registeredAlgorithms()) {
+			long checkValue = CHECK_VALUES.get(algorithm);
+			Assertions.assertEquals(checkValue, CRCUtils.calculateValue(algorithm, CHECK_BYTES), algorithm);
+			Assertions.assertEquals(checkValue, Long.parseUnsignedLong(
+					CRCUtils.calculate(algorithm, CHECK_BYTES).substring(2), 16), algorithm);
+		}
+	}
+
+	@Test
+	public void umtsLeadingZero() throws Exception {
+		//	Result of CRC-12/UMTS was reflected over the CRC width, leading zero bits were kept
+		Assertions.assertEquals(0x9EC, CRCUtils.calculateValue("CRC-12/UMTS",
+				"Nervousync".getBytes(StandardCharsets.US_ASCII)));
+		Assertions.assertEquals("0x078", CRCUtils.calculate("CRC-12/UMTS", "0".getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	@Test
+	public void wideAlgorithms() throws Exception {
+		//	64 bit results were unsigned, hex result was padded to full width
+		Assertions.assertEquals(0x995DC9BBDF1939FAL, CRCUtils.calculateValue("CRC-64/XZ", CHECK_BYTES));
+		Assertions.assertEquals("0x007e9222f93af960", CRCUtils.calculate("CRC-64/XZ",
+				"Nervousync-183".getBytes(StandardCharsets.US_ASCII)));
+		Assertions.assertEquals("0x034d239c37", CRCUtils.calculate("CRC-40/GSM",
+				"Nervousync-1880".getBytes(StandardCharsets.US_ASCII)));
+		Assertions.assertThrows(CRCException.class,
+				() -> CRCUtils.registerAlgorithm("CRC-65/INVALID", 65, 0x1L, 0x0L, 0x0L, false, false));
+		Assertions.assertThrows(CRCException.class,
+				() -> CRCUtils.registerAlgorithm("CRC-0/INVALID", 0, 0x1L, 0x0L, 0x0L, false, false));
+		Assertions.assertFalse(CRCUtils.existsAlgorithm("CRC-65/INVALID"));
+	}
+
+	@Test
+	public void updateBuffer() throws Exception {
+		byte[] dataBytes = new byte[1037];
+		new Random(20261018L).nextBytes(dataBytes);
+		int offset = 3;
+		int length = dataBytes.length - 8;
+		for (String algorithm : CRCUtils.registeredAlgorithms()) {
+			CRCUtils.CRCAdapter crcAdapter = CRCUtils.initialize(algorithm);
+			crcAdapter.update(dataBytes, offset, length);
+			long crcValue = crcAdapter.getValue();
+
+			//	Direct buffer in big endian and little endian order, heap buffer with array offset
+			for (ByteBuffer byteBuffer : new ByteBuffer[]{
+					ByteBuffer.allocateDirect(dataBytes.length).order(ByteOrder.BIG_ENDIAN),
+					ByteBuffer.allocateDirect(dataBytes.length).order(ByteOrder.LITTLE_ENDIAN),
+					ByteBuffer.allocate(dataBytes.length + 16).position(16).slice()}) {
+				byteBuffer.put(dataBytes).position(offset).limit(offset + length);
+				crcAdapter.reset();
+				crcAdapter.update(byteBuffer);
+				Assertions.assertEquals(crcValue, crcAdapter.getValue(), algorithm);
+				Assertions.assertEquals(offset + length, byteBuffer.position());
+			}
+
+			//	Data shorter than one slice of direct buffer
+			ByteBuffer checkBuffer = ByteBuffer.allocateDirect(CHECK_BYTES.length).order(ByteOrder.BIG_ENDIAN);
+			checkBuffer.put(CHECK_BYTES).flip();
+			crcAdapter.reset();
+			crcAdapter.update(checkBuffer);
+			Assertions.assertEquals(CHECK_VALUES.get(algorithm), crcAdapter.getValue(), algorithm);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.utils;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.utils.ConvertUtils;
+import org.nervousync.utils.SecurityUtils;
+
+/**
+ * Digest calculate and cached MessageDigest instances
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 10:15:26 PM $
+ */
+public final class SecurityUtilsDigestTest {
+
+	@Test
+	public void digestAliases() throws Exception {
+		byte[] dataBytes = "Nervousync digest test".getBytes(StandardCharsets.UTF_8);
+		String sha1 = ConvertUtils.byteToHex(MessageDigest.getInstance("SHA-1").digest(dataBytes));
+		String sha256 = ConvertUtils.byteToHex(MessageDigest.getInstance("SHA-256").digest(dataBytes));
+
+		Assertions.assertEquals(sha1, SecurityUtils.SHA1("Nervousync digest test"));
+		Assertions.assertEquals(sha256, SecurityUtils.SHA256("Nervousync digest test"));
+		for (int i = 0; i < 3; i++) {
+			for (String algorithm : new String[]{"SHA1", "SHA-1", "sha1", "sha-1"}) {
+				Assertions.assertEquals(sha1, ConvertUtils.byteToHex(SecurityUtils.digest(dataBytes, algorithm)));
+			}
+			for (String algorithm : new String[]{"SHA-256", "SHA256", "sha-256", "2.16.840.1.101.3.4.2.1"}) {
+				Assertions.assertEquals(sha256, ConvertUtils.byteToHex(SecurityUtils.digest(dataBytes, algorithm)));
+			}
+		}
+		Assertions.assertEquals(0, SecurityUtils.digest(dataBytes, "Unknown-Digest").length);
+
+		//	Aliases share one cached instance of standard algorithm name
+		Map<String, ?> digestMap = cachedDigests();
+		Assertions.assertTrue(digestMap.keySet().containsAll(Set.of("SHA-1", "SHA-256")));
+		Assertions.assertFalse(digestMap.containsKey("SHA1"));
+		Assertions.assertFalse(digestMap.containsKey("sha-256"));
+		Assertions.assertFalse(digestMap.containsKey("2.16.840.1.101.3.4.2.1"));
+		Assertions.assertFalse(digestMap.containsKey("Unknown-Digest"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, ?> cachedDigests() throws Exception {
+		Field field = SecurityUtils.class.getDeclaredField("DIGEST_CACHE");
+		field.setAccessible(true);
+		return ((ThreadLocal<Map<String, ?>>) field.get(null)).get();
+	}
+}
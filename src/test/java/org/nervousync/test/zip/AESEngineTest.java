@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.zip.engine.AESEngine;
+
+/**
+ * AES engine used when JCE cipher not available must generate the same key stream as JCE cipher
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 7:52:09 PM $
+ */
+public final class AESEngineTest {
+
+	@Test
+	public void engineParity() throws Exception {
+		Random random = new Random(20261017L);
+		for (int keyLength : new int[]{16, 24, 32}) {
+			byte[] keyBytes = new byte[keyLength];
+			random.nextBytes(keyBytes);
+			AESEngine aesEngine = new AESEngine(keyBytes);
+			Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(keyBytes, "AES"));
+
+			byte[] blockBytes = new byte[16];
+			byte[] engineBytes = new byte[16];
+			for (int i = 0; i < 256; i++) {
+				random.nextBytes(blockBytes);
+				aesEngine.processBlock(blockBytes, engineBytes);
+				Assertions.assertArrayEquals(cipher.doFinal(blockBytes), engineBytes);
+			}
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.zip.ZipOptions;
+import org.nervousync.zip.ZipFile;
+import org.nervousync.zip.io.ZipOutputStream;
+import org.nervousync.zip.models.central.CentralDirectory;
+import org.nervousync.zip.models.header.GeneralFileHeader;
+
+/**
+ * Entry path index of central directory
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 2:48:12 PM $
+ */
+public final class CentralDirectoryTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void caseCollidingEntries() {
+		CentralDirectory centralDirectory = new CentralDirectory();
+		GeneralFileHeader upperHeader = fileHeader("A.txt", Boolean.FALSE);
+		GeneralFileHeader lowerHeader = fileHeader("a.txt", Boolean.FALSE);
+		centralDirectory.addFileHeader(upperHeader);
+		centralDirectory.addFileHeader(lowerHeader);
+
+		Assertions.assertSame(upperHeader, centralDirectory.retrieveGeneralFileHeader("A.txt"));
+		Assertions.assertSame(lowerHeader, centralDirectory.retrieveGeneralFileHeader("a.txt"));
+		Assertions.assertSame(upperHeader, centralDirectory.retrieveGeneralFileHeader("A.TXT"));
+		Assertions.assertEquals(1, centralDirectory.retrieveIndexOfGeneralFileHeader(lowerHeader));
+
+		centralDirectory.removeFileHeader(0);
+		Assertions.assertSame(lowerHeader, centralDirectory.retrieveGeneralFileHeader("A.txt"));
+		Assertions.assertEquals(0, centralDirectory.retrieveIndexOfGeneralFileHeader(lowerHeader));
+	}
+
+	@Test
+	public void ignoreCaseWithTurkishLocale() {
+		Locale defaultLocale = Locale.getDefault();
+		Locale.setDefault(new Locale("tr", "TR"));
+		try {
+			CentralDirectory centralDirectory = new CentralDirectory();
+			GeneralFileHeader fileHeader = fileHeader("FILE.TXT", Boolean.FALSE);
+			centralDirectory.addFileHeader(fileHeader);
+			Assertions.assertSame(fileHeader, centralDirectory.retrieveGeneralFileHeader("file.txt"));
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
+	@Test
+	public void removeShiftIndex() {
+		CentralDirectory centralDirectory = new CentralDirectory();
+		centralDirectory.addFileHeader(fileHeader("folder/", Boolean.TRUE));
+		centralDirectory.addFileHeader(fileHeader("folder/first.txt", Boolean.FALSE));
+		centralDirectory.addFileHeader(fileHeader("folder/second.txt", Boolean.FALSE));
+		GeneralFileHeader duplicateHeader = fileHeader("folder/second.txt", Boolean.FALSE);
+		centralDirectory.addFileHeader(duplicateHeader);
+		GeneralFileHeader lastHeader = fileHeader("last.txt", Boolean.FALSE);
+		centralDirectory.addFileHeader(lastHeader);
+
+		centralDirectory.removeFileHeader(1);
+		Assertions.assertNull(centralDirectory.retrieveGeneralFileHeader("folder/first.txt"));
+		Assertions.assertEquals(3, centralDirectory.retrieveIndexOfGeneralFileHeader(lastHeader));
+		Assertions.assertEquals(List.of("folder/second.txt", "folder/"),
+				centralDirectory.listFolderGeneralFileHeaders("folder"));
+
+		//	Duplicated entry path was indexed by the remaining header
+		centralDirectory.removeFileHeader(1);
+		Assertions.assertSame(duplicateHeader, centralDirectory.retrieveGeneralFileHeader("folder/second.txt"));
+		Assertions.assertEquals(2, centralDirectory.retrieveIndexOfGeneralFileHeader(lastHeader));
+		Assertions.assertThrows(UnsupportedOperationException.class,
+				() -> centralDirectory.getFileHeaders().add(fileHeader("other.txt", Boolean.FALSE)));
+	}
+
+	@Test
+	public void caseCollidingArchive() throws Exception {
+		Path zipPath = this.tempDir.resolve("case.zip");
+		try (OutputStream outputStream = Files.newOutputStream(zipPath)) {
+			ZipOutputStream zipOutputStream = ZipFile.openStreamWriter(outputStream);
+			for (String entryPath : new String[]{"A.txt", "a.txt"}) {
+				ZipOptions zipOptions = ZipOptions.newOptions();
+				zipOptions.setSourceExternalStream(Boolean.TRUE);
+				zipOptions.setFileNameInZip(entryPath);
+				zipOutputStream.putNextEntry(null, zipOptions);
+				zipOutputStream.write(entryPath.getBytes(StandardCharsets.UTF_8));
+				zipOutputStream.closeEntry();
+			}
+			zipOutputStream.finish();
+		}
+
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		Assertions.assertTrue(zipFile.isEntryExists("A.txt"));
+		Assertions.assertTrue(zipFile.isEntryExists("a.txt"));
+		Assertions.assertFalse(zipFile.isEntryExists("A.TXT"));
+		Assertions.assertEquals("A.txt", new String(zipFile.readEntry("A.txt"), StandardCharsets.UTF_8));
+		Assertions.assertEquals("a.txt", new String(zipFile.readEntry("a.txt"), StandardCharsets.UTF_8));
+		zipFile.close();
+	}
+
+	@Test
+	public void ignoreCaseCollisions() {
+		CentralDirectory centralDirectory = new CentralDirectory();
+		GeneralFileHeader firstHeader = fileHeader("Folder/File.txt", Boolean.FALSE);
+		GeneralFileHeader secondHeader = fileHeader("folder/file.txt", Boolean.FALSE);
+		GeneralFileHeader thirdHeader = fileHeader("FOLDER/FILE.TXT", Boolean.FALSE);
+		centralDirectory.addFileHeader(firstHeader);
+		centralDirectory.addFileHeader(secondHeader);
+		centralDirectory.addFileHeader(thirdHeader);
+		Assertions.assertSame(firstHeader, centralDirectory.retrieveGeneralFileHeader("folder/FILE.txt"));
+
+		centralDirectory.removeFileHeader(0);
+		Assertions.assertSame(secondHeader, centralDirectory.retrieveGeneralFileHeader("folder/FILE.txt"));
+		centralDirectory.removeFileHeader(0);
+		Assertions.assertSame(thirdHeader, centralDirectory.retrieveGeneralFileHeader("folder/FILE.txt"));
+		centralDirectory.removeFileHeader(0);
+		Assertions.assertNull(centralDirectory.retrieveGeneralFileHeader("folder/FILE.txt"));
+	}
+
+	@Test
+	public void concurrentLookup() throws Exception {
+		Path zipPath = this.tempDir.resolve("concurrent.zip");
+		int entryCount = 5000;
+		try (OutputStream outputStream = Files.newOutputStream(zipPath);
+		     java.util.zip.ZipOutputStream zipOutputStream = new java.util.zip.ZipOutputStream(outputStream)) {
+			for (int i = 0 ; i < entryCount ; i++) {
+				zipOutputStream.putNextEntry(new java.util.zip.ZipEntry("folder-" + (i % 10) + "/Entry-" + i + ".txt"));
+				zipOutputStream.closeEntry();
+			}
+		}
+
+		for (int round = 0 ; round < 5 ; round++) {
+			ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+			ExecutorService executorService = Executors.newFixedThreadPool(16);
+			CountDownLatch countDownLatch = new CountDownLatch(1);
+			List<Future<Integer>> futureList = new ArrayList<>();
+			for (int thread = 0 ; thread < 16 ; thread++) {
+				futureList.add(executorService.submit(() -> {
+					countDownLatch.await();
+					int found = 0;
+					for (int i = 0 ; i < entryCount ; i++) {
+						if (zipFile.isEntryExists("folder-" + (i % 10) + "/Entry-" + i + ".txt")) {
+							found++;
+						}
+					}
+					return found;
+				}));
+			}
+			countDownLatch.countDown();
+			try {
+				for (Future<Integer> future : futureList) {
+					Assertions.assertEquals(entryCount, future.get());
+				}
+			} finally {
+				executorService.shutdownNow();
+				zipFile.close();
+			}
+		}
+	}
+
+	private static GeneralFileHeader fileHeader(String entryPath, boolean directory) {
+		GeneralFileHeader generalFileHeader = new GeneralFileHeader();
+		generalFileHeader.setEntryPath(entryPath);
+		generalFileHeader.setDirectory(directory);
+		return generalFileHeader;
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.zip.ZipFile;
+import org.nervousync.zip.models.central.CentralDirectory;
+import org.nervousync.zip.models.central.CompactFileHeaders;
+import org.nervousync.zip.models.header.GeneralFileHeader;
+
+/**
+ * Entry path index of compact central directory, compared with the index of file header list
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 18, 2026 11:02:15 AM $
+ */
+public final class CompactHeaderIndexTest {
+
+	private static final int ENTRY_COUNT = ZipConstants.COMPACT_CENTRAL_DIRECTORY_LIMIT + 4000;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void compactIndex() throws Exception {
+		List<String> entryList = new ArrayList<>();
+		entryList.add("folder-3/");
+		entryList.add("folder-3/sub-1/");
+		entryList.add("Case/A.txt");
+		entryList.add("case/a.txt");
+		entryList.add("中文目录/文件.txt");
+		entryList.add("empty/");
+		for (int i = 0 ; i < ENTRY_COUNT ; i++) {
+			entryList.add(entryPath(i));
+		}
+		Path zipPath = this.tempDir.resolve("compact-index.zip");
+		String comment = "c".repeat(200);
+		try (OutputStream outputStream = Files.newOutputStream(zipPath);
+		     ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			for (String entryPath : entryList) {
+				ZipEntry zipEntry = new ZipEntry(entryPath);
+				zipEntry.setComment(comment);
+				zipOutputStream.putNextEntry(zipEntry);
+				zipOutputStream.closeEntry();
+			}
+		}
+		Assertions.assertTrue(Files.size(zipPath) > ZipConstants.CENTRAL_DIRECTORY_SEGMENT_SIZE);
+
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		CentralDirectory compactDirectory = zipFile.getCentralDirectory();
+		Assertions.assertTrue(compactDirectory.getFileHeaders() instanceof CompactFileHeaders);
+		CentralDirectory listDirectory = new CentralDirectory();
+		listDirectory.setFileHeaders(new ArrayList<>(compactDirectory.getFileHeaders()));
+
+		List<String> checkList = new ArrayList<>();
+		for (int i = 0 ; i < entryList.size() ; i += 37) {
+			checkList.add(entryList.get(i));
+		}
+		checkList.addAll(List.of("Case/A.txt", "case/a.txt", "CASE/A.TXT", "case\\A.txt", "中文目录/文件.txt",
+				"folder-3", "folder-3/sub-1/", "folder-3/sub-2", "empty", "not-exists.txt", "folder-3/sub-9"));
+		for (String entryPath : checkList) {
+			for (String checkPath : List.of(entryPath, entryPath.toUpperCase(Locale.ROOT))) {
+				GeneralFileHeader compactHeader = compactDirectory.retrieveGeneralFileHeader(checkPath);
+				GeneralFileHeader listHeader = listDirectory.retrieveGeneralFileHeader(checkPath);
+				if (listHeader == null) {
+					Assertions.assertNull(compactHeader, checkPath);
+				} else {
+					Assertions.assertNotNull(compactHeader, checkPath);
+					Assertions.assertEquals(listHeader.getEntryPath(), compactHeader.getEntryPath());
+					Assertions.assertEquals(listDirectory.retrieveIndexOfGeneralFileHeader(listHeader),
+							compactDirectory.retrieveIndexOfGeneralFileHeader(compactHeader));
+				}
+			}
+		}
+		Assertions.assertEquals("case/a.txt", compactDirectory.retrieveGeneralFileHeader("case/a.txt").getEntryPath());
+		Assertions.assertEquals("Case/A.txt", compactDirectory.retrieveGeneralFileHeader("CASE/a.TXT").getEntryPath());
+
+		for (String folderPath : List.of("folder-3", "folder-3/sub-1", "empty", "folder-4", "Case")) {
+			List<String> compactList = compactDirectory.listFolderGeneralFileHeaders(folderPath);
+			List<String> folderList = listDirectory.listFolderGeneralFileHeaders(folderPath);
+			Assertions.assertEquals(folderList.size(), compactList.size(), folderPath);
+			Assertions.assertEquals(new HashSet<>(folderList), new HashSet<>(compactList), folderPath);
+			//	Folder was listed after its children
+			for (int i = 0 ; i < compactList.size() ; i++) {
+				String entryPath = compactList.get(i);
+				if (entryPath.endsWith("/")) {
+					for (int j = i + 1 ; j < compactList.size() ; j++) {
+						Assertions.assertFalse(compactList.get(j).startsWith(entryPath), compactList.get(j));
+					}
+				}
+			}
+		}
+		//	Entries in folder, explicit sub folder and the folder itself
+		Assertions.assertEquals((ENTRY_COUNT + 6) / 10 + 2,
+				compactDirectory.listFolderGeneralFileHeaders("folder-3").size());
+		Assertions.assertEquals(List.of("empty/"), compactDirectory.listFolderGeneralFileHeaders("empty"));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+		List<Future<Integer>> futureList = new ArrayList<>();
+		for (int thread = 0 ; thread < 8 ; thread++) {
+			futureList.add(executorService.submit(() -> {
+				countDownLatch.await();
+				int found = 0;
+				for (int i = 0 ; i < ENTRY_COUNT ; i += 7) {
+					if (zipFile.isEntryExists(entryPath(i))) {
+						found++;
+					}
+				}
+				return found;
+			}));
+		}
+		countDownLatch.countDown();
+		try {
+			for (Future<Integer> future : futureList) {
+				Assertions.assertEquals((ENTRY_COUNT + 6) / 7, future.get());
+			}
+		} finally {
+			executorService.shutdownNow();
+			zipFile.close();
+		}
+	}
+
+	private static String entryPath(int index) {
+		return "folder-" + (index % 10) + "/sub-" + (index % 3) + "/Entry-" + index + ".txt";
+	}
+}
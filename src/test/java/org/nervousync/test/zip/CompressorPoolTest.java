@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.Globals;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.commons.core.zip.ZipOptions;
+import org.nervousync.zip.ZipFile;
+import org.nervousync.zip.io.CompressorPool;
+
+/**
+ * Buffers released to compressor pool
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 9:58:32 PM $
+ */
+public final class CompressorPoolTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void wipeReleasedBuffers() throws Exception {
+		byte[] buffer = CompressorPool.borrowBuffer();
+		Arrays.fill(buffer, (byte)0x5A);
+		CompressorPool.releaseBuffer(buffer);
+		Assertions.assertTrue(isWiped(buffer));
+
+		byte[] otherBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE + 1];
+		Arrays.fill(otherBuffer, (byte)0x5A);
+		CompressorPool.releaseBuffer(otherBuffer);
+		Assertions.assertTrue(isWiped(otherBuffer));
+
+		byte[] dataBytes = new byte[256 * 1024];
+		for (int i = 0; i < dataBytes.length; i++) {
+			dataBytes[i] = (byte)('A' + (i % 23));
+		}
+		Path dataPath = this.tempDir.resolve("plain.txt");
+		Files.write(dataPath, dataBytes);
+		Path zipPath = this.tempDir.resolve("plain.zip");
+		ZipFile.createZipFile(zipPath.toString(), ZipOptions.newOptions(), dataPath.toString()).close();
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		Assertions.assertArrayEquals(dataBytes, zipFile.readEntry("plain.txt"));
+		zipFile.close();
+
+		//	Every pooled buffer was wiped after compress and decompress
+		List<byte[]> bufferList = new ArrayList<>();
+		for (int i = 0; i < ZipConstants.COMPRESSOR_POOL_SIZE * 2; i++) {
+			byte[] borrowBuffer = CompressorPool.borrowBuffer();
+			Assertions.assertTrue(isWiped(borrowBuffer));
+			bufferList.add(borrowBuffer);
+		}
+		bufferList.forEach(CompressorPool::releaseBuffer);
+	}
+
+	private static boolean isWiped(byte[] buffer) {
+		for (byte b : buffer) {
+			if (b != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
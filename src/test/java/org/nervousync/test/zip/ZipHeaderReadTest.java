@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.exceptions.zip.ZipException;
+import org.nervousync.zip.ZipFile;
+
+/**
+ * Read headers of archive which central directory spans several read segments
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 5:12:36 PM $
+ */
+public final class ZipHeaderReadTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void segmentedCentralDirectory() throws Exception {
+		//	Each header carries a long comment, central directory is larger than one read segment
+		int entryCount = 300;
+		Path zipPath = this.writeArchive("segmented.zip", entryCount, 60000);
+		Assertions.assertTrue(Files.size(zipPath) > ZipConstants.CENTRAL_DIRECTORY_SEGMENT_SIZE);
+
+		this.verifyArchive(zipPath, entryCount);
+	}
+
+	@Test
+	public void segmentedCompactCentralDirectory() throws Exception {
+		int entryCount = ZipConstants.COMPACT_CENTRAL_DIRECTORY_LIMIT + 4464;
+		Path zipPath = this.writeArchive("compact.zip", entryCount, 300);
+		Assertions.assertTrue(Files.size(zipPath) > ZipConstants.CENTRAL_DIRECTORY_SEGMENT_SIZE);
+
+		this.verifyArchive(zipPath, entryCount);
+	}
+
+	@Test
+	public void truncatedLocalHeader() throws Exception {
+		Path zipPath = this.writeArchive("truncated.zip", 1, 0);
+		//	Extra field length of local header exceeds the end of file
+		byte[] zipBytes = Files.readAllBytes(zipPath);
+		zipBytes[28] = (byte)0xFF;
+		zipBytes[29] = (byte)0xFF;
+		Files.write(zipPath, zipBytes);
+
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		try {
+			ZipException zipException =
+					Assertions.assertThrows(ZipException.class, () -> zipFile.readEntry(entryPath(0)));
+			Assertions.assertEquals("Invalid local header offset", zipException.getMessage());
+		} finally {
+			zipFile.close();
+		}
+	}
+
+	private void verifyArchive(Path zipPath, int entryCount) throws Exception {
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		List<String> entryList = zipFile.entryList();
+		Assertions.assertEquals(entryCount, entryList.size());
+		for (int i = 0; i < entryCount; i++) {
+			Assertions.assertEquals(entryPath(i), entryList.get(i));
+		}
+		for (int i = 0; i < entryCount; i += 97) {
+			Assertions.assertEquals(entryPath(i), new String(zipFile.readEntry(entryPath(i)), StandardCharsets.UTF_8));
+		}
+		Assertions.assertEquals(entryPath(entryCount - 1),
+				new String(zipFile.readEntry(entryPath(entryCount - 1)), StandardCharsets.UTF_8));
+		zipFile.close();
+
+		//	No region of archive was mapped, the file can be removed once closed
+		Files.delete(zipPath);
+		Assertions.assertFalse(Files.exists(zipPath));
+	}
+
+	private Path writeArchive(String fileName, int entryCount, int commentLength) throws Exception {
+		Path zipPath = this.tempDir.resolve(fileName);
+		String comment = "c".repeat(commentLength);
+		try (OutputStream outputStream = Files.newOutputStream(zipPath);
+		     ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			for (int i = 0; i < entryCount; i++) {
+				ZipEntry zipEntry = new ZipEntry(entryPath(i));
+				zipEntry.setComment(comment);
+				zipOutputStream.putNextEntry(zipEntry);
+				zipOutputStream.write(entryPath(i).getBytes(StandardCharsets.UTF_8));
+				zipOutputStream.closeEntry();
+			}
+		}
+		return zipPath;
+	}
+
+	private static String entryPath(int index) {
+		return "entries/entry-" + index + ".txt";
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.commons.core.zip.ZipOptions;
+import org.nervousync.exceptions.zip.ZipException;
+import org.nervousync.zip.ZipFile;
+
+/**
+ * Parallel compress and extract must produce the same result as the sequential path
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 6:02:54 PM $
+ */
+public final class ZipParallelTest {
+
+	@TempDir
+	static Path tempDir;
+
+	private static Path sourceFolder;
+	private static List<String> sourceFiles;
+	private static ExecutorService executorService;
+
+	@BeforeAll
+	public static void prepare() throws Exception {
+		sourceFolder = tempDir.resolve("source");
+		Files.createDirectories(sourceFolder.resolve("folder"));
+		sourceFiles = new ArrayList<>();
+		Random random = new Random(20261017L);
+		//	Small entries of random size, one empty entry
+		for (int i = 0; i < 32; i++) {
+			sourceFiles.add(writeFile(random, "folder/small-" + i + ".dat", i == 0 ? 0 : random.nextInt(256 * 1024)));
+		}
+		//	Buffered size of these entries is greater than ZipConstants.PARALLEL_BUFFER_LIMIT
+		for (int i = 0; i < 5; i++) {
+			sourceFiles.add(writeFile(random, "medium-" + i + ".dat", 30 * 1024 * 1024));
+		}
+		//	Entry greater than ZipConstants.PARALLEL_ENTRY_SIZE_LIMIT was written in stream mode
+		sourceFiles.add(writeFile(random, "large.dat", (int)ZipConstants.PARALLEL_ENTRY_SIZE_LIMIT + 1024));
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterAll
+	public static void release() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void compressParity() throws Exception {
+		Path sequentialPath = tempDir.resolve("sequential.zip");
+		ZipFile.createZipFile(sequentialPath.toString(), options(), sourceFiles.toArray(new String[0])).close();
+
+		ZipOptions threadOptions = options();
+		threadOptions.setThreadCount(4);
+		Path threadPath = tempDir.resolve("thread.zip");
+		ZipFile.createZipFile(threadPath.toString(), threadOptions, sourceFiles.toArray(new String[0])).close();
+
+		//	Shared executor was used by several archives and not shut down
+		ZipOptions executorOptions = options();
+		executorOptions.setExecutor(executorService);
+		Path executorPath = tempDir.resolve("executor.zip");
+		ZipFile.createZipFile(executorPath.toString(), executorOptions, sourceFiles.toArray(new String[0])).close();
+		Path folderPath = tempDir.resolve("folder.zip");
+		ZipFile.createZipFileFromFolder(folderPath.toString(), executorOptions, sourceFolder.toString()).close();
+		Assertions.assertFalse(executorService.isShutdown());
+
+		byte[] sequentialBytes = Files.readAllBytes(sequentialPath);
+		Assertions.assertArrayEquals(sequentialBytes, Files.readAllBytes(threadPath));
+		Assertions.assertArrayEquals(sequentialBytes, Files.readAllBytes(executorPath));
+
+		ZipFile zipFile = ZipFile.openReadOnly(folderPath.toString());
+		Assertions.assertEquals(sourceFiles.size(),
+				zipFile.entryList().stream().filter(entryPath -> !entryPath.endsWith("/")).count());
+		zipFile.close();
+	}
+
+	@Test
+	public void encryptedParity() throws Exception {
+		ZipOptions zipOptions = ZipOptions.aesEncryptOptions("password", ZipConstants.AES_STRENGTH_256);
+		zipOptions.setCompressionLevel(ZipConstants.DEFLATE_LEVEL_FASTEST);
+		zipOptions.setExecutor(executorService);
+		Path zipPath = tempDir.resolve("encrypted.zip");
+		ZipFile.createZipFile(zipPath.toString(), zipOptions, sourceFiles.toArray(new String[0])).close();
+
+		Path sequentialFolder = tempDir.resolve("extract-sequential");
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		zipFile.setPassword("password");
+		zipFile.extractAll(sequentialFolder.toString());
+		zipFile.close();
+
+		Path parallelFolder = tempDir.resolve("extract-parallel");
+		zipFile = ZipFile.openReadOnly(zipPath.toString());
+		zipFile.setPassword("password");
+		zipFile.extractAll(parallelFolder.toString(), Boolean.FALSE, executorService);
+		zipFile.close();
+
+		for (String sourceFile : sourceFiles) {
+			Path filePath = Path.of(sourceFile);
+			byte[] sourceBytes = Files.readAllBytes(filePath);
+			Assertions.assertArrayEquals(sourceBytes,
+					Files.readAllBytes(sequentialFolder.resolve(filePath.getFileName().toString())));
+			Assertions.assertArrayEquals(sourceBytes,
+					Files.readAllBytes(parallelFolder.resolve(filePath.getFileName().toString())));
+		}
+	}
+
+	@Test
+	public void extractFailFast() throws Exception {
+		Path zipPath = tempDir.resolve("corrupt.zip");
+		int entryCount = 64;
+		try (OutputStream outputStream = Files.newOutputStream(zipPath);
+		     ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			for (int i = 0; i < entryCount; i++) {
+				byte[] dataBytes = ("Content of entry " + i + " ").repeat(64).getBytes(StandardCharsets.UTF_8);
+				CRC32 crc32 = new CRC32();
+				crc32.update(dataBytes);
+				ZipEntry zipEntry = new ZipEntry("entry-" + i + ".txt");
+				zipEntry.setMethod(ZipEntry.STORED);
+				zipEntry.setSize(dataBytes.length);
+				zipEntry.setCrc(crc32.getValue());
+				zipOutputStream.putNextEntry(zipEntry);
+				zipOutputStream.write(dataBytes);
+				zipOutputStream.closeEntry();
+			}
+		}
+		//	Corrupt data of the first entry, CRC check of the entry will fail
+		byte[] zipBytes = Files.readAllBytes(zipPath);
+		byte[] firstBytes = "Content of entry 0 ".getBytes(StandardCharsets.UTF_8);
+		for (int i = 0; i < zipBytes.length - firstBytes.length; i++) {
+			if (Arrays.equals(zipBytes, i, i + firstBytes.length, firstBytes, 0, firstBytes.length)) {
+				zipBytes[i] ^= 0x01;
+				break;
+			}
+		}
+		Files.write(zipPath, zipBytes);
+
+		Path extractFolder = tempDir.resolve("extract-corrupt");
+		ExecutorService singleExecutor = Executors.newSingleThreadExecutor();
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		try {
+			Assertions.assertThrows(ZipException.class,
+					() -> zipFile.extractAll(extractFolder.toString(), Boolean.FALSE, singleExecutor));
+		} finally {
+			zipFile.close();
+			singleExecutor.shutdownNow();
+		}
+		//	Entries after the failed entry were not extracted
+		for (int i = 1; i < entryCount; i++) {
+			Assertions.assertFalse(Files.exists(extractFolder.resolve("entry-" + i + ".txt")));
+		}
+	}
+
+	private static ZipOptions options() {
+		ZipOptions zipOptions = ZipOptions.newOptions();
+		zipOptions.setCompressionLevel(ZipConstants.DEFLATE_LEVEL_FASTEST);
+		return zipOptions;
+	}
+
+	private static String writeFile(Random random, String fileName, int length) throws Exception {
+		//	Partly repeated content, so the data can be compressed
+		byte[] dataBytes = new byte[length];
+		byte[] blockBytes = new byte[4096];
+		for (int i = 0; i < length; i += blockBytes.length) {
+			if (i % (blockBytes.length * 4) == 0) {
+				random.nextBytes(blockBytes);
+			}
+			System.arraycopy(blockBytes, 0, dataBytes, i, Math.min(blockBytes.length, length - i));
+		}
+		Path filePath = sourceFolder.resolve(fileName);
+		Files.write(filePath, dataBytes);
+		return filePath.toString();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.zip.ZipFile;
+
+/**
+ * Remove entries from exists archive
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 5:41:08 PM $
+ */
+public final class ZipRemoveTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void removeEntries() throws Exception {
+		List<String> entryList = new ArrayList<>();
+		entryList.add("A.txt");
+		entryList.add("a.txt");
+		for (int i = 0; i < 200; i++) {
+			entryList.add("entries/entry-" + i + ".txt");
+		}
+		Path zipPath = this.tempDir.resolve("remove.zip");
+		try (OutputStream outputStream = Files.newOutputStream(zipPath);
+		     ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			for (String entryPath : entryList) {
+				zipOutputStream.putNextEntry(new ZipEntry(entryPath));
+				zipOutputStream.write(entryPath.getBytes(StandardCharsets.UTF_8));
+				zipOutputStream.closeEntry();
+			}
+		}
+
+		List<String> removeEntries = new ArrayList<>();
+		removeEntries.add("a.txt");
+		for (int i = 0; i < 200; i += 3) {
+			removeEntries.add("entries/entry-" + i + ".txt");
+		}
+		//	Repeated entry path is removed once
+		removeEntries.add("entries/entry-0.txt");
+
+		ZipFile zipFile = new ZipFile(zipPath.toString());
+		zipFile.removeExistsEntries(removeEntries.toArray(new String[0]));
+		zipFile.close();
+
+		entryList.removeAll(removeEntries);
+		ZipFile readFile = ZipFile.openReadOnly(zipPath.toString());
+		Assertions.assertEquals(entryList, readFile.entryList());
+		for (String entryPath : entryList) {
+			Assertions.assertEquals(entryPath, new String(readFile.readEntry(entryPath), StandardCharsets.UTF_8));
+		}
+		readFile.close();
+
+		try (java.util.zip.ZipFile jdkZipFile = new java.util.zip.ZipFile(zipPath.toFile())) {
+			Assertions.assertEquals(entryList.size(), jdkZipFile.size());
+			Assertions.assertNull(jdkZipFile.getEntry("a.txt"));
+			Assertions.assertNotNull(jdkZipFile.getEntry("A.txt"));
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.commons.core.zip.ZipOptions;
+import org.nervousync.exceptions.zip.ZipException;
+import org.nervousync.zip.ZipFile;
+import org.nervousync.zip.io.input.ZipInputStream;
+
+/**
+ * Seek inside entry input stream
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 8:16:27 PM $
+ */
+public final class ZipSeekTest {
+
+	private static final String PASSWORD = "password";
+	private static final long[] POSITIONS = new long[]{0L, 1L, 15L, 16L, 65537L, 150001L};
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void seekEntries() throws Exception {
+		byte[] dataBytes = new byte[200 * 1024 + 7];
+		new Random(20261017L).nextBytes(dataBytes);
+		//	Compressible part, so deflated entry is not stored
+		Arrays.fill(dataBytes, 100000, 180000, (byte)0x5A);
+		Path filePath = this.tempDir.resolve("data.bin");
+		Files.write(filePath, dataBytes);
+
+		for (int compressionMethod : new int[]{ZipConstants.COMP_STORE, ZipConstants.COMP_DEFLATE}) {
+			for (int encryptionMethod : new int[]{Integer.MIN_VALUE,
+					ZipConstants.ENC_METHOD_AES, ZipConstants.ENC_METHOD_STANDARD}) {
+				ZipOptions zipOptions;
+				if (encryptionMethod == ZipConstants.ENC_METHOD_AES) {
+					zipOptions = ZipOptions.aesEncryptOptions(PASSWORD, ZipConstants.AES_STRENGTH_256);
+				} else if (encryptionMethod == ZipConstants.ENC_METHOD_STANDARD) {
+					zipOptions = ZipOptions.standardEncryptOptions(PASSWORD);
+				} else {
+					zipOptions = ZipOptions.newOptions();
+				}
+				zipOptions.setCompressionMethod(compressionMethod);
+				Path zipPath = this.tempDir.resolve("seek-" + compressionMethod + "-" + encryptionMethod + ".zip");
+				ZipFile.createZipFile(zipPath.toString(), zipOptions, filePath.toString()).close();
+
+				ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+				if (zipOptions.isEncryptFiles()) {
+					zipFile.setPassword(PASSWORD);
+				}
+				for (long position : POSITIONS) {
+					try (ZipInputStream inputStream = zipFile.entryInputStream("data.bin", position)) {
+						Assertions.assertEquals(position, inputStream.position());
+						Assertions.assertArrayEquals(Arrays.copyOfRange(dataBytes, (int)position, dataBytes.length),
+								inputStream.readAllBytes(), zipPath.getFileName().toString());
+					}
+				}
+
+				try (ZipInputStream inputStream = zipFile.entryInputStream("data.bin", 150001L)) {
+					if (encryptionMethod == ZipConstants.ENC_METHOD_STANDARD) {
+						Assertions.assertThrows(IOException.class, () -> inputStream.seek(16L));
+					} else {
+						inputStream.seek(16L);
+						Assertions.assertArrayEquals(Arrays.copyOfRange(dataBytes, 16, 4096),
+								inputStream.readNBytes(4096 - 16), zipPath.getFileName().toString());
+					}
+				}
+				zipFile.close();
+			}
+		}
+	}
+
+	@Test
+	public void splitArchive() throws Exception {
+		byte[] dataBytes = new byte[256 * 1024];
+		new Random(20261017L).nextBytes(dataBytes);
+		Path filePath = this.tempDir.resolve("split.bin");
+		Files.write(filePath, dataBytes);
+
+		Path zipPath = this.tempDir.resolve("split.zip");
+		ZipFile.createZipFile(zipPath.toString(), ZipOptions.newOptions(), Boolean.TRUE, 65536L,
+				filePath.toString()).close();
+
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		Assertions.assertTrue(zipFile.isSplitArchive());
+		ZipException zipException =
+				Assertions.assertThrows(ZipException.class, () -> zipFile.entryInputStream("split.bin", 1024L));
+		Assertions.assertTrue(zipException.getMessage().contains("Reading entry data of split/spanned files"));
+		zipFile.close();
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.test.zip;
+
+import java.io.EOFException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.commons.core.Globals;
+import org.nervousync.commons.core.zip.ZipConstants;
+import org.nervousync.commons.core.zip.ZipOptions;
+import org.nervousync.zip.ZipFile;
+import org.nervousync.zip.io.ZipOutputStream;
+
+/**
+ * Round trip test of streaming zip writer, archives were verified by this library and java.util.zip.ZipFile
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0 $ $Date: Oct 17, 2026 2:10:26 PM $
+ */
+public final class ZipStreamWriterTest {
+
+	/**
+	 * Size of sparse entry, larger than 4 GiB
+	 */
+	private static final long SPARSE_ENTRY_SIZE = 4L * 1024 * 1024 * 1024 + 16L * 1024 * 1024;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void streamEntries() throws Exception {
+		Path zipPath = this.tempDir.resolve("stream.zip");
+		byte[] dataBytes = "Streaming zip writer test data. ".repeat(4096).getBytes(StandardCharsets.UTF_8);
+		try (OutputStream outputStream = Files.newOutputStream(zipPath)) {
+			ZipOutputStream zipOutputStream = ZipFile.openStreamWriter(outputStream);
+			for (int i = 0 ; i < 3 ; i++) {
+				zipOutputStream.putNextEntry(null, streamOptions("entry" + i + ".txt"));
+				zipOutputStream.write(dataBytes);
+				zipOutputStream.closeEntry();
+			}
+			zipOutputStream.finish();
+		}
+
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		for (int i = 0 ; i < 3 ; i++) {
+			Assertions.assertArrayEquals(dataBytes, zipFile.readEntry("entry" + i + ".txt"));
+		}
+		zipFile.close();
+
+		try (java.util.zip.ZipFile jdkZipFile = new java.util.zip.ZipFile(zipPath.toFile())) {
+			for (int i = 0 ; i < 3 ; i++) {
+				try (InputStream inputStream = jdkZipFile.getInputStream(jdkZipFile.getEntry("entry" + i + ".txt"))) {
+					Assertions.assertArrayEquals(dataBytes, inputStream.readAllBytes());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void streamSparseEntryOver4GiB() throws Exception {
+		Path zipPath = this.tempDir.resolve("sparse.zip");
+		byte[] zeroBytes = new byte[1024 * 1024];
+		CRC32 crc32 = new CRC32();
+		try (OutputStream outputStream = Files.newOutputStream(zipPath)) {
+			ZipOutputStream zipOutputStream = ZipFile.openStreamWriter(outputStream);
+			ZipOptions zipOptions = streamOptions("sparse.bin");
+			zipOptions.setCompressionLevel(ZipConstants.DEFLATE_LEVEL_FASTEST);
+			zipOutputStream.putNextEntry(null, zipOptions);
+			for (long written = 0L ; written < SPARSE_ENTRY_SIZE ; written += zeroBytes.length) {
+				zipOutputStream.write(zeroBytes);
+				crc32.update(zeroBytes);
+			}
+			zipOutputStream.closeEntry();
+			zipOutputStream.putNextEntry(null, streamOptions("tail.txt"));
+			zipOutputStream.write("tail".getBytes(StandardCharsets.UTF_8));
+			zipOutputStream.closeEntry();
+			zipOutputStream.finish();
+		}
+
+		long compressedSize;
+		try (java.util.zip.ZipFile jdkZipFile = new java.util.zip.ZipFile(zipPath.toFile())) {
+			ZipEntry zipEntry = jdkZipFile.getEntry("sparse.bin");
+			Assertions.assertEquals(SPARSE_ENTRY_SIZE, zipEntry.getSize());
+			Assertions.assertEquals(crc32.getValue(), zipEntry.getCrc());
+			compressedSize = zipEntry.getCompressedSize();
+			try (InputStream inputStream = jdkZipFile.getInputStream(jdkZipFile.getEntry("tail.txt"))) {
+				Assertions.assertEquals("tail", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+			}
+		}
+
+		try (FileChannel fileChannel = FileChannel.open(zipPath, StandardOpenOption.READ)) {
+			//	Local file header must declare zip64 extra field with unknown sizes
+			ByteBuffer headerBuffer = readBuffer(fileChannel, 0L, ZipConstants.LOCHDR);
+			Assertions.assertEquals(ZipConstants.LOCSIG, Integer.toUnsignedLong(headerBuffer.getInt(0)));
+			Assertions.assertEquals(8, headerBuffer.getShort(6) & 8);
+			Assertions.assertEquals(ZipConstants.ZIP_64_LIMIT, Integer.toUnsignedLong(headerBuffer.getInt(18)));
+			Assertions.assertEquals(ZipConstants.ZIP_64_LIMIT, Integer.toUnsignedLong(headerBuffer.getInt(22)));
+			int fileNameLength = headerBuffer.getShort(26) & 0xFFFF;
+			int extraFieldLength = headerBuffer.getShort(28) & 0xFFFF;
+			ByteBuffer extraBuffer =
+					readBuffer(fileChannel, ZipConstants.LOCHDR + fileNameLength, extraFieldLength);
+			Assertions.assertEquals(ZipConstants.EXTRAFIELDZIP64LENGTH, extraBuffer.getShort(0) & 0xFFFF);
+
+			//	Data descriptor must be zip64 format, sizes were written as 8 bytes
+			long descriptorOffset = ZipConstants.LOCHDR + fileNameLength + extraFieldLength + compressedSize;
+			ByteBuffer descriptorBuffer = readBuffer(fileChannel, descriptorOffset, 24);
+			Assertions.assertEquals(ZipConstants.EXTSIG, Integer.toUnsignedLong(descriptorBuffer.getInt(0)));
+			Assertions.assertEquals(crc32.getValue(), Integer.toUnsignedLong(descriptorBuffer.getInt(4)));
+			Assertions.assertEquals(compressedSize, descriptorBuffer.getLong(8));
+			Assertions.assertEquals(SPARSE_ENTRY_SIZE, descriptorBuffer.getLong(16));
+			Assertions.assertEquals(ZipConstants.LOCSIG,
+					Integer.toUnsignedLong(readBuffer(fileChannel, descriptorOffset + 24, 4).getInt(0)));
+		}
+
+		ZipFile zipFile = ZipFile.openReadOnly(zipPath.toString());
+		Assertions.assertEquals("tail", new String(zipFile.readEntry("tail.txt"), StandardCharsets.UTF_8));
+		try (InputStream inputStream = zipFile.entryInputStream("sparse.bin")) {
+			Assertions.assertEquals(SPARSE_ENTRY_SIZE, skipAll(inputStream));
+		}
+		zipFile.close();
+	}
+
+	private static ZipOptions streamOptions(String entryPath) {
+		ZipOptions zipOptions = ZipOptions.newOptions();
+		zipOptions.setSourceExternalStream(Boolean.TRUE);
+		zipOptions.setFileNameInZip(entryPath);
+		return zipOptions;
+	}
+
+	private static ByteBuffer readBuffer(FileChannel fileChannel, long position, int length) throws Exception {
+		ByteBuffer byteBuffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (byteBuffer.hasRemaining()) {
+			if (fileChannel.read(byteBuffer, position + byteBuffer.position()) == Globals.DEFAULT_VALUE_INT) {
+				throw new EOFException();
+			}
+		}
+		return byteBuffer.flip();
+	}
+
+	private static long skipAll(InputStream inputStream) throws Exception {
+		byte[] readBuffer = new byte[1024 * 1024];
+		long totalLength = 0L;
+		int readLength;
+		while ((readLength = inputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
+			totalLength += readLength;
+		}
+		return totalLength;
+	}
+}